@@ -0,0 +1,126 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.configuration.ForgeProperties;
+import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+
+final class BenchmarkSecurityContext {
+    static final String ACCOUNT_ID = "5b10a2844c20165700ede21g";
+    static final String JIRA_APP_ID = "ari:cloud:ecosystem::app/d818e8a8-a333-4782-9f97-fa753b4a6a37";
+
+    private static final Duration REFRESH_THRESHOLD = Duration.ofSeconds(30);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private BenchmarkSecurityContext() {
+    }
+
+    static JiraContext jiraContext() {
+        return JiraContext.builder()
+                .product(Product.JIRA)
+                .cloudId(UUID.randomUUID())
+                .issueId("10001")
+                .attachmentId("10002")
+                .build();
+    }
+
+    static Jwt remoteAppJwt(final Context context) {
+        return jwt("/api/v1/download/jira",
+                OBJECT_MAPPER.convertValue(context, new TypeReference<Map<String, Object>>() { }));
+    }
+
+    static Jwt forgeInvocationJwt(final UUID cloudId) {
+        return jwt(JIRA_APP_ID, Map.of("cloudId", cloudId.toString()));
+    }
+
+    static void authenticate(final Jwt jwt) {
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt, List.of(), ACCOUNT_ID));
+    }
+
+    static ForgeProperties forgeProperties() {
+        ForgeProperties.ProductConfig productConfig = new ForgeProperties.ProductConfig();
+        productConfig.setAppId(JIRA_APP_ID);
+
+        Map<Product, ForgeProperties.ProductConfig> products = new EnumMap<>(Product.class);
+        products.put(Product.JIRA, productConfig);
+
+        ForgeProperties.TokenConfig tokenConfig = new ForgeProperties.TokenConfig();
+        tokenConfig.setSystem(tokenTypeConfig("x-forge-oauth-system"));
+        tokenConfig.setUser(tokenTypeConfig("x-forge-oauth-user"));
+
+        ForgeProperties forgeProperties = new ForgeProperties();
+        forgeProperties.setProducts(products);
+        forgeProperties.setToken(tokenConfig);
+
+        return forgeProperties;
+    }
+
+    static XForgeTokenRepository xForgeTokenRepository() {
+        return new XForgeTokenRepository(null, null) {
+            @Override
+            public String getXForgeToken(final String key, final XForgeTokenType xForgeTokenType) {
+                return "token";
+            }
+
+            @Override
+            public void saveXForgeToken(final String key, final String token,
+                                        final XForgeTokenType xForgeTokenType) {
+            }
+        };
+    }
+
+    private static Jwt jwt(final String audience, final Map<String, Object> context) {
+        Instant now = Instant.now();
+
+        return Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject(ACCOUNT_ID)
+                .audience(List.of(audience))
+                .issuedAt(now)
+                .expiresAt(now.plus(Duration.ofHours(1)))
+                .claim("context", context)
+                .build();
+    }
+
+    private static ForgeProperties.TokenTypeConfig tokenTypeConfig(final String header) {
+        ForgeProperties.TokenTypeConfig tokenTypeConfig = new ForgeProperties.TokenTypeConfig();
+        tokenTypeConfig.setHeader(header);
+        tokenTypeConfig.setRefreshThreshold(REFRESH_THRESHOLD);
+
+        return tokenTypeConfig;
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.benchmark;
+
+import com.onlyoffice.docs.atlassian.remote.service.BlankTemplatesService;
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.http.codec.multipart.MultipartHttpMessageWriter;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class BlankTemplateUploadBenchmark {
+    private static final ResolvableType MULTIPART_TYPE = ResolvableType.forClass(MultiValueMap.class);
+
+    @Param({"7168", "32768"})
+    public int templateSize;
+
+    private final MultipartHttpMessageWriter multipartWriter = new MultipartHttpMessageWriter();
+
+    private byte[] templateBytes;
+    private BlankTemplatesService.BlankTemplate blankTemplate;
+
+    @Setup
+    public void setUp() {
+        templateBytes = new byte[templateSize];
+        new Random(templateSize).nextBytes(templateBytes);
+        blankTemplate = BlankTemplatesService.BlankTemplate.of(templateBytes);
+    }
+
+    @Benchmark
+    public long readTemplatePerCreate() {
+        return upload(DataBufferUtils.readInputStream(
+                () -> new ByteArrayInputStream(templateBytes),
+                new DefaultDataBufferFactory(),
+                IOUtils.DEFAULT_BUFFER_SIZE
+        ));
+    }
+
+    @Benchmark
+    public long preloadedTemplate() {
+        return upload(blankTemplate.asDataBuffers());
+    }
+
+    private long upload(final Flux<DataBuffer> file) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.asyncPart("file", file, DataBuffer.class)
+                .filename("title.docx")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM);
+
+        AtomicLong written = new AtomicLong();
+        MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST, "/attachments");
+        request.setWriteHandler(body -> body
+                .doOnNext(dataBuffer -> {
+                    written.addAndGet(dataBuffer.readableByteCount());
+                    DataBufferUtils.release(dataBuffer);
+                })
+                .then());
+
+        multipartWriter.write(
+                Mono.just(builder.build()),
+                MULTIPART_TYPE,
+                MediaType.MULTIPART_FORM_DATA,
+                request,
+                Map.of()
+        ).block();
+
+        return written.get();
+    }
+}
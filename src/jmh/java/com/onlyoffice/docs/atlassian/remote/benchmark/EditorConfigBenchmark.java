@@ -0,0 +1,183 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.benchmark;
+
+import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraAttachment;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermission;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermissions;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermissionsKey;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraUser;
+import com.onlyoffice.docs.atlassian.remote.configuration.CacheProperties;
+import com.onlyoffice.docs.atlassian.remote.sdk.manager.DocumentManagerImpl;
+import com.onlyoffice.docs.atlassian.remote.sdk.manager.SettingsManagerImpl;
+import com.onlyoffice.docs.atlassian.remote.sdk.manager.UrlManagerImpl;
+import com.onlyoffice.docs.atlassian.remote.sdk.service.ConfigServiceImpl;
+import com.onlyoffice.docs.atlassian.remote.security.RemoteAppJwtService;
+import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import com.onlyoffice.docs.atlassian.remote.service.JiraEditorResourcesService;
+import com.onlyoffice.docs.atlassian.remote.service.TenantSettingsService;
+import com.onlyoffice.manager.security.DefaultJwtManager;
+import com.onlyoffice.model.documenteditor.Config;
+import com.onlyoffice.model.documenteditor.config.document.Type;
+import com.onlyoffice.model.documenteditor.config.editorconfig.Mode;
+import com.onlyoffice.model.settings.SettingsConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EditorConfigBenchmark {
+    private static final String SECRET = "f66eb0b035fddd3752220e4affc7d01f";
+
+    private DocumentManagerImpl documentManager;
+    private ConfigServiceImpl configService;
+    private String attachmentId;
+
+    @Setup
+    public void setUp() {
+        JiraContext context = BenchmarkSecurityContext.jiraContext();
+        attachmentId = context.getAttachmentId();
+
+        XForgeTokenRepository xForgeTokenRepository = BenchmarkSecurityContext.xForgeTokenRepository();
+        SecurityUtils securityUtils = new SecurityUtils(
+                BenchmarkSecurityContext.forgeProperties(),
+                xForgeTokenRepository
+        );
+
+        CacheProperties.CacheConfig cacheConfig = new CacheProperties.CacheConfig();
+        cacheConfig.setTtl(Duration.ofSeconds(30));
+        cacheConfig.setNegativeTtl(Duration.ofSeconds(30));
+        cacheConfig.setMaximumSize(10_000);
+
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.setSettings(cacheConfig);
+        cacheProperties.setPrefetch(cacheConfig);
+
+        TenantSettingsService.TenantSettings tenantSettings = new TenantSettingsService.TenantSettings(
+                Map.of(
+                        SettingsConstants.URL, "https://docs.example.com/",
+                        SettingsConstants.SECURITY_KEY, SECRET
+                ),
+                null,
+                true
+        );
+        TenantSettingsService tenantSettingsService = new TenantSettingsService(null, null, null, null, null, null,
+                cacheProperties) {
+            @Override
+            public TenantSettings getTenantSettings(final Product product, final UUID cloudId) {
+                return tenantSettings;
+            }
+        };
+
+        JiraEditorResourcesService.JiraEditorResources resources = editorResources(attachmentId);
+        JiraEditorResourcesService jiraEditorResourcesService = new JiraEditorResourcesService(null,
+                xForgeTokenRepository, securityUtils, tenantSettingsService, Schedulers.boundedElastic(),
+                cacheProperties) {
+            @Override
+            public Mono<JiraEditorResources> getEditorResources(final JiraContext jiraContext,
+                                                                final String accountId) {
+                return Mono.just(resources);
+            }
+
+            @Override
+            public Mono<JiraAttachment> getAttachment(final JiraContext jiraContext, final String accountId,
+                                                      final String id) {
+                return Mono.just(resources.attachment());
+            }
+        };
+
+        SettingsManagerImpl settingsManager = new SettingsManagerImpl(tenantSettingsService, securityUtils);
+        RemoteAppJwtService remoteAppJwtService = new RemoteAppJwtService(SECRET, new SimpleMeterRegistry());
+
+        UrlManagerImpl urlManager = new UrlManagerImpl(settingsManager, remoteAppJwtService, securityUtils);
+        ReflectionTestUtils.setField(urlManager, "baseUrl", "https://atlassian-remote.example.com");
+        ReflectionTestUtils.setField(urlManager, "ttlDefault", 5L);
+        ReflectionTestUtils.setField(urlManager, "ttlCallback", 10080L);
+
+        documentManager = new DocumentManagerImpl(settingsManager, securityUtils, jiraEditorResourcesService);
+        configService = new ConfigServiceImpl(
+                documentManager,
+                urlManager,
+                new DefaultJwtManager(settingsManager),
+                settingsManager,
+                securityUtils,
+                jiraEditorResourcesService
+        );
+
+        BenchmarkSecurityContext.authenticate(BenchmarkSecurityContext.remoteAppJwt(context));
+    }
+
+    @Benchmark
+    public String getDocumentKey() {
+        return documentManager.getDocumentKey(attachmentId, false);
+    }
+
+    @Benchmark
+    public Config createConfig() {
+        return configService.createConfig(attachmentId, Mode.EDIT, Type.DESKTOP);
+    }
+
+    private static JiraEditorResourcesService.JiraEditorResources editorResources(final String attachmentId) {
+        JiraUser user = JiraUser.builder()
+                .accountId(BenchmarkSecurityContext.ACCOUNT_ID)
+                .displayName("admin")
+                .locale("en-US")
+                .avatarUrls(Map.of("24x24", "https://avatar.example.com/24x24.png"))
+                .build();
+        JiraAttachment attachment = JiraAttachment.builder()
+                .id(Long.parseLong(attachmentId))
+                .filename("filename.docx")
+                .author(user)
+                .build();
+        JiraPermissions permissions = JiraPermissions.builder()
+                .permissions(Map.of(
+                        JiraPermissionsKey.CREATE_ATTACHMENTS,
+                        new JiraPermission(JiraPermissionsKey.CREATE_ATTACHMENTS.name(), true),
+                        JiraPermissionsKey.DELETE_OWN_ATTACHMENTS,
+                        new JiraPermission(JiraPermissionsKey.DELETE_OWN_ATTACHMENTS.name(), true)
+                ))
+                .build();
+
+        return new JiraEditorResourcesService.JiraEditorResources(user, attachment, permissions);
+    }
+}
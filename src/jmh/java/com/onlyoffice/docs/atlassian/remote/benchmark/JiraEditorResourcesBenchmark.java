@@ -0,0 +1,187 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.benchmark;
+
+import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.client.jira.JiraClient;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraAttachment;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermission;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermissions;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermissionsKey;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraUser;
+import com.onlyoffice.docs.atlassian.remote.configuration.CacheProperties;
+import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import com.onlyoffice.docs.atlassian.remote.service.JiraEditorResourcesService;
+import com.onlyoffice.docs.atlassian.remote.service.TenantSettingsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JiraEditorResourcesBenchmark {
+    private static final String ACCOUNT_ID = "5b10a2844c20165700ede21g";
+
+    @Param({"50", "150"})
+    public long jiraLatencyMillis;
+
+    private final AtomicLong attachmentIds = new AtomicLong();
+
+    private JiraEditorResourcesService jiraEditorResourcesService;
+    private JiraContext context;
+
+    @Setup
+    public void setUp() {
+        Duration latency = Duration.ofMillis(jiraLatencyMillis);
+        JiraUser user = JiraUser.builder()
+                .accountId(ACCOUNT_ID)
+                .displayName("admin")
+                .locale("en-US")
+                .avatarUrls(Map.of())
+                .build();
+        JiraPermissions permissions = JiraPermissions.builder()
+                .permissions(Map.of(
+                        JiraPermissionsKey.CREATE_ATTACHMENTS,
+                        new JiraPermission(JiraPermissionsKey.CREATE_ATTACHMENTS.name(), true)
+                ))
+                .build();
+
+        JiraClient jiraClient = new JiraClient(null, null) {
+            @Override
+            public Mono<JiraUser> getUser(final UUID cloudId, final String token) {
+                return Mono.delay(latency).thenReturn(user);
+            }
+
+            @Override
+            public Mono<JiraAttachment> getAttachment(final UUID cloudId, final String attachmentId,
+                                                      final String token) {
+                return Mono.delay(latency).thenReturn(
+                        JiraAttachment.builder()
+                                .id(Long.parseLong(attachmentId))
+                                .filename("filename.docx")
+                                .author(user)
+                                .build()
+                );
+            }
+
+            @Override
+            public Mono<JiraPermissions> getIssuePermissions(final UUID cloudId, final String issueId,
+                                                             final List<JiraPermissionsKey> keys,
+                                                             final String token) {
+                return Mono.delay(latency).thenReturn(permissions);
+            }
+        };
+
+        XForgeTokenRepository xForgeTokenRepository = new XForgeTokenRepository(null, null) {
+            @Override
+            public String getXForgeToken(final String key, final XForgeTokenType xForgeTokenType) {
+                return "token";
+            }
+        };
+
+        CacheProperties.CacheConfig cacheConfig = new CacheProperties.CacheConfig();
+        cacheConfig.setTtl(Duration.ofSeconds(30));
+        cacheConfig.setNegativeTtl(Duration.ofSeconds(30));
+        cacheConfig.setMaximumSize(10_000);
+
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.setSettings(cacheConfig);
+        cacheProperties.setPrefetch(cacheConfig);
+
+        TenantSettingsService tenantSettingsService = new TenantSettingsService(null, null, null, null, null, null,
+                cacheProperties) {
+            @Override
+            public TenantSettings getTenantSettings(final Product product, final UUID cloudId) {
+                return new TenantSettings(Map.of(), null, false);
+            }
+        };
+
+        jiraEditorResourcesService = new JiraEditorResourcesService(
+                jiraClient,
+                xForgeTokenRepository,
+                new SecurityUtils(null, xForgeTokenRepository),
+                tenantSettingsService,
+                Schedulers.boundedElastic(),
+                cacheProperties
+        );
+    }
+
+    @Setup(Level.Invocation)
+    public void nextEditorOpen() {
+        context = JiraContext.builder()
+                .product(Product.JIRA)
+                .cloudId(UUID.randomUUID())
+                .issueId("10001")
+                .attachmentId(String.valueOf(attachmentIds.incrementAndGet()))
+                .build();
+    }
+
+    @Benchmark
+    public JiraEditorResourcesService.JiraEditorResources withoutPrefetch() {
+        return jiraEditorResourcesService.getEditorResources(context, ACCOUNT_ID).block();
+    }
+
+    @Benchmark
+    public JiraEditorResourcesService.JiraEditorResources racingPrefetch() {
+        jiraEditorResourcesService.prefetch(context, ACCOUNT_ID);
+
+        return jiraEditorResourcesService.getEditorResources(context, ACCOUNT_ID).block();
+    }
+
+    @State(Scope.Thread)
+    public static class Prefetched {
+        @Setup(Level.Invocation)
+        public void prefetch(final JiraEditorResourcesBenchmark benchmark) {
+            benchmark.nextEditorOpen();
+            benchmark.jiraEditorResourcesService.prefetch(benchmark.context, ACCOUNT_ID);
+            benchmark.jiraEditorResourcesService.getEditorResources(benchmark.context, ACCOUNT_ID).block();
+        }
+    }
+
+    @Benchmark
+    public JiraEditorResourcesService.JiraEditorResources afterPrefetch(final Prefetched prefetched) {
+        return jiraEditorResourcesService.getEditorResources(context, ACCOUNT_ID).block();
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.security.RemoteAppJwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RemoteAppJwtServiceBenchmark {
+    private static final String SECRET = "f66eb0b035fddd3752220e4affc7d01f";
+    private static final String ACCOUNT_ID = "5b10a2844c20165700ede21g";
+    private static final String AUDIENCE = "/api/v1/download/jira";
+    private static final long LIFE_TIME_IN_MINUTES = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private RemoteAppJwtService remoteAppJwtService;
+    private JiraContext context;
+    private RemoteAppJwtService.ContextClaim contextClaim;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        remoteAppJwtService = new RemoteAppJwtService(SECRET, new SimpleMeterRegistry());
+        context = JiraContext.builder()
+                .product(Product.JIRA)
+                .cloudId(UUID.randomUUID())
+                .issueId("10001")
+                .attachmentId("10002")
+                .build();
+        contextClaim = remoteAppJwtService.createContextClaim(context);
+        token = remoteAppJwtService.sign(ACCOUNT_ID, AUDIENCE, LIFE_TIME_IN_MINUTES, contextClaim);
+    }
+
+    @Benchmark
+    public String nimbusEncode() {
+        return remoteAppJwtService.encode(
+                ACCOUNT_ID,
+                AUDIENCE,
+                LIFE_TIME_IN_MINUTES,
+                objectMapper.convertValue(context, new TypeReference<Map<String, Object>>() { })
+        ).getTokenValue();
+    }
+
+    @Benchmark
+    public String sign() {
+        return remoteAppJwtService.sign(
+                ACCOUNT_ID,
+                AUDIENCE,
+                LIFE_TIME_IN_MINUTES,
+                remoteAppJwtService.createContextClaim(context)
+        );
+    }
+
+    @Benchmark
+    public String signWithReusedContextClaim() {
+        return remoteAppJwtService.sign(ACCOUNT_ID, AUDIENCE, LIFE_TIME_IN_MINUTES, contextClaim);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return remoteAppJwtService.decode(token, AUDIENCE);
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.benchmark;
+
+import com.onlyoffice.docs.atlassian.remote.aop.RequestCacheAspect;
+import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
+import com.onlyoffice.docs.atlassian.remote.service.JiraEditorResourcesService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RequestCacheAspectBenchmark {
+    private Method getEditorResources;
+    private Method getAttachment;
+    private Object[] editorResourcesArgs;
+    private Object[] attachmentArgs;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        JiraContext context = BenchmarkSecurityContext.jiraContext();
+
+        getEditorResources = JiraEditorResourcesService.class.getMethod("getEditorResources",
+                JiraContext.class, String.class);
+        getAttachment = JiraEditorResourcesService.class.getMethod("getAttachment",
+                JiraContext.class, String.class, String.class);
+        editorResourcesArgs = new Object[] {context, BenchmarkSecurityContext.ACCOUNT_ID};
+        attachmentArgs = new Object[] {context, BenchmarkSecurityContext.ACCOUNT_ID, UUID.randomUUID().toString()};
+    }
+
+    @Benchmark
+    public String editorResourcesKey() {
+        return RequestCacheAspect.createKey(getEditorResources, editorResourcesArgs);
+    }
+
+    @Benchmark
+    public String attachmentKey() {
+        return RequestCacheAspect.createKey(getAttachment, attachmentArgs);
+    }
+}
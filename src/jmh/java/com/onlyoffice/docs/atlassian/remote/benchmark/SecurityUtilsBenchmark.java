@@ -0,0 +1,74 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.benchmark;
+
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
+import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SecurityUtilsBenchmark {
+    @Param({"remote-app", "forge-invocation"})
+    public String token;
+
+    private SecurityUtils securityUtils;
+
+    @Setup
+    public void setUp() {
+        JiraContext context = BenchmarkSecurityContext.jiraContext();
+
+        securityUtils = new SecurityUtils(
+                BenchmarkSecurityContext.forgeProperties(),
+                BenchmarkSecurityContext.xForgeTokenRepository()
+        );
+
+        BenchmarkSecurityContext.authenticate("forge-invocation".equals(token)
+                ? BenchmarkSecurityContext.forgeInvocationJwt(context.getCloudId())
+                : BenchmarkSecurityContext.remoteAppJwt(context));
+    }
+
+    @Benchmark
+    public Context getCurrentAppContext() {
+        return securityUtils.getCurrentAppContext();
+    }
+
+    @Benchmark
+    public String getCurrentXForgeUserTokenId() {
+        return securityUtils.getCurrentXForgeUserTokenId();
+    }
+}
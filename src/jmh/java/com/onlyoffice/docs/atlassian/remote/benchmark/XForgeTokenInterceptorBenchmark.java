@@ -0,0 +1,92 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.benchmark;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import com.onlyoffice.docs.atlassian.remote.configuration.ForgeProperties;
+import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import com.onlyoffice.docs.atlassian.remote.web.interceptor.XForgeTokenInterceptor;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class XForgeTokenInterceptorBenchmark {
+    private XForgeTokenInterceptor xForgeTokenInterceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        ForgeProperties forgeProperties = BenchmarkSecurityContext.forgeProperties();
+        XForgeTokenRepository xForgeTokenRepository = BenchmarkSecurityContext.xForgeTokenRepository();
+
+        xForgeTokenInterceptor = new XForgeTokenInterceptor(
+                forgeProperties,
+                xForgeTokenRepository,
+                new SecurityUtils(forgeProperties, xForgeTokenRepository),
+                ObservationRegistry.NOOP
+        );
+
+        BenchmarkSecurityContext.authenticate(
+                BenchmarkSecurityContext.remoteAppJwt(BenchmarkSecurityContext.jiraContext())
+        );
+
+        request = new MockHttpServletRequest("POST", "/api/v1/remote/authorization");
+        request.addHeader(forgeProperties.getToken().getUser().getHeader(), xForgeToken());
+        request.addHeader(forgeProperties.getToken().getSystem().getHeader(), xForgeToken());
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public boolean preHandle() throws Exception {
+        return xForgeTokenInterceptor.preHandle(request, response, null);
+    }
+
+    private static String xForgeToken() {
+        return new PlainJWT(new JWTClaimsSet.Builder()
+                .subject(BenchmarkSecurityContext.ACCOUNT_ID)
+                .expirationTime(Date.from(Instant.now().plus(Duration.ofHours(1))))
+                .build()
+        ).serialize();
+    }
+}
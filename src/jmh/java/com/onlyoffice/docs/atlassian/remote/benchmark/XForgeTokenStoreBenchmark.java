@@ -0,0 +1,189 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.benchmark;
+
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.configuration.TokenStoreProperties;
+import com.onlyoffice.docs.atlassian.remote.entity.XForgeToken;
+import com.onlyoffice.docs.atlassian.remote.repository.XForgeTokenEntityRepository;
+import com.onlyoffice.docs.atlassian.remote.security.store.InMemoryXForgeTokenStore;
+import com.onlyoffice.docs.atlassian.remote.security.store.PostgresXForgeTokenStore;
+import com.onlyoffice.docs.atlassian.remote.security.store.RedisXForgeTokenStore;
+import com.onlyoffice.docs.atlassian.remote.security.store.XForgeTokenStore;
+import com.redis.testcontainers.RedisContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Per-request cost of reading and refreshing an X-Forge token in each token store backend. The Redis and Postgres
+ * backends run against containers, so Docker is required.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class XForgeTokenStoreBenchmark {
+    private static final int TENANTS = 1_000;
+
+    @Param({"memory", "redis", "postgres"})
+    public String store;
+
+    private GenericContainer<?> container;
+    private LettuceConnectionFactory connectionFactory;
+    private ConfigurableApplicationContext applicationContext;
+
+    private XForgeTokenStore xForgeTokenStore;
+    private String[] tokenIds;
+    private Instant expiresAt;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        xForgeTokenStore = switch (store) {
+            case "memory" -> memoryStore();
+            case "redis" -> redisStore();
+            case "postgres" -> postgresStore();
+            default -> throw new IllegalArgumentException("Unknown token store: " + store);
+        };
+
+        expiresAt = Instant.now().plus(1, ChronoUnit.HOURS);
+        tokenIds = new String[TENANTS];
+        for (int i = 0; i < TENANTS; i++) {
+            tokenIds[i] = "JIRA:" + UUID.randomUUID();
+            xForgeTokenStore.save(XForgeTokenType.SYSTEM, tokenIds[i], "token-" + i, expiresAt);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (applicationContext != null) {
+            applicationContext.close();
+        }
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Benchmark
+    public String get() {
+        return xForgeTokenStore.get(XForgeTokenType.SYSTEM, randomTokenId());
+    }
+
+    @Benchmark
+    public void save() {
+        xForgeTokenStore.save(XForgeTokenType.SYSTEM, randomTokenId(), "refreshed-token", expiresAt);
+    }
+
+    private String randomTokenId() {
+        return tokenIds[ThreadLocalRandom.current().nextInt(TENANTS)];
+    }
+
+    private XForgeTokenStore memoryStore() {
+        TokenStoreProperties.MemoryConfig memoryConfig = new TokenStoreProperties.MemoryConfig();
+        memoryConfig.setMaximumSize(TENANTS * 10);
+
+        TokenStoreProperties tokenStoreProperties = new TokenStoreProperties();
+        tokenStoreProperties.setMemory(memoryConfig);
+
+        return new InMemoryXForgeTokenStore(tokenStoreProperties);
+    }
+
+    private XForgeTokenStore redisStore() {
+        RedisContainer redisContainer = new RedisContainer(DockerImageName.parse("redis:7.0.12"));
+        redisContainer.start();
+        container = redisContainer;
+
+        connectionFactory = new LettuceConnectionFactory(redisContainer.getHost(), redisContainer.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        return new RedisXForgeTokenStore(stringRedisTemplate, stringRedisTemplate);
+    }
+
+    private XForgeTokenStore postgresStore() {
+        PostgreSQLContainer<?> postgresContainer = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16.2"));
+        postgresContainer.start();
+        container = postgresContainer;
+
+        applicationContext = new SpringApplicationBuilder(PostgresStoreConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .run(
+                        "--app.token-store.type=postgres",
+                        "--spring.datasource.url=" + postgresContainer.getJdbcUrl(),
+                        "--spring.datasource.username=" + postgresContainer.getUsername(),
+                        "--spring.datasource.password=" + postgresContainer.getPassword()
+                );
+
+        return applicationContext.getBean(XForgeTokenStore.class);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @EnableJpaRepositories(basePackageClasses = XForgeTokenEntityRepository.class)
+    @EntityScan(basePackageClasses = XForgeToken.class)
+    @Import(PostgresXForgeTokenStore.class)
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    static class PostgresStoreConfiguration {
+    }
+}
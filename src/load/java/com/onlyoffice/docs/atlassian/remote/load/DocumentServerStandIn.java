@@ -0,0 +1,117 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.load;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.server.HttpServerRoutes;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+
+
+public class DocumentServerStandIn extends StandIn {
+    private static final int STATUS_MUST_SAVE = 2;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private final MACSigner signer;
+    private final byte[] document;
+    private final FaultInjection faultInjection;
+
+    public DocumentServerStandIn(final String secret, final byte[] document, final FaultInjection faultInjection)
+            throws JOSEException {
+        this.signer = new MACSigner(secret);
+        this.document = document;
+        this.faultInjection = faultInjection;
+    }
+
+    public int download(final String fileUrl) throws IOException, InterruptedException, JOSEException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(fileUrl))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + sign(Map.of("payload", Map.of("url", fileUrl))))
+                .GET()
+                .build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    public int save(final String callbackUrl, final String key) throws IOException, InterruptedException,
+            JOSEException {
+        Map<String, Object> callback = Map.of(
+                "key", key,
+                "status", STATUS_MUST_SAVE,
+                "url", getBaseUrl() + "/cache/files/" + key + "/output.docx"
+        );
+
+        Map<String, Object> body = Map.of(
+                "key", key,
+                "status", STATUS_MUST_SAVE,
+                "url", callback.get("url"),
+                "token", sign(callback)
+        );
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(callbackUrl))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(getObjectMapper().writeValueAsBytes(body)))
+                .build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+        super.close();
+    }
+
+    @Override
+    protected void routes(final HttpServerRoutes routes) {
+        routes
+                .get("/healthcheck", (request, response) -> response.sendString(Mono.just("true")))
+                .get("/cache/files/{key}/output.docx", faultInjection.apply((request, response) ->
+                        response.header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(document.length))
+                                .sendByteArray(Mono.just(document))
+                ));
+    }
+
+    private String sign(final Map<String, Object> claims) throws JOSEException {
+        JWTClaimsSet.Builder builder = new JWTClaimsSet.Builder();
+        claims.forEach(builder::claim);
+
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), builder.build());
+        jwt.sign(signer);
+
+        return jwt.serialize();
+    }
+}
@@ -0,0 +1,49 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.load;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+
+
+public record FaultInjection(Duration latency, double errorRate) {
+    public static final FaultInjection NONE = new FaultInjection(Duration.ZERO, 0);
+
+    public BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> apply(
+            final BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> handler) {
+        return (request, response) -> {
+            Mono<Void> delay = latency.isZero() ? Mono.empty() : Mono.delay(latency).then();
+
+            return delay.then(Mono.defer(() -> {
+                if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                    return Mono.from(response.status(HttpResponseStatus.SERVICE_UNAVAILABLE).send());
+                }
+
+                return Mono.from(handler.apply(request, response));
+            }));
+        };
+    }
+}
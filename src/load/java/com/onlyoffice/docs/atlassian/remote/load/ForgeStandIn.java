@@ -0,0 +1,96 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.load;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import com.nimbusds.jwt.SignedJWT;
+import reactor.netty.http.server.HttpServerRoutes;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+
+public class ForgeStandIn extends StandIn {
+    private static final String ISSUER = "forge/invocation-token";
+    private static final int RSA_KEY_SIZE = 2048;
+    private static final Duration INVOCATION_TOKEN_TTL = Duration.ofMinutes(5);
+    private static final Duration OAUTH_TOKEN_TTL = Duration.ofHours(1);
+
+    private final FaultInjection faultInjection;
+    private final RSAKey rsaKey;
+    private final RSASSASigner signer;
+
+    public ForgeStandIn(final FaultInjection faultInjection) throws JOSEException {
+        this.faultInjection = faultInjection;
+        this.rsaKey = new RSAKeyGenerator(RSA_KEY_SIZE)
+                .keyID(UUID.randomUUID().toString())
+                .generate();
+        this.signer = new RSASSASigner(rsaKey);
+    }
+
+    public String getJwkSetUri() {
+        return getBaseUrl() + "/.well-known/jwks.json";
+    }
+
+    public String createInvocationToken(final String appId, final UUID cloudId, final String accountId)
+            throws JOSEException {
+        Instant now = Instant.now();
+        SignedJWT jwt = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(rsaKey.getKeyID()).build(),
+                new JWTClaimsSet.Builder()
+                        .issuer(ISSUER)
+                        .audience(appId)
+                        .issueTime(Date.from(now))
+                        .notBeforeTime(Date.from(now))
+                        .expirationTime(Date.from(now.plus(INVOCATION_TOKEN_TTL)))
+                        .claim("principal", accountId)
+                        .claim("context", Map.of("cloudId", cloudId.toString()))
+                        .build()
+        );
+        jwt.sign(signer);
+
+        return jwt.serialize();
+    }
+
+    public String createOauthToken(final String accountId) {
+        return new PlainJWT(new JWTClaimsSet.Builder()
+                .subject(accountId)
+                .expirationTime(Date.from(Instant.now().plus(OAUTH_TOKEN_TTL)))
+                .build()
+        ).serialize();
+    }
+
+    @Override
+    protected void routes(final HttpServerRoutes routes) {
+        routes.get("/.well-known/jwks.json", faultInjection.apply((request, response) ->
+                sendJson(response, new JWKSet(rsaKey.toPublicJWK()).toJSONObject())
+        ));
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.load;
+
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermissionsKey;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.server.HttpServerRoutes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+
+public class JiraStandIn extends StandIn {
+    private static final String API_PATH = "/ex/jira/{cloudId}/rest/api/3";
+    private static final String DOCUMENT_CONTENT_TYPE =
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+    private static final String ACCOUNT_ID = "5b10a2844c20165700ede21g";
+    private static final long FIRST_CREATED_ATTACHMENT_ID = 1_000_000_000L;
+
+    private final Map<String, Object> settings;
+    private final byte[] document;
+    private final FaultInjection faultInjection;
+
+    private final AtomicLong attachmentIds = new AtomicLong(FIRST_CREATED_ATTACHMENT_ID);
+    private final LongAdder uploadedBytes = new LongAdder();
+
+    public JiraStandIn(final Map<String, Object> settings, final byte[] document,
+                       final FaultInjection faultInjection) {
+        this.settings = settings;
+        this.document = document;
+        this.faultInjection = faultInjection;
+    }
+
+    public long getUploadedBytes() {
+        return uploadedBytes.sum();
+    }
+
+    @Override
+    protected void routes(final HttpServerRoutes routes) {
+        routes
+                .get(API_PATH + "/myself", faultInjection.apply((request, response) -> sendJson(response, user())))
+                .get(API_PATH + "/attachment/content/{attachmentId}", faultInjection.apply((request, response) ->
+                        response.status(HttpResponseStatus.SEE_OTHER)
+                                .header(HttpHeaderNames.LOCATION,
+                                        getBaseUrl() + "/media/" + request.param("attachmentId"))
+                                .send()
+                ))
+                .get("/media/{attachmentId}", faultInjection.apply((request, response) ->
+                        response.header(HttpHeaderNames.CONTENT_TYPE, DOCUMENT_CONTENT_TYPE)
+                                .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(document.length))
+                                .sendByteArray(Mono.just(document))
+                ))
+                .get(API_PATH + "/attachment/{attachmentId}", faultInjection.apply((request, response) ->
+                        sendJson(response, attachment(request.param("attachmentId")))
+                ))
+                .delete(API_PATH + "/attachment/{attachmentId}", faultInjection.apply((request, response) ->
+                        response.status(HttpResponseStatus.NO_CONTENT).send()
+                ))
+                .get(API_PATH + "/mypermissions", faultInjection.apply((request, response) ->
+                        sendJson(response, Map.of("permissions", permissions()))
+                ))
+                .post(API_PATH + "/issue/{issueId}/attachments", faultInjection.apply((request, response) ->
+                        request.receive()
+                                .doOnNext(buffer -> uploadedBytes.add(buffer.readableBytes()))
+                                .then(Mono.defer(() -> Mono.from(sendJson(
+                                        response,
+                                        List.of(attachment(String.valueOf(attachmentIds.incrementAndGet())))
+                                ))))
+                ))
+                .post("/forge/storage/kvs/v1/secret/get", faultInjection.apply((request, response) ->
+                        request.receive()
+                                .then(Mono.defer(() -> Mono.from(sendJson(response, Map.of("value", settings)))))
+                ));
+    }
+
+    private static Map<String, Object> user() {
+        return Map.of(
+                "accountId", ACCOUNT_ID,
+                "displayName", "Load Test",
+                "locale", "en-US",
+                "avatarUrls", Map.of("24x24", "https://avatar.example.com/24x24.png")
+        );
+    }
+
+    private static Map<String, Object> attachment(final String attachmentId) {
+        return Map.of(
+                "id", Long.parseLong(attachmentId),
+                "filename", "document-" + attachmentId + ".docx",
+                "author", user()
+        );
+    }
+
+    private static Map<String, Object> permissions() {
+        return Arrays.stream(JiraPermissionsKey.values())
+                .collect(Collectors.toMap(
+                        JiraPermissionsKey::name,
+                        key -> Map.of("key", key.name(), "havePermission", true)
+                ));
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.onlyoffice.docs.atlassian.remote.accounting.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+
+public class LoadReport {
+    private static final double P50 = 0.5;
+    private static final double P95 = 0.95;
+    private static final double P99 = 0.99;
+    private static final double MICROS_PER_MILLI = 1_000;
+    private static final double MILLIS_PER_SECOND = 1_000;
+    private static final double BYTES_PER_MIB = 1024 * 1024;
+
+    private final Map<LoadStep, LatencyHistogram> latencies = new EnumMap<>(LoadStep.class);
+    private final Map<LoadStep, LongAdder> errors = new EnumMap<>(LoadStep.class);
+    private final LongAdder iterations = new LongAdder();
+
+    public LoadReport() {
+        for (LoadStep step : LoadStep.values()) {
+            latencies.put(step, new LatencyHistogram());
+            errors.put(step, new LongAdder());
+        }
+    }
+
+    public void recordSuccess(final LoadStep step, final long durationNanos) {
+        latencies.get(step).record(durationNanos);
+    }
+
+    public void recordError(final LoadStep step) {
+        errors.get(step).increment();
+    }
+
+    public void recordIteration() {
+        iterations.increment();
+    }
+
+    public void reset() {
+        latencies.values().forEach(LatencyHistogram::drain);
+        errors.values().forEach(LongAdder::reset);
+        iterations.reset();
+    }
+
+    public Summary summarize(final LoadTestOptions options, final Duration elapsed,
+                             final RuntimeFootprint.Summary footprint) {
+        double seconds = elapsed.toMillis() / MILLIS_PER_SECOND;
+
+        List<StepSummary> steps = Arrays.stream(LoadStep.values())
+                .map(step -> {
+                    long[] counts = latencies.get(step).drain();
+                    long count = LatencyHistogram.count(counts);
+
+                    return new StepSummary(
+                            step,
+                            count,
+                            errors.get(step).sum(),
+                            count / seconds,
+                            LatencyHistogram.percentileMicros(counts, P50) / MICROS_PER_MILLI,
+                            LatencyHistogram.percentileMicros(counts, P95) / MICROS_PER_MILLI,
+                            LatencyHistogram.percentileMicros(counts, P99) / MICROS_PER_MILLI
+                    );
+                })
+                .toList();
+
+        return new Summary(options, elapsed, iterations.sum(), iterations.sum() / seconds, steps, footprint);
+    }
+
+    public record Summary(LoadTestOptions options, Duration elapsed, long iterations, double iterationsPerSecond,
+                          List<StepSummary> steps, RuntimeFootprint.Summary footprint) {
+
+        public void print(final PrintStream out) {
+            out.printf("%d users, %d tenants, %s threads, %s: %d iterations, %.1f/s%n",
+                    options.users(), options.tenants(), options.threads().name().toLowerCase(Locale.ROOT), elapsed,
+                    iterations, iterationsPerSecond);
+            out.printf("%-14s %10s %8s %10s %10s %10s %10s%n",
+                    "step", "count", "errors", "ops/s", "p50 ms", "p95 ms", "p99 ms");
+
+            for (StepSummary step : steps) {
+                out.printf("%-14s %10d %8d %10.1f %10.2f %10.2f %10.2f%n",
+                        step.step(), step.count(), step.errors(), step.throughput(),
+                        step.p50Millis(), step.p95Millis(), step.p99Millis());
+            }
+
+            out.printf("peak platform threads %d, peak heap %.1f MiB, peak non-heap %.1f MiB, pinned %d%n",
+                    footprint.peakPlatformThreads(), footprint.peakHeapUsedBytes() / BYTES_PER_MIB,
+                    footprint.peakNonHeapUsedBytes() / BYTES_PER_MIB, footprint.pinnedEvents());
+            footprint.pinnedAt().forEach((frame, count) -> out.printf("  pinned %6d at %s%n", count, frame));
+        }
+
+        public void write(final Path path) throws IOException {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            new ObjectMapper()
+                    .findAndRegisterModules()
+                    .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                    .writerWithDefaultPrettyPrinter()
+                    .writeValue(path.toFile(), this);
+        }
+    }
+
+    public record StepSummary(LoadStep step, long count, long errors, double throughput, double p50Millis,
+                              double p95Millis, double p99Millis) {
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onlyoffice.docs.atlassian.remote.web.dto.authorization.AuthorizationRequest;
+import com.onlyoffice.docs.atlassian.remote.web.dto.authorization.AuthorizationResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+public class LoadScenario {
+    private static final String ISSUE_ID = "10001";
+    private static final String AUTHORIZATION_PATH = "/api/v1/remote/authorization";
+
+    private final AtomicLong attachmentIds = new AtomicLong();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String appBaseUrl;
+    private final String appId;
+    private final ForgeStandIn forge;
+    private final DocumentServerStandIn documentServer;
+    private final Duration editorDelay;
+    private final LoadReport report;
+
+    public LoadScenario(final HttpClient httpClient, final String appBaseUrl, final String appId,
+                        final ForgeStandIn forge, final DocumentServerStandIn documentServer,
+                        final Duration editorDelay, final LoadReport report) {
+        this.httpClient = httpClient;
+        this.appBaseUrl = appBaseUrl;
+        this.appId = appId;
+        this.forge = forge;
+        this.documentServer = documentServer;
+        this.editorDelay = editorDelay;
+        this.report = report;
+    }
+
+    public void run(final UUID cloudId, final String accountId) throws Exception {
+        String attachmentId = String.valueOf(attachmentIds.incrementAndGet());
+
+        String invocationToken = forge.createInvocationToken(appId, cloudId, accountId);
+
+        HttpRequest authorizationRequest = HttpRequest.newBuilder(URI.create(appBaseUrl + AUTHORIZATION_PATH))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + invocationToken)
+                .header("x-forge-oauth-system", forge.createOauthToken(accountId))
+                .header("x-forge-oauth-user", forge.createOauthToken(accountId))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(
+                        objectMapper.writeValueAsBytes(new AuthorizationRequest(ISSUE_ID, attachmentId))
+                ))
+                .build();
+        AuthorizationResponse authorization = objectMapper.readValue(
+                send(LoadStep.AUTHORIZE, authorizationRequest),
+                AuthorizationResponse.class
+        );
+
+        // the Forge iframe loads the editor page before it requests the config
+        if (editorDelay.isPositive()) {
+            Thread.sleep(editorDelay);
+        }
+
+        HttpRequest editorRequest = HttpRequest.newBuilder(URI.create(appBaseUrl + "/editor/jira?mode=EDIT&token="
+                        + URLEncoder.encode(authorization.getToken(), StandardCharsets.UTF_8)))
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .GET()
+                .build();
+        JsonNode config = objectMapper.readTree(send(LoadStep.EDITOR, LoadStep.EDITOR_TTFB, editorRequest))
+                .path("config");
+
+        String fileUrl = config.path("document").path("url").asText();
+        String key = config.path("document").path("key").asText();
+        String callbackUrl = config.path("editorConfig").path("callbackUrl").asText();
+
+        measure(LoadStep.DOWNLOAD, () -> documentServer.download(fileUrl));
+        measure(LoadStep.CALLBACK_SAVE, () -> documentServer.save(callbackUrl, key));
+
+        report.recordIteration();
+    }
+
+    private byte[] send(final LoadStep step, final HttpRequest request) throws Exception {
+        return send(step, null, request);
+    }
+
+    private byte[] send(final LoadStep step, final LoadStep firstByteStep, final HttpRequest request)
+            throws Exception {
+        AtomicReference<HttpResponse<byte[]>> response = new AtomicReference<>();
+        AtomicLong firstByteAt = new AtomicLong();
+        long startedAt = System.nanoTime();
+
+        measure(step, () -> {
+            response.set(httpClient.send(request, responseInfo -> {
+                firstByteAt.set(System.nanoTime());
+
+                return HttpResponse.BodySubscribers.ofByteArray();
+            }));
+
+            return response.get().statusCode();
+        });
+
+        if (firstByteStep != null) {
+            report.recordSuccess(firstByteStep, firstByteAt.get() - startedAt);
+        }
+
+        return response.get().body();
+    }
+
+    private void measure(final LoadStep step, final Callable<Integer> call) throws Exception {
+        long startedAt = System.nanoTime();
+        int status;
+
+        try {
+            status = call.call();
+        } catch (Exception e) {
+            report.recordError(step);
+            throw e;
+        }
+
+        if (!HttpStatusCode.valueOf(status).is2xxSuccessful()) {
+            report.recordError(step);
+            throw new StepFailedException(step, status);
+        }
+
+        report.recordSuccess(step, System.nanoTime() - startedAt);
+    }
+
+    public static class StepFailedException extends RuntimeException {
+        public StepFailedException(final LoadStep step, final int status) {
+            super(step + " failed with status " + status);
+        }
+    }
+}
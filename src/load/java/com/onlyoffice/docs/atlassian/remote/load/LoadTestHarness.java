@@ -0,0 +1,160 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.load;
+
+import com.onlyoffice.docs.atlassian.remote.DocsAtlassianRemoteApplication;
+import com.onlyoffice.model.settings.SettingsConstants;
+import com.redis.testcontainers.RedisContainer;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+
+public final class LoadTestHarness {
+    private static final int REDIS_PORT = 6379;
+    private static final String APP_SECRET = "load-test-remote-app-secret-key!";
+    private static final String DOCUMENT_SERVER_SECRET = "load-test-document-server-secret";
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        byte[] document = new byte[options.documentSize()];
+        new Random(options.documentSize()).nextBytes(document);
+
+        String appId = "ari:cloud:ecosystem::app/" + UUID.randomUUID();
+
+        try (PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16.2"));
+             RedisContainer redis = new RedisContainer(DockerImageName.parse("redis:7.0.12"));
+             ForgeStandIn forge = new ForgeStandIn(options.forge()).start();
+             DocumentServerStandIn documentServer = new DocumentServerStandIn(DOCUMENT_SERVER_SECRET, document,
+                     options.documentServer()).start();
+             JiraStandIn jira = new JiraStandIn(
+                     Map.of(
+                             SettingsConstants.URL, documentServer.getBaseUrl() + "/",
+                             SettingsConstants.SECURITY_KEY, DOCUMENT_SERVER_SECRET
+                     ),
+                     document,
+                     options.jira()
+             ).start()) {
+            postgres.start();
+            redis.start();
+
+            int port = findFreePort();
+            String appBaseUrl = "http://localhost:" + port;
+
+            Map<String, Object> properties = new LinkedHashMap<>();
+            properties.put("server.port", port);
+            properties.put("management.server.port", findFreePort());
+            properties.put("management.tracing.sampling.probability", 0);
+            properties.put("logging.level.root", "WARN");
+            properties.put("spring.threads.virtual.enabled", options.threads() == Threading.VIRTUAL);
+            properties.put("app.cache.prefetch.enabled", options.prefetch());
+            properties.put("app.base-url", appBaseUrl);
+            properties.put("app.security.secret", APP_SECRET);
+            properties.put("app.health.document-server-url", documentServer.getBaseUrl());
+            properties.put("forge.products.JIRA.appId", appId);
+            properties.put("spring.security.oauth2.resourceserver.jwt.jwk-set-uri", forge.getJwkSetUri());
+            properties.put("atlassian.api.base-url", jira.getBaseUrl());
+            properties.put("spring.datasource.url", postgres.getJdbcUrl());
+            properties.put("spring.datasource.username", postgres.getUsername());
+            properties.put("spring.datasource.password", postgres.getPassword());
+            properties.put("spring.data.redis.host", redis.getHost());
+            properties.put("spring.data.redis.port", redis.getMappedPort(REDIS_PORT));
+
+            String[] commandLine = properties.entrySet().stream()
+                    .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                    .toArray(String[]::new);
+
+            try (ConfigurableApplicationContext ignored = new SpringApplicationBuilder(
+                    DocsAtlassianRemoteApplication.class).run(commandLine);
+                 HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+                LoadReport report = new LoadReport();
+                LoadScenario scenario = new LoadScenario(httpClient, appBaseUrl, appId, forge, documentServer,
+                        options.editorDelay(), report);
+
+                LoadReport.Summary summary = run(options, scenario, report);
+
+                summary.print(System.out);
+                System.out.printf("Uploaded to Jira: %d bytes%n", jira.getUploadedBytes());
+                summary.write(options.report());
+            }
+        }
+    }
+
+    private static LoadReport.Summary run(final LoadTestOptions options, final LoadScenario scenario,
+                                          final LoadReport report) throws InterruptedException, IOException {
+        List<UUID> tenants = IntStream.range(0, options.tenants())
+                .mapToObj(tenant -> UUID.randomUUID())
+                .toList();
+
+        Instant measurementStart = Instant.now().plus(options.warmup());
+        Instant end = measurementStart.plus(options.duration());
+        RuntimeFootprint footprint = new RuntimeFootprint();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int user = 0; user < options.users(); user++) {
+                UUID cloudId = tenants.get(user % tenants.size());
+                String accountId = "load-test-user-" + user;
+
+                users.submit(() -> {
+                    while (Instant.now().isBefore(end)) {
+                        try {
+                            scenario.run(cloudId, accountId);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            // counted as a step error, the user starts the next iteration
+                        }
+                    }
+                });
+            }
+
+            Thread.sleep(Duration.between(Instant.now(), measurementStart));
+            report.reset();
+            footprint.start();
+        }
+
+        return report.summarize(options, Duration.between(measurementStart, Instant.now()), footprint.stop());
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.load;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+
+public record LoadTestOptions(int users, int tenants, Duration warmup, Duration duration, int documentSize,
+                              FaultInjection jira, FaultInjection forge, FaultInjection documentServer,
+                              Threading threads, boolean prefetch, Duration editorDelay, Path report) {
+    private static final String DEFAULT_USERS = "20";
+    private static final String DEFAULT_TENANTS = "5";
+    private static final String DEFAULT_WARMUP = "PT10S";
+    private static final String DEFAULT_DURATION = "PT1M";
+    private static final String DEFAULT_DOCUMENT_SIZE = "262144";
+    private static final String DEFAULT_LATENCY = "PT0S";
+    private static final String DEFAULT_ERROR_RATE = "0";
+    private static final String DEFAULT_THREADS = "platform";
+    private static final String DEFAULT_PREFETCH = "true";
+    private static final String DEFAULT_EDITOR_DELAY = "PT0S";
+    private static final String DEFAULT_REPORT = "target/load-report.json";
+
+    public static LoadTestOptions parse(final String[] args) {
+        Map<String, String> options = new HashMap<>();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return new LoadTestOptions(
+                Integer.parseInt(options.getOrDefault("users", DEFAULT_USERS)),
+                Integer.parseInt(options.getOrDefault("tenants", DEFAULT_TENANTS)),
+                Duration.parse(options.getOrDefault("warmup", DEFAULT_WARMUP)),
+                Duration.parse(options.getOrDefault("duration", DEFAULT_DURATION)),
+                Integer.parseInt(options.getOrDefault("document-size", DEFAULT_DOCUMENT_SIZE)),
+                faultInjection(options, "jira"),
+                faultInjection(options, "forge"),
+                faultInjection(options, "ds"),
+                Threading.valueOf(options.getOrDefault("threads", DEFAULT_THREADS).toUpperCase(Locale.ROOT)),
+                Boolean.parseBoolean(options.getOrDefault("prefetch", DEFAULT_PREFETCH)),
+                Duration.parse(options.getOrDefault("editor-delay", DEFAULT_EDITOR_DELAY)),
+                Path.of(options.getOrDefault("report", DEFAULT_REPORT))
+        );
+    }
+
+    private static FaultInjection faultInjection(final Map<String, String> options, final String standIn) {
+        return new FaultInjection(
+                Duration.parse(options.getOrDefault(standIn + "-latency", DEFAULT_LATENCY)),
+                Double.parseDouble(options.getOrDefault(standIn + "-error-rate", DEFAULT_ERROR_RATE))
+        );
+    }
+}
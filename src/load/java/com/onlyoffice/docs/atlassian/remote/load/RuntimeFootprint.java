@@ -0,0 +1,141 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.load;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+
+/**
+ * Samples the platform thread count and memory use of the JVM during the measurement and records
+ * {@code jdk.VirtualThreadPinned} events, so platform and virtual thread runs can be compared.
+ * <p>
+ * Virtual threads are not included in the thread count, their stacks are part of the heap.
+ */
+public class RuntimeFootprint {
+    private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "com.onlyoffice";
+    private static final Duration SAMPLE_INTERVAL = Duration.ofMillis(500);
+    private static final int TOP_PINNED_FRAMES = 10;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+    private final AtomicLong peakHeapUsed = new AtomicLong();
+    private final AtomicLong peakNonHeapUsed = new AtomicLong();
+
+    private Recording recording;
+    private Thread sampler;
+
+    public void start() {
+        threadMXBean.resetPeakThreadCount();
+        peakHeapUsed.set(0);
+        peakNonHeapUsed.set(0);
+
+        recording = new Recording();
+        recording.enable(VIRTUAL_THREAD_PINNED).withThreshold(Duration.ZERO).withStackTrace();
+        recording.start();
+
+        sampler = Thread.ofVirtual().name("footprint-sampler").start(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    sample();
+                    TimeUnit.MILLISECONDS.sleep(SAMPLE_INTERVAL.toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    public Summary stop() throws IOException, InterruptedException {
+        sampler.interrupt();
+        sampler.join();
+        sample();
+
+        Path file = Files.createTempFile("load-test", ".jfr");
+        try {
+            recording.stop();
+            recording.dump(file);
+            recording.close();
+
+            List<RecordedEvent> pinned = RecordingFile.readAllEvents(file);
+
+            Map<String, Long> pinnedAt = pinned.stream()
+                    .collect(Collectors.groupingBy(RuntimeFootprint::pinnedAt, Collectors.counting()))
+                    .entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                    .limit(TOP_PINNED_FRAMES)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a,
+                            LinkedHashMap::new));
+
+            return new Summary(
+                    threadMXBean.getPeakThreadCount(),
+                    peakHeapUsed.get(),
+                    peakNonHeapUsed.get(),
+                    pinned.size(),
+                    pinnedAt
+            );
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private void sample() {
+        peakHeapUsed.accumulateAndGet(memoryMXBean.getHeapMemoryUsage().getUsed(), Math::max);
+        peakNonHeapUsed.accumulateAndGet(memoryMXBean.getNonHeapMemoryUsage().getUsed(), Math::max);
+    }
+
+    private static String pinnedAt(final RecordedEvent event) {
+        if (Objects.isNull(event.getStackTrace())) {
+            return "unknown";
+        }
+
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+                        + frame.getLineNumber())
+                .orElse("unknown");
+    }
+
+    public record Summary(int peakPlatformThreads, long peakHeapUsedBytes, long peakNonHeapUsedBytes,
+                          long pinnedEvents, Map<String, Long> pinnedAt) {
+    }
+}
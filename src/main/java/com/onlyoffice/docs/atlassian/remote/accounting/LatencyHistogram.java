@@ -0,0 +1,119 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.accounting;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Log-linear histogram of latencies in microseconds: every power of two is split into 8 buckets, so a recorded
+ * value is off by at most 12.5%. Recording and draining are lock-free; a value recorded while the histogram
+ * is drained ends up either in the drained counts or in the next ones.
+ */
+public final class LatencyHistogram {
+    public static final int BUCKETS = 256;
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_MASK = SUB_BUCKETS - 1;
+    private static final int LAST_BUCKET = BUCKETS - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public void record(final long durationNanos) {
+        counts.incrementAndGet(index(TimeUnit.NANOSECONDS.toMicros(durationNanos)));
+    }
+
+    public long[] drain() {
+        long[] drained = new long[BUCKETS];
+
+        for (int i = 0; i < BUCKETS; i++) {
+            drained[i] = counts.getAndSet(i, 0);
+        }
+
+        return drained;
+    }
+
+    public static long[] merge(final long[] target, final long[] source) {
+        long[] merged = target == null ? new long[BUCKETS] : target;
+
+        if (source != null) {
+            for (int i = 0; i < Math.min(merged.length, source.length); i++) {
+                merged[i] += source[i];
+            }
+        }
+
+        return merged;
+    }
+
+    public static long count(final long[] counts) {
+        long count = 0;
+
+        if (counts != null) {
+            for (long bucket : counts) {
+                count += bucket;
+            }
+        }
+
+        return count;
+    }
+
+    public static long percentileMicros(final long[] counts, final double percentile) {
+        long total = count(counts);
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(total * percentile);
+        long seen = 0;
+
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+
+            if (seen >= Math.max(rank, 1)) {
+                return upperBound(i);
+            }
+        }
+
+        return upperBound(counts.length - 1);
+    }
+
+    static int index(final long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) Math.max(micros, 0);
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & SUB_BUCKET_MASK;
+
+        return Math.min((exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket, LAST_BUCKET);
+    }
+
+    static long upperBound(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index & SUB_BUCKET_MASK;
+
+        return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
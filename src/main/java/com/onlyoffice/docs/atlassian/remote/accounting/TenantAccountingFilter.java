@@ -0,0 +1,64 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.accounting;
+
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+
+@RequiredArgsConstructor
+public class TenantAccountingFilter implements ExchangeFilterFunction {
+    private static final int NO_STATUS = 0;
+
+    private final TenantAccountingService tenantAccountingService;
+
+    @Override
+    public Mono<ClientResponse> filter(final ClientRequest request, final ExchangeFunction next) {
+        Object tenant = request.attribute(MetricsTags.TENANT).orElse(null);
+        if (tenant == null) {
+            return next.exchange(request);
+        }
+
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            AtomicReference<ClientResponse> received = new AtomicReference<>();
+
+            // Recorded on termination so that failed, timed out and cancelled calls are accounted too.
+            return next.exchange(request)
+                    .doOnNext(received::set)
+                    .doFinally(signal -> {
+                        ClientResponse response = received.get();
+
+                        tenantAccountingService.recordJiraCall(
+                                tenant,
+                                response == null ? NO_STATUS : response.statusCode().value(),
+                                response == null ? 0 : response.headers().contentLength().orElse(0),
+                                System.nanoTime() - startedAt
+                        );
+                    });
+        });
+    }
+}
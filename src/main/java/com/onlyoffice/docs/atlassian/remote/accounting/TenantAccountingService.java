@@ -0,0 +1,166 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.accounting;
+
+import com.onlyoffice.docs.atlassian.remote.configuration.AccountingProperties;
+import com.onlyoffice.docs.atlassian.remote.entity.TenantUsage;
+import com.onlyoffice.docs.atlassian.remote.entity.TenantUsageId;
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
+import com.onlyoffice.docs.atlassian.remote.repository.TenantUsageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+
+@Service
+@RequiredArgsConstructor
+public class TenantAccountingService {
+    public static final String OTHER = "other";
+
+    private static final int IDLE_FLUSHES_BEFORE_EVICTION = 2;
+
+    private final UUID instanceId = UUID.randomUUID();
+    private final ConcurrentMap<String, TenantUsageCounters> tenants = new ConcurrentHashMap<>();
+    private final TenantUsageCounters other = new TenantUsageCounters();
+
+    private final TenantUsageRepository tenantUsageRepository;
+    private final AccountingProperties accountingProperties;
+
+    public void recordEditorOpen(final Object tenant) {
+        counters(tenant).recordEditorOpen();
+    }
+
+    public void recordSave(final Object tenant, final long bytes, final long durationNanos) {
+        counters(tenant).recordSave(bytes, durationNanos);
+    }
+
+    public void recordJiraCall(final Object tenant, final int status, final long bytes, final long durationNanos) {
+        counters(tenant).recordJiraCall(status == HttpStatus.TOO_MANY_REQUESTS.value(), bytes, durationNanos);
+    }
+
+    @Scheduled(fixedDelayString = "#{@accountingProperties.flushInterval.toMillis()}")
+    @Transactional
+    public void flush() {
+        Instant periodStart = Instant.now().truncatedTo(ChronoUnit.HOURS);
+        Map<String, TenantUsageCounters.Snapshot> snapshots = new HashMap<>();
+
+        tenants.forEach((tenant, counters) -> {
+            addSnapshot(snapshots, tenant, counters.drain());
+
+            // A writer can only miss an evicted entry if it held it over two whole flush intervals.
+            if (counters.getIdleFlushes() >= IDLE_FLUSHES_BEFORE_EVICTION) {
+                tenants.remove(tenant, counters);
+            }
+        });
+        addSnapshot(snapshots, OTHER, other.drain());
+
+        if (!snapshots.isEmpty()) {
+            tenantUsageRepository.saveAll(mergeUsages(snapshots, periodStart));
+        }
+        tenantUsageRepository.deleteAllByPeriodStartBefore(periodStart.minus(accountingProperties.getRetention()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TenantUsageSummary> findTopTenants(final TenantUsageMetric metric, final Duration window,
+                                                   final int limit) {
+        Instant from = Instant.now().minus(window).truncatedTo(ChronoUnit.HOURS);
+
+        return tenantUsageRepository.findAllByIdPeriodStartGreaterThanEqual(from).stream()
+                .collect(Collectors.groupingBy(usage -> usage.getId().getTenant()))
+                .entrySet()
+                .stream()
+                .map(entry -> TenantUsageSummary.of(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.<TenantUsageSummary>comparingLong(metric::valueOf).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private TenantUsageCounters counters(final Object tenant) {
+        if (Objects.isNull(tenant)) {
+            return other;
+        }
+
+        String key = tenant.toString();
+        TenantUsageCounters counters = tenants.get(key);
+        if (counters != null) {
+            return counters;
+        }
+
+        if (key.equals(MetricsTags.NONE) || tenants.size() >= accountingProperties.getMaximumTenants()) {
+            return other;
+        }
+
+        return tenants.computeIfAbsent(key, k -> new TenantUsageCounters());
+    }
+
+    private void addSnapshot(final Map<String, TenantUsageCounters.Snapshot> snapshots, final String tenant,
+                             final TenantUsageCounters.Snapshot snapshot) {
+        if (!snapshot.isEmpty()) {
+            snapshots.put(tenant, snapshot);
+        }
+    }
+
+    /**
+     * Loads the rows of the period that this instance already wrote with one query, so a flush costs a single
+     * select plus batched writes rather than a lookup per tenant.
+     */
+    private List<TenantUsage> mergeUsages(final Map<String, TenantUsageCounters.Snapshot> snapshots,
+                                          final Instant periodStart) {
+        List<TenantUsageId> ids = snapshots.keySet().stream()
+                .map(tenant -> new TenantUsageId(tenant, periodStart, instanceId))
+                .toList();
+        Map<TenantUsageId, TenantUsage> existing = tenantUsageRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(TenantUsage::getId, Function.identity()));
+
+        List<TenantUsage> usages = new ArrayList<>(ids.size());
+        for (TenantUsageId id : ids) {
+            TenantUsageCounters.Snapshot snapshot = snapshots.get(id.getTenant());
+            TenantUsage usage = existing.computeIfAbsent(id, key -> TenantUsage.builder().id(key).build());
+
+            usage.setEditorOpens(usage.getEditorOpens() + snapshot.editorOpens());
+            usage.setSaves(usage.getSaves() + snapshot.saves());
+            usage.setJiraCalls(usage.getJiraCalls() + snapshot.jiraCalls());
+            usage.setJiraThrottled(usage.getJiraThrottled() + snapshot.jiraThrottled());
+            usage.setBytesTransferred(usage.getBytesTransferred() + snapshot.bytesTransferred());
+            usage.setJiraLatency(LatencyHistogram.merge(usage.getJiraLatency(), snapshot.jiraLatency()));
+            usage.setSaveLatency(LatencyHistogram.merge(usage.getSaveLatency(), snapshot.saveLatency()));
+
+            usages.add(usage);
+        }
+
+        return usages;
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.accounting;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+final class TenantUsageCounters {
+    private final LongAdder editorOpens = new LongAdder();
+    private final LongAdder saves = new LongAdder();
+    private final LongAdder jiraCalls = new LongAdder();
+    private final LongAdder jiraThrottled = new LongAdder();
+    private final LongAdder bytesTransferred = new LongAdder();
+    private final LatencyHistogram jiraLatency = new LatencyHistogram();
+    private final LatencyHistogram saveLatency = new LatencyHistogram();
+
+    private int idleFlushes;
+
+    void recordEditorOpen() {
+        editorOpens.increment();
+    }
+
+    void recordSave(final long bytes, final long durationNanos) {
+        saves.increment();
+        addBytes(bytes);
+        saveLatency.record(durationNanos);
+    }
+
+    void recordJiraCall(final boolean throttled, final long bytes, final long durationNanos) {
+        jiraCalls.increment();
+        if (throttled) {
+            jiraThrottled.increment();
+        }
+        addBytes(bytes);
+        jiraLatency.record(durationNanos);
+    }
+
+    /**
+     * Called from the flushing thread only.
+     */
+    Snapshot drain() {
+        Snapshot snapshot = new Snapshot(
+                editorOpens.sumThenReset(),
+                saves.sumThenReset(),
+                jiraCalls.sumThenReset(),
+                jiraThrottled.sumThenReset(),
+                bytesTransferred.sumThenReset(),
+                jiraLatency.drain(),
+                saveLatency.drain()
+        );
+
+        idleFlushes = snapshot.isEmpty() ? idleFlushes + 1 : 0;
+
+        return snapshot;
+    }
+
+    int getIdleFlushes() {
+        return idleFlushes;
+    }
+
+    private void addBytes(final long bytes) {
+        if (bytes > 0) {
+            bytesTransferred.add(bytes);
+        }
+    }
+
+    record Snapshot(long editorOpens, long saves, long jiraCalls, long jiraThrottled, long bytesTransferred,
+                    long[] jiraLatency, long[] saveLatency) {
+        boolean isEmpty() {
+            return editorOpens == 0 && saves == 0 && jiraCalls == 0 && bytesTransferred == 0;
+        }
+    }
+}
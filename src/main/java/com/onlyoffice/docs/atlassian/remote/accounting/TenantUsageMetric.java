@@ -0,0 +1,40 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.accounting;
+
+import java.util.function.ToLongFunction;
+
+
+public enum TenantUsageMetric {
+    EDITOR_OPENS(TenantUsageSummary::editorOpens),
+    SAVES(TenantUsageSummary::saves),
+    JIRA_CALLS(TenantUsageSummary::jiraCalls),
+    JIRA_THROTTLED(TenantUsageSummary::jiraThrottled),
+    BYTES_TRANSFERRED(TenantUsageSummary::bytesTransferred);
+
+    private final ToLongFunction<TenantUsageSummary> value;
+
+    TenantUsageMetric(final ToLongFunction<TenantUsageSummary> value) {
+        this.value = value;
+    }
+
+    public long valueOf(final TenantUsageSummary summary) {
+        return value.applyAsLong(summary);
+    }
+}
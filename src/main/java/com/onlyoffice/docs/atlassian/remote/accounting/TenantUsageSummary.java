@@ -0,0 +1,71 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.accounting;
+
+import com.onlyoffice.docs.atlassian.remote.entity.TenantUsage;
+
+
+public record TenantUsageSummary(String tenant, long editorOpens, long saves, long jiraCalls, long jiraThrottled,
+                                 long bytesTransferred, Latency jiraLatency, Latency saveLatency) {
+    private static final double P50 = 0.5;
+    private static final double P95 = 0.95;
+    private static final double P99 = 0.99;
+
+    static TenantUsageSummary of(final String tenant, final Iterable<TenantUsage> usages) {
+        long editorOpens = 0;
+        long saves = 0;
+        long jiraCalls = 0;
+        long jiraThrottled = 0;
+        long bytesTransferred = 0;
+        long[] jiraLatency = null;
+        long[] saveLatency = null;
+
+        for (TenantUsage usage : usages) {
+            editorOpens += usage.getEditorOpens();
+            saves += usage.getSaves();
+            jiraCalls += usage.getJiraCalls();
+            jiraThrottled += usage.getJiraThrottled();
+            bytesTransferred += usage.getBytesTransferred();
+            jiraLatency = LatencyHistogram.merge(jiraLatency, usage.getJiraLatency());
+            saveLatency = LatencyHistogram.merge(saveLatency, usage.getSaveLatency());
+        }
+
+        return new TenantUsageSummary(
+                tenant,
+                editorOpens,
+                saves,
+                jiraCalls,
+                jiraThrottled,
+                bytesTransferred,
+                Latency.of(jiraLatency),
+                Latency.of(saveLatency)
+        );
+    }
+
+    public record Latency(long count, long p50Micros, long p95Micros, long p99Micros) {
+        static Latency of(final long[] counts) {
+            return new Latency(
+                    LatencyHistogram.count(counts),
+                    LatencyHistogram.percentileMicros(counts, P50),
+                    LatencyHistogram.percentileMicros(counts, P95),
+                    LatencyHistogram.percentileMicros(counts, P99)
+            );
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.accounting;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+
+@Component
+@Endpoint(id = "tenants")
+@RequiredArgsConstructor
+public class TenantsEndpoint {
+    private static final int DEFAULT_LIMIT = 10;
+    private static final Duration DEFAULT_WINDOW = Duration.ofDays(1);
+
+    private final TenantAccountingService tenantAccountingService;
+
+    @ReadOperation
+    public List<TenantUsageSummary> topTenants(final @Nullable TenantUsageMetric orderBy,
+                                               final @Nullable Duration window,
+                                               final @Nullable Integer limit) {
+        return tenantAccountingService.findTopTenants(
+                Objects.requireNonNullElse(orderBy, TenantUsageMetric.JIRA_CALLS),
+                Objects.requireNonNullElse(window, DEFAULT_WINDOW),
+                Objects.requireNonNullElse(limit, DEFAULT_LIMIT)
+        );
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.admission;
+
+import com.onlyoffice.docs.atlassian.remote.configuration.AdmissionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Admits inbound requests against one adaptive limit shared by the endpoint groups. Each group has its
+ * {@code share} of the limit reserved inside it: a group above its share only gets what is left once the unused
+ * shares of the other groups are set aside, so callback saves keep their capacity while editor opens are turned
+ * away, and the requests in flight never exceed the limit.
+ */
+@Service
+public class AdmissionService {
+    private static final String GROUP_TAG = "group";
+
+    private final GradientLimit limit;
+    private final List<Group> groups = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public AdmissionService(final AdmissionProperties admissionProperties, final MeterRegistry meterRegistry) {
+        this.limit = new GradientLimit(admissionProperties.getLimit());
+
+        admissionProperties.getGroups().forEach((name, groupConfig) -> {
+            Group group = new Group(
+                    groupConfig.getPatterns().stream()
+                            .map(PathPatternParser.defaultInstance::parse)
+                            .toList(),
+                    groupConfig.getShare(),
+                    groupConfig.isSampleLatency(),
+                    new AtomicInteger(),
+                    meterRegistry.counter("admission.rejected", GROUP_TAG, name)
+            );
+
+            Gauge.builder("admission.inflight", group.inFlight(), AtomicInteger::get)
+                    .tag(GROUP_TAG, name)
+                    .register(meterRegistry);
+
+            groups.add(group);
+        });
+
+        Gauge.builder("admission.limit", limit, GradientLimit::getLimit)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns a permit to release when the request completes, or nothing when the request has to be shed.
+     * Paths outside of the configured groups are not limited.
+     */
+    public Optional<Permit> tryAcquire(final String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        Group group = groups.stream()
+                .filter(candidate -> candidate.matches(pathContainer))
+                .findFirst()
+                .orElse(null);
+
+        if (group == null) {
+            return Optional.of(Permit.NONE);
+        }
+
+        int currentLimit = limit.getLimit();
+        int admitted;
+
+        // the total is claimed with a CAS, so the limit holds under contention; the reservations of the other
+        // groups are read without it and can only be overestimated by a request that is being admitted
+        do {
+            admitted = inFlight.get();
+
+            if (admitted >= currentLimit || (!group.isBelowShare(currentLimit)
+                    && admitted + unusedShares(group, currentLimit) >= currentLimit)) {
+                group.rejected().increment();
+                return Optional.empty();
+            }
+        } while (!inFlight.compareAndSet(admitted, admitted + 1));
+
+        group.inFlight().incrementAndGet();
+
+        return Optional.of(new Permit(this, group, admitted + 1));
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    private int unusedShares(final Group group, final int currentLimit) {
+        int unused = 0;
+
+        for (Group other : groups) {
+            if (other != group) {
+                unused += Math.max(0, other.share(currentLimit) - other.inFlight().get());
+            }
+        }
+
+        return unused;
+    }
+
+    private void release(final Permit permit) {
+        permit.group.inFlight().decrementAndGet();
+        inFlight.decrementAndGet();
+
+        if (permit.group.sampleLatency()) {
+            limit.onSample(System.nanoTime() - permit.startedAt, permit.inFlight);
+        }
+    }
+
+    private record Group(List<PathPattern> patterns, double share, boolean sampleLatency, AtomicInteger inFlight,
+                         Counter rejected) {
+        boolean matches(final PathContainer path) {
+            return patterns.stream().anyMatch(pattern -> pattern.matches(path));
+        }
+
+        int share(final int currentLimit) {
+            return Math.max(1, (int) Math.ceil(currentLimit * share));
+        }
+
+        boolean isBelowShare(final int currentLimit) {
+            return inFlight.get() < share(currentLimit);
+        }
+    }
+
+    public static final class Permit {
+        public static final Permit NONE = new Permit(null, null, 0);
+
+        private final AdmissionService service;
+        private final Group group;
+        private final int inFlight;
+        private final long startedAt = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(final AdmissionService service, final Group group, final int inFlight) {
+            this.service = service;
+            this.group = group;
+            this.inFlight = inFlight;
+        }
+
+        public void release() {
+            if (service != null && released.compareAndSet(false, true)) {
+                service.release(this);
+            }
+        }
+    }
+}
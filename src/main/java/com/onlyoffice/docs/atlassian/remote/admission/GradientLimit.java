@@ -0,0 +1,98 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.admission;
+
+import com.onlyoffice.docs.atlassian.remote.configuration.AdmissionProperties;
+
+
+/**
+ * Concurrency limit that follows the latency gradient. Latencies are averaged over a window of requests and
+ * compared with their long-term average: while they stay within {@code tolerance} of it the limit grows by about
+ * the square root of itself, once requests start queueing behind a saturated resource it shrinks in proportion.
+ */
+public class GradientLimit {
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double MAX_GRADIENT = 1.0;
+    private static final double LONG_RTT_DRIFT = 2.0;
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private final AdmissionProperties.LimitConfig config;
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRtt;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    public GradientLimit(final AdmissionProperties.LimitConfig config) {
+        this.config = config;
+        this.estimatedLimit = config.getInitial();
+        this.limit = config.getInitial();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public synchronized void onSample(final long rttNanos, final int inFlight) {
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+
+        if (windowSamples < config.getSampleWindow()) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowSamples;
+        int maxInFlight = windowMaxInFlight;
+
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+
+        update(shortRtt, maxInFlight);
+    }
+
+    private void update(final double shortRtt, final int maxInFlight) {
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) / config.getLongWindow();
+        }
+
+        // Latency dropped well below the long-term average, let the average catch up faster.
+        if (longRtt / shortRtt > LONG_RTT_DRIFT) {
+            longRtt *= LONG_RTT_DECAY;
+        }
+
+        // Not enough requests to reach the limit, latency tells nothing about it.
+        if (maxInFlight < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(MAX_GRADIENT, config.getTolerance() * longRtt / shortRtt));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+
+        double smoothedLimit = (1 - config.getSmoothing()) * estimatedLimit + config.getSmoothing() * newLimit;
+
+        estimatedLimit = Math.max(config.getMin(), Math.min(config.getMax(), smoothedLimit));
+        limit = (int) estimatedLimit;
+    }
+}
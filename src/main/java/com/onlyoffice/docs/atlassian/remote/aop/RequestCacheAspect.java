@@ -18,42 +18,83 @@
 
 package com.onlyoffice.docs.atlassian.remote.aop;
 
+import com.onlyoffice.docs.atlassian.remote.api.Product;
 import com.onlyoffice.docs.atlassian.remote.cache.RequestScopedCache;
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
+import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 @Aspect
 @Component
 @RequiredArgsConstructor
 public class RequestCacheAspect {
+    private static final String METER_NAME = "request.cache";
+
     private final RequestScopedCache requestScopedCache;
+    private final MeterRegistry meterRegistry;
+    private final SecurityUtils securityUtils;
+
+    private final Map<Method, String> cacheNames = new ConcurrentHashMap<>();
+    private final Map<CounterKey, Counter> counters = new ConcurrentHashMap<>();
 
     @Around("@annotation(RequestCacheable)")
     public Object cacheAround(final ProceedingJoinPoint pjp) throws Throwable {
+        if (Objects.isNull(RequestContextHolder.getRequestAttributes())) {
+            return pjp.proceed();
+        }
+
         Method method = ((MethodSignature) pjp.getSignature()).getMethod();
 
-        String key = method.getDeclaringClass().getName() + "#" + method.getName()
-                    + Arrays.toString(pjp.getArgs());
+        String key = createKey(method, pjp.getArgs());
 
         Object cachedData = requestScopedCache.get(key);
 
+        String cacheName = cacheNames.computeIfAbsent(
+                method,
+                m -> m.getDeclaringClass().getSimpleName() + "." + m.getName()
+        );
+        Product product = securityUtils.findCurrentProduct().orElse(null);
+
         if (!Objects.isNull(cachedData)) {
+            counter(cacheName, product, true).increment();
             return cachedData;
         }
 
+        counter(cacheName, product, false).increment();
         Object result = pjp.proceed();
 
         requestScopedCache.put(key, result);
 
         return result;
     }
+
+    private Counter counter(final String cacheName, final Product product, final boolean hit) {
+        return counters.computeIfAbsent(new CounterKey(cacheName, product, hit), key -> Counter.builder(METER_NAME)
+                .tag("cache", key.cacheName())
+                .tag(MetricsTags.PRODUCT, Objects.isNull(key.product()) ? MetricsTags.NONE : key.product().name())
+                .tag("result", key.hit() ? "hit" : "miss")
+                .register(meterRegistry));
+    }
+
+    public static String createKey(final Method method, final Object[] args) {
+        return method.getDeclaringClass().getName() + "#" + method.getName() + Arrays.toString(args);
+    }
+
+    private record CounterKey(String cacheName, Product product, boolean hit) {
+    }
 }
@@ -0,0 +1,197 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.bulkhead;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.configuration.BulkheadProperties;
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+
+/**
+ * Bounds the requests served at the same time per lane, so background transfers cannot take the capacity of
+ * editor opens, and per tenant within a lane, so one tenant cannot take the whole lane. A request that finds
+ * no permit waits up to {@code max-wait} if the queue has room and is rejected otherwise.
+ */
+@Service
+public class BulkheadService {
+    private static final String LANE_TAG = "lane";
+    private static final String SCOPE_TAG = "scope";
+
+    private final BulkheadProperties bulkheadProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<BulkheadLane, Bulkhead> lanes = new EnumMap<>(BulkheadLane.class);
+    private final Map<BulkheadLane, Cache<String, Bulkhead>> tenants = new EnumMap<>(BulkheadLane.class);
+
+    public BulkheadService(final BulkheadProperties bulkheadProperties, final MeterRegistry meterRegistry) {
+        this.bulkheadProperties = bulkheadProperties;
+        this.meterRegistry = meterRegistry;
+
+        for (BulkheadLane lane : BulkheadLane.values()) {
+            BulkheadProperties.LaneConfig laneConfig = bulkheadProperties.getLane(lane);
+            Bulkhead bulkhead = new Bulkhead(laneConfig.getMaxConcurrent(), laneConfig.getMaxQueued());
+
+            lanes.put(lane, bulkhead);
+            // A tenant bulkhead in use weighs nothing and does not expire, so it is never evicted while a request
+            // holds or waits for its permits; otherwise the next request would get a fresh one with all permits.
+            tenants.put(lane, Caffeine.newBuilder()
+                    .maximumWeight(bulkheadProperties.getMaximumTenants())
+                    .weigher((String tenantId, Bulkhead tenant) -> tenant.isInUse() ? 0 : 1)
+                    .expireAfter(new IdleExpiry(bulkheadProperties.getTenantIdleTimeout()))
+                    .build());
+
+            Gauge.builder("bulkhead.active", bulkhead, Bulkhead::getActive)
+                    .tag(LANE_TAG, tag(lane))
+                    .register(meterRegistry);
+            Gauge.builder("bulkhead.queued", bulkhead, Bulkhead::getQueued)
+                    .tag(LANE_TAG, tag(lane))
+                    .register(meterRegistry);
+        }
+    }
+
+    public Permit acquire(final BulkheadLane lane, final String tenantId, final Context context) {
+        if (!bulkheadProperties.isEnabled()) {
+            return Permit.NONE;
+        }
+
+        BulkheadProperties.LaneConfig laneConfig = bulkheadProperties.getLane(lane);
+        long deadline = System.nanoTime() + laneConfig.getMaxWait().toNanos();
+
+        Bulkhead tenant = tenants.get(lane).asMap().compute(tenantId, (key, existing) -> {
+            Bulkhead bulkhead = Objects.requireNonNullElseGet(
+                    existing,
+                    () -> new Bulkhead(laneConfig.getTenantMaxConcurrent(), laneConfig.getTenantMaxQueued())
+            );
+            bulkhead.enter();
+
+            return bulkhead;
+        });
+
+        if (!tenant.tryAcquire(deadline)) {
+            leave(lane, tenantId, tenant);
+            throw reject(lane, true, context);
+        }
+
+        Bulkhead shared = lanes.get(lane);
+
+        if (!shared.tryAcquire(deadline)) {
+            tenant.release();
+            leave(lane, tenantId, tenant);
+            throw reject(lane, false, context);
+        }
+
+        return new Permit(this, lane, tenantId, shared, tenant);
+    }
+
+    private void release(final Permit permit) {
+        permit.shared.release();
+        permit.tenant.release();
+        leave(permit.lane, permit.tenantId, permit.tenant);
+    }
+
+    /**
+     * Recomputes the entry after the caller left, so its weight and idle timeout follow the remaining users.
+     */
+    private void leave(final BulkheadLane lane, final String tenantId, final Bulkhead tenant) {
+        tenant.leave();
+        tenants.get(lane).asMap().computeIfPresent(tenantId, (key, current) -> current);
+    }
+
+    private BulkheadFullException reject(final BulkheadLane lane, final boolean tenantLimit, final Context context) {
+        meterRegistry.counter(
+                "bulkhead.rejected",
+                MetricsTags.of(context).and(
+                        Tags.of(LANE_TAG, tag(lane), SCOPE_TAG, tenantLimit ? "tenant" : "lane")
+                )
+        ).increment();
+
+        return new BulkheadFullException(lane, tenantLimit);
+    }
+
+    private static String tag(final BulkheadLane lane) {
+        return lane.name().toLowerCase();
+    }
+
+    public static final class Permit {
+        public static final Permit NONE = new Permit(null, null, null, null, null);
+
+        private final BulkheadService service;
+        private final BulkheadLane lane;
+        private final String tenantId;
+        private final Bulkhead shared;
+        private final Bulkhead tenant;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(final BulkheadService service, final BulkheadLane lane, final String tenantId,
+                       final Bulkhead shared, final Bulkhead tenant) {
+            this.service = service;
+            this.lane = lane;
+            this.tenantId = tenantId;
+            this.shared = shared;
+            this.tenant = tenant;
+        }
+
+        public void release() {
+            if (service != null && released.compareAndSet(false, true)) {
+                service.release(this);
+            }
+        }
+    }
+
+    private static final class IdleExpiry implements Expiry<String, Bulkhead> {
+        private final long idleTimeoutNanos;
+
+        private IdleExpiry(final Duration idleTimeout) {
+            this.idleTimeoutNanos = idleTimeout.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(final String tenantId, final Bulkhead tenant, final long currentTime) {
+            return expiry(tenant);
+        }
+
+        @Override
+        public long expireAfterUpdate(final String tenantId, final Bulkhead tenant, final long currentTime,
+                                      final long currentDuration) {
+            return expiry(tenant);
+        }
+
+        @Override
+        public long expireAfterRead(final String tenantId, final Bulkhead tenant, final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+
+        private long expiry(final Bulkhead tenant) {
+            return tenant.isInUse() ? Long.MAX_VALUE : idleTimeoutNanos;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.cache;
+
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+
+import java.util.UUID;
+
+
+/**
+ * Redis key layouts. Keys of a tenant carry the product and cloud ID in a hash tag, so on Redis Cluster they
+ * land in the same slot: the system and user tokens of a tenant and its rate limit buckets can be used together
+ * in multi-key commands and scripts, while tenants are still spread over the cluster.
+ */
+public final class RedisKeys {
+    private static final int TOKEN_ID_PARTS_LIMIT = 3;
+
+    private RedisKeys() {
+    }
+
+    public static String tenantTag(final Product product, final UUID cloudId) {
+        return tenantTag(product + ":" + cloudId);
+    }
+
+    /**
+     * Key of an X-Forge token by its ID ({@code PRODUCT:cloudId} or {@code PRODUCT:cloudId:accountId}).
+     */
+    public static String xForgeToken(final XForgeTokenType xForgeTokenType, final String tokenId) {
+        String[] parts = tokenId.split(":", TOKEN_ID_PARTS_LIMIT);
+
+        if (parts.length < 2) {
+            return legacyXForgeToken(xForgeTokenType, tokenId);
+        }
+
+        String key = xForgeTokenType.getValue() + "::" + tenantTag(parts[0] + ":" + parts[1]);
+
+        return parts.length > 2 ? key + ":" + parts[2] : key;
+    }
+
+    /**
+     * Key of an X-Forge token written before the keys were hash tagged.
+     */
+    public static String legacyXForgeToken(final XForgeTokenType xForgeTokenType, final String tokenId) {
+        return xForgeTokenType.getValue() + "::" + tokenId;
+    }
+
+    public static String rateLimit(final String endpoint, final Product product, final UUID cloudId) {
+        return "rate-limit::" + tenantTag(product, cloudId) + ":" + endpoint;
+    }
+
+    /**
+     * Key of the attachment a save callback uploaded in place of the edited attachment {@code attachmentId}.
+     */
+    public static String uploadedAttachment(final Product product, final UUID cloudId, final String attachmentId) {
+        return "uploaded-attachment::" + tenantTag(product, cloudId) + ":" + attachmentId;
+    }
+
+    private static String tenantTag(final String tenant) {
+        return "{" + tenant + "}";
+    }
+}
@@ -18,19 +18,33 @@
 
 package com.onlyoffice.docs.atlassian.remote.client.ds;
 
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
 import com.onlyoffice.manager.url.UrlManager;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
 import lombok.RequiredArgsConstructor;
 import org.apache.hc.core5.http.NameValuePair;
 import org.apache.hc.core5.net.URIBuilder;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 
 @Component
@@ -38,8 +52,10 @@ import java.util.List;
 public class DocumentServerClient {
     private final WebClient documentSeverWebClient;
     private final UrlManager urlManager;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
 
-    public Flux<DataBuffer> getFile(final String url) {
+    public Mono<DocumentServerFile> getFile(final String url, final Context context) {
         String relativeFileUri = stripDocumentServerUrl(url);
 
         URI uri = createUri(
@@ -48,10 +64,52 @@ public class DocumentServerClient {
                 Collections.emptyList()
         );
 
-        return documentSeverWebClient.get()
-                .uri(uri)
-                .retrieve()
-                .bodyToFlux(DataBuffer.class);
+        return Mono.defer(() -> {
+            Observation observation = Observation.createNotStarted("ds.download", observationRegistry)
+                    .lowCardinalityKeyValues(KeyValues.of(MetricsTags.of(context), Tag::getKey, Tag::getValue))
+                    .start();
+            AtomicLong bytes = new AtomicLong();
+            AtomicBoolean stopped = new AtomicBoolean();
+            Consumer<SignalType> stop = signalType -> {
+                if (!stopped.compareAndSet(false, true)) {
+                    return;
+                }
+
+                String outcome = MetricsTags.outcome(signalType);
+
+                observation.lowCardinalityKeyValue(MetricsTags.OUTCOME, outcome)
+                        .highCardinalityKeyValue("bytes", String.valueOf(bytes.get()))
+                        .stop();
+                DistributionSummary.builder("ds.download.bytes")
+                        .baseUnit(BaseUnits.BYTES)
+                        .tags(MetricsTags.of(context).and(MetricsTags.OUTCOME, outcome))
+                        .register(meterRegistry)
+                        .record(bytes.get());
+            };
+
+            return documentSeverWebClient.get()
+                    .uri(uri)
+                    .retrieve()
+                    .toEntityFlux(DataBuffer.class)
+                    .doOnError(observation::error)
+                    .doOnError(e -> stop.accept(SignalType.ON_ERROR))
+                    .doOnCancel(() -> stop.accept(SignalType.CANCEL))
+                    .map(response -> new DocumentServerFile(
+                            response.getHeaders().getContentLength(),
+                            response.getBody()
+                                    .doOnNext(dataBuffer -> bytes.addAndGet(dataBuffer.readableByteCount()))
+                                    .doOnError(observation::error)
+                                    .doFinally(stop)
+                                    .contextWrite(reactorContext -> reactorContext.put(
+                                            ObservationThreadLocalAccessor.KEY,
+                                            observation
+                                    ))
+                    ))
+                    .contextWrite(reactorContext -> reactorContext.put(
+                            ObservationThreadLocalAccessor.KEY,
+                            observation
+                    ));
+        });
     }
 
     protected URI createUri(final String baseUrl, final String path, final List<NameValuePair> parameters) {
@@ -19,14 +19,18 @@
 package com.onlyoffice.docs.atlassian.remote.client.jira;
 
 import com.onlyoffice.docs.atlassian.remote.aop.RequestCacheable;
+import com.onlyoffice.docs.atlassian.remote.api.Product;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraAttachment;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermissions;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermissionsKey;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraSettings;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraUser;
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
+import com.onlyoffice.docs.atlassian.remote.metrics.WebClientMetricsFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Component;
@@ -39,17 +43,20 @@ import reactor.core.publisher.Mono;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 
 @Component
 @RequiredArgsConstructor
 public class JiraClient {
     private final WebClient atlassianWebClient;
+    private final WebClient atlassianTransferWebClient;
 
     @RequestCacheable
     public Mono<JiraUser> getUser(final UUID cloudId, final String token) {
         return atlassianWebClient.get()
                 .uri("/ex/jira/{cloudId}/rest/api/3/myself", cloudId)
+                .attributes(metrics("getUser", cloudId))
                 .headers(httpHeaders -> {
                     httpHeaders.setBearerAuth(token);
                 })
@@ -62,6 +69,7 @@ public class JiraClient {
     public Mono<JiraAttachment> getAttachment(final UUID cloudId, final String attachmentId, final String token) {
         return atlassianWebClient.get()
                 .uri("/ex/jira/{cloudId}/rest/api/3/attachment/{attachmentId}", cloudId, attachmentId)
+                .attributes(metrics("getAttachment", cloudId))
                 .headers(httpHeaders -> {
                     httpHeaders.setBearerAuth(token);
                 })
@@ -71,23 +79,36 @@ public class JiraClient {
     }
 
     public ClientResponse getAttachmentData(final String cloudId, final String attachmentId, final String token) {
-        return atlassianWebClient.get()
+        return atlassianTransferWebClient.get()
                 .uri("/ex/jira/{cloudId}/rest/api/3/attachment/content/{attachmentId}",
                         cloudId, attachmentId)
+                .attributes(metrics("getAttachmentData", cloudId))
                 .headers(h -> h.setBearerAuth(token))
                 .exchangeToMono(Mono::just)
                 .block();
     }
 
-    public List<JiraAttachment> createAttachment(final UUID cloudId, final String issueId, final Flux<DataBuffer> file,
-                                                 final String fileName, final String token) {
+    public Mono<List<JiraAttachment>> createAttachment(final UUID cloudId, final String issueId,
+                                                       final AttachmentFile file, final String token) {
+        return createAttachments(cloudId, issueId, List.of(file), token);
+    }
+
+    public Mono<List<JiraAttachment>> createAttachments(final UUID cloudId, final String issueId,
+                                                        final List<AttachmentFile> files, final String token) {
         MultipartBodyBuilder builder = new MultipartBodyBuilder();
-        builder.asyncPart("file", file, DataBuffer.class)
-                .filename(fileName)
-                .contentType(MediaType.APPLICATION_OCTET_STREAM);
+        for (AttachmentFile file : files) {
+            MultipartBodyBuilder.PartBuilder part = builder.asyncPart("file", file.content(), DataBuffer.class)
+                    .filename(file.fileName())
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM);
 
-        return atlassianWebClient.post()
+            if (file.contentLength() >= 0) {
+                part.header(HttpHeaders.CONTENT_LENGTH, String.valueOf(file.contentLength()));
+            }
+        }
+
+        return atlassianTransferWebClient.post()
                 .uri("/ex/jira/{cloudId}/rest/api/3/issue/{issueKey}/attachments", cloudId, issueId)
+                .attributes(metrics("createAttachments", cloudId))
                 .headers(httpHeaders -> {
                     httpHeaders.setBearerAuth(token);
                     httpHeaders.set("X-Atlassian-Token", "no-check");
@@ -95,13 +116,13 @@ public class JiraClient {
                 .contentType(MediaType.MULTIPART_FORM_DATA)
                 .body(BodyInserters.fromMultipartData(builder.build()))
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<JiraAttachment>>() { })
-                .block();
+                .bodyToMono(new ParameterizedTypeReference<List<JiraAttachment>>() { });
     }
 
     public void deleteAttachment(final UUID cloudId, final String attachmentId, final String token) {
         atlassianWebClient.delete()
                 .uri("/ex/jira/{cloudId}/rest/api/3/attachment/{attachmentId}", cloudId, attachmentId)
+                .attributes(metrics("deleteAttachment", cloudId))
                 .headers(httpHeaders -> {
                     httpHeaders.setBearerAuth(token);
                     httpHeaders.set("X-Atlassian-Token", "no-check");
@@ -120,6 +141,7 @@ public class JiraClient {
                         .queryParam("permissions", permissions)
                         .build(cloudId)
                 )
+                .attributes(metrics("getIssuePermissions", cloudId))
                 .headers(httpHeaders -> {
                     httpHeaders.setBearerAuth(token);
                 })
@@ -132,6 +154,7 @@ public class JiraClient {
     public Mono<JiraSettings> getSettings(final String settingsKey, final String token) {
         return atlassianWebClient.post()
                 .uri("/forge/storage/kvs/v1/secret/get")
+                .attributes(metrics("getSettings", null))
                 .headers(httpHeaders -> {
                     httpHeaders.setBearerAuth(token);
                 })
@@ -140,4 +163,14 @@ public class JiraClient {
                 .bodyToMono(new ParameterizedTypeReference<JiraSettings>() { })
                 .cache();
     }
+
+    private static Consumer<Map<String, Object>> metrics(final String operation, final Object cloudId) {
+        return WebClientMetricsFilter.attributes(operation, MetricsTags.of(Product.JIRA, cloudId));
+    }
+
+    /**
+     * File part of an attachment upload, {@code contentLength} is {@code -1} when it is not known upfront.
+     */
+    public record AttachmentFile(String fileName, Flux<DataBuffer> content, long contentLength) {
+    }
 }
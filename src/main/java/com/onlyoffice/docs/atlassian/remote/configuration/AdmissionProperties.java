@@ -0,0 +1,61 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+@Component
+@ConfigurationProperties(prefix = "app.admission")
+@Getter
+@Setter
+public class AdmissionProperties {
+    private boolean enabled;
+    private Duration retryAfter;
+    private LimitConfig limit;
+    private Map<String, GroupConfig> groups = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class LimitConfig {
+        private int initial;
+        private int min;
+        private int max;
+        private double smoothing;
+        private double tolerance;
+        private int sampleWindow;
+        private int longWindow;
+    }
+
+    @Getter
+    @Setter
+    public static class GroupConfig {
+        private List<String> patterns;
+        private double share;
+        private boolean sampleLatency;
+    }
+}
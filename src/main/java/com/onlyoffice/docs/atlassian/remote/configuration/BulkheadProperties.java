@@ -0,0 +1,57 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.configuration;
+
+import com.onlyoffice.docs.atlassian.remote.bulkhead.BulkheadLane;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+
+@Component
+@ConfigurationProperties(prefix = "app.bulkhead")
+@Getter
+@Setter
+public class BulkheadProperties {
+    private boolean enabled;
+    private int maximumTenants;
+    private Duration tenantIdleTimeout;
+    private LaneConfig interactive;
+    private LaneConfig background;
+
+    public LaneConfig getLane(final BulkheadLane lane) {
+        return switch (lane) {
+            case INTERACTIVE -> interactive;
+            case BACKGROUND -> background;
+        };
+    }
+
+    @Getter
+    @Setter
+    public static class LaneConfig {
+        private int maxConcurrent;
+        private int maxQueued;
+        private int tenantMaxConcurrent;
+        private int tenantMaxQueued;
+        private Duration maxWait;
+    }
+}
@@ -18,12 +18,19 @@
 
 package com.onlyoffice.docs.atlassian.remote.configuration;
 
+import com.onlyoffice.docs.atlassian.remote.accounting.TenantAccountingFilter;
+import com.onlyoffice.docs.atlassian.remote.accounting.TenantAccountingService;
+import com.onlyoffice.docs.atlassian.remote.jfr.JiraRequestEventFilter;
+import com.onlyoffice.docs.atlassian.remote.metrics.JiraClientObservationConvention;
+import com.onlyoffice.docs.atlassian.remote.metrics.WebClientMetricsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 
 @Configuration
@@ -32,18 +39,57 @@ public class ClientConfiguration {
     private String atlassianApiBaseUrl;
 
     @Bean
-    WebClient atlassianWebClient() {
-        return WebClient.builder()
-                .baseUrl(atlassianApiBaseUrl)
+    WebClient atlassianWebClient(final WebClient.Builder webClientBuilder, final MeterRegistry meterRegistry,
+                                 final TenantAccountingService tenantAccountingService) {
+        return createAtlassianWebClient(webClientBuilder, "atlassian", meterRegistry, tenantAccountingService);
+    }
+
+    /**
+     * Attachment uploads and downloads stream file contents and hold a connection for as long as the other side
+     * of the transfer, e.g. a slow Document Server, so they use a pool separate from the editor's Jira calls.
+     */
+    @Bean
+    WebClient atlassianTransferWebClient(final WebClient.Builder webClientBuilder, final MeterRegistry meterRegistry,
+                                         final TenantAccountingService tenantAccountingService) {
+        return createAtlassianWebClient(webClientBuilder, "atlassian-transfer", meterRegistry, tenantAccountingService);
+    }
+
+    @Bean
+    WebClient forgeWebClient(final WebClient.Builder webClientBuilder) {
+        return webClientBuilder
                 .clientConnector(new ReactorClientHttpConnector(
-                        HttpClient.create().followRedirect(false)
+                        HttpClient.create(connectionProvider("forge"))
                 ))
                 .build();
     }
 
     @Bean
-    WebClient documentSeverWebClient() {
-        return WebClient.builder()
+    WebClient documentSeverWebClient(final WebClient.Builder webClientBuilder) {
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(
+                        HttpClient.create(connectionProvider("document-server"))
+                ))
+                .build();
+    }
+
+    private WebClient createAtlassianWebClient(final WebClient.Builder webClientBuilder, final String poolName,
+                                               final MeterRegistry meterRegistry,
+                                               final TenantAccountingService tenantAccountingService) {
+        return webClientBuilder
+                .baseUrl(atlassianApiBaseUrl)
+                .clientConnector(new ReactorClientHttpConnector(
+                        HttpClient.create(connectionProvider(poolName)).followRedirect(false)
+                ))
+                .filter(new WebClientMetricsFilter(meterRegistry, "jira.client.requests"))
+                .filter(new JiraRequestEventFilter())
+                .filter(new TenantAccountingFilter(tenantAccountingService))
+                .observationConvention(new JiraClientObservationConvention())
+                .build();
+    }
+
+    private static ConnectionProvider connectionProvider(final String name) {
+        return ConnectionProvider.builder(name)
+                .metrics(true)
                 .build();
     }
 }
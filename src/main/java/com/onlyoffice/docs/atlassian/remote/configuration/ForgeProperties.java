@@ -37,6 +37,7 @@ import java.util.Objects;
 public class ForgeProperties {
     private Map<Product, ProductConfig> products = new EnumMap<>(Product.class);
     private TokenConfig token;
+    private JwksConfig jwks;
 
     public Product getProductByAppId(final String appId) {
         if (Objects.isNull(appId)) {
@@ -70,4 +71,16 @@ public class ForgeProperties {
         private String header;
         private Duration refreshThreshold;
     }
+
+    @Setter
+    @Getter
+    public static class JwksConfig {
+        private Duration ttl;
+        private Duration refreshAhead;
+        private Duration refreshCheckInterval;
+        private Duration unknownKeyRefreshInterval;
+        private Duration fetchTimeout;
+        private Duration lockTimeout;
+        private long tokenCacheMaximumSize;
+    }
 }
@@ -0,0 +1,92 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.configuration;
+
+import com.onlyoffice.docs.atlassian.remote.health.HealthProbe;
+import com.onlyoffice.docs.atlassian.remote.security.ForgeJwkSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+
+@Configuration
+public class HealthConfiguration {
+    public static final String REDIS = "redis";
+    public static final String POSTGRES = "postgres";
+    public static final String JWKS = "jwks";
+    public static final String DOCUMENT_SERVER = "document-server";
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.redis", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public HealthProbe redisHealthProbe(final RedisConnectionFactory redisConnectionFactory) {
+        return new HealthProbe(REDIS, () -> {
+            try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+                connection.ping();
+            }
+        });
+    }
+
+    @Bean
+    public HealthProbe postgresHealthProbe(final DataSource dataSource, final HealthProperties healthProperties) {
+        int timeoutSeconds = (int) Math.max(1, healthProperties.getProbeTimeout().toSeconds());
+
+        return new HealthProbe(POSTGRES, () -> {
+            try (Connection connection = dataSource.getConnection()) {
+                if (!connection.isValid(timeoutSeconds)) {
+                    throw new SQLException("Connection is not valid");
+                }
+            }
+        });
+    }
+
+    @Bean
+    public HealthProbe jwksHealthProbe(final ForgeJwkSource forgeJwkSource) {
+        return new HealthProbe(JWKS, () -> {
+            if (forgeJwkSource.getKeyCount() == 0) {
+                throw new IllegalStateException("Forge JWKS has no keys");
+            }
+        });
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "app.health.document-server-url")
+    public HealthProbe documentServerHealthProbe(final WebClient documentSeverWebClient,
+                                                 final HealthProperties healthProperties) {
+        URI uri = UriComponentsBuilder.fromUriString(healthProperties.getDocumentServerUrl())
+                .path("/healthcheck")
+                .build()
+                .toUri();
+
+        return new HealthProbe(DOCUMENT_SERVER, () -> documentSeverWebClient.get()
+                .uri(uri)
+                .retrieve()
+                .toBodilessEntity()
+                .block(healthProperties.getProbeTimeout())
+        );
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.configuration;
+
+import com.onlyoffice.docs.atlassian.remote.metrics.ServerTimingObservationHandler;
+import com.onlyoffice.docs.atlassian.remote.metrics.TenantTagMeterFilter;
+import com.onlyoffice.docs.atlassian.remote.web.filter.ServerTimingFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+
+@Configuration
+public class MetricsConfiguration {
+    @Bean
+    public TenantTagMeterFilter tenantTagMeterFilter(
+            final @Value("${app.metrics.tenant-tag.enabled}") boolean enabled,
+            final @Value("${app.metrics.tenant-tag.maximum-tenants}") int maximumTenants) {
+        return new TenantTagMeterFilter(enabled, maximumTenants);
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "app.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(
+            final @Value("${app.server-timing.log-requests}") boolean logRequests) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+                new ServerTimingFilter(logRequests)
+        );
+
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "app.server-timing.enabled", havingValue = "true", matchIfMissing = true)
+    public ServerTimingObservationHandler serverTimingObservationHandler() {
+        return new ServerTimingObservationHandler();
+    }
+}
@@ -18,19 +18,84 @@
 
 package com.onlyoffice.docs.atlassian.remote.configuration;
 
+import com.onlyoffice.docs.atlassian.remote.service.TenantSettingsService;
+import io.lettuce.core.ReadFrom;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
+
 
 @Configuration
 public class RedisConfiguration {
 
     @Bean
     public RedisTemplate<String, String> redisXForgeTokensTemplate(final RedisConnectionFactory factory) {
+        return createXForgeTokensTemplate(factory);
+    }
+
+    @Bean
+    public RedisTemplate<String, String> redisXForgeTokensReadTemplate(
+            final RedisConnectionFactory factory,
+            final @Qualifier("redisTokenReadConnectionFactory") ObjectProvider<RedisConnectionFactory>
+                    tokenReadConnectionFactory) {
+        return createXForgeTokensTemplate(tokenReadConnectionFactory.getIfAvailable(() -> factory));
+    }
+
+    /**
+     * Connection to the same Redis deployment (standalone, Sentinel or Cluster) with its own {@link ReadFrom}, used
+     * for token reads only. It is not a default candidate, so the auto-configured connection factory stays in place
+     * for everything else.
+     */
+    @Bean(defaultCandidate = false)
+    @ConditionalOnExpression("!'${app.redis.token-read-from:}'.isBlank()")
+    public LettuceConnectionFactory redisTokenReadConnectionFactory(
+            final LettuceConnectionFactory redisConnectionFactory,
+            final @Value("${app.redis.token-read-from}") String tokenReadFrom) {
+        LettuceClientConfiguration clientConfiguration = redisConnectionFactory.getClientConfiguration();
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder()
+                .readFrom(ReadFrom.valueOf(tokenReadFrom))
+                .commandTimeout(clientConfiguration.getCommandTimeout())
+                .shutdownTimeout(clientConfiguration.getShutdownTimeout());
+
+        clientConfiguration.getClientResources().ifPresent(builder::clientResources);
+        clientConfiguration.getClientOptions().ifPresent(builder::clientOptions);
+        clientConfiguration.getClientName().ifPresent(builder::clientName);
+
+        if (clientConfiguration.isUseSsl()) {
+            LettuceClientConfiguration.LettuceSslClientConfigurationBuilder sslBuilder = builder.useSsl()
+                    .verifyPeer(clientConfiguration.getVerifyMode());
+
+            if (clientConfiguration.isStartTls()) {
+                sslBuilder.startTls();
+            }
+        }
+
+        if (redisConnectionFactory.isClusterAware()) {
+            return new LettuceConnectionFactory(redisConnectionFactory.getClusterConfiguration(), builder.build());
+        }
+
+        if (redisConnectionFactory.isRedisSentinelAware()) {
+            return new LettuceConnectionFactory(redisConnectionFactory.getSentinelConfiguration(), builder.build());
+        }
+
+        return new LettuceConnectionFactory(redisConnectionFactory.getStandaloneConfiguration(), builder.build());
+    }
+
+    private static RedisTemplate<String, String> createXForgeTokensTemplate(final RedisConnectionFactory factory) {
         RedisTemplate<String, String> template = new RedisTemplate<>();
         template.setConnectionFactory(factory);
 
@@ -41,4 +106,22 @@ public class RedisConfiguration {
 
         return template;
     }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.redis", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            final RedisConnectionFactory factory,
+            final TenantSettingsService tenantSettingsService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+
+        container.addMessageListener(
+                (message, pattern) -> tenantSettingsService.evict(
+                        new String(message.getBody(), StandardCharsets.UTF_8)
+                ),
+                new ChannelTopic(TenantSettingsService.INVALIDATION_CHANNEL)
+        );
+
+        return container;
+    }
 }
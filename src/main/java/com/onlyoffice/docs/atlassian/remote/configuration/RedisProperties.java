@@ -0,0 +1,38 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * With {@code enabled} off the instance runs without Redis: the rate limits are off by default, and the Forge JWKS,
+ * tenant settings invalidations and the callback save journal stay local to the instance. Only valid for a single
+ * instance with the {@code memory} or {@code postgres} token store.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.redis")
+@Getter
+@Setter
+public class RedisProperties {
+    private boolean enabled;
+}
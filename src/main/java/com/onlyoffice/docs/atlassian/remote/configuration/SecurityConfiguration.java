@@ -18,31 +18,40 @@
 
 package com.onlyoffice.docs.atlassian.remote.configuration;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.onlyoffice.docs.atlassian.remote.security.CachingJwtDecoder;
+import com.onlyoffice.docs.atlassian.remote.security.ForgeJwkSource;
 import com.onlyoffice.docs.atlassian.remote.security.RemoteAppAuthenticationFilter;
 import com.onlyoffice.docs.atlassian.remote.security.RemoteAppJwtService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.autoconfigure.security.oauth2.resource.servlet.JwkSetUriJwtDecoderBuilderCustomizer;
-import org.springframework.cache.CacheManager;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.cache.RedisCacheConfiguration;
-import org.springframework.data.redis.cache.RedisCacheManager;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.context.request.async.WebAsyncManagerIntegrationFilter;
 import org.springframework.web.filter.ForwardedHeaderFilter;
 
-import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 
 @Configuration
@@ -50,9 +59,7 @@ import java.time.Duration;
 @RequiredArgsConstructor
 public class SecurityConfiguration {
     private final RemoteAppJwtService remoteAppJwtService;
-
-    @Value("${spring.security.oauth2.resourceserver.jwt.jwk-ttl-in-days}")
-    private long jwkTTLInDays;
+    private final ForgeProperties forgeProperties;
 
     @Bean
     public SecurityFilterChain remoteAppAuthorizationFilterChain(final HttpSecurity http) throws Exception {
@@ -89,7 +96,8 @@ public class SecurityConfiguration {
                 })
                 .authorizeHttpRequests(auth ->
                                 auth
-                                        .requestMatchers("/api/v1/health").permitAll()
+                                        .requestMatchers("/api/v1/health", "/api/v1/health/**").permitAll()
+                                        .requestMatchers(WebConfiguration.STATIC_RESOURCES_PATH + "**").permitAll()
                                         .requestMatchers("/editor/**").authenticated()
                                         .requestMatchers("/api/**").authenticated()
                                         .anyRequest().permitAll()
@@ -116,17 +124,29 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    JwkSetUriJwtDecoderBuilderCustomizer jwkCustomizer(final CacheManager cacheManager) {
-        return (builder) -> {
-            builder.cache(cacheManager.getCache("spring:forge-jwks"));
-        };
-    }
+    public JwtDecoder jwtDecoder(final OAuth2ResourceServerProperties oAuth2ResourceServerProperties,
+                                final ForgeJwkSource forgeJwkSource) {
+        OAuth2ResourceServerProperties.Jwt jwtProperties = oAuth2ResourceServerProperties.getJwt();
 
-    @Bean
-    public CacheManager cacheManager(final RedisConnectionFactory connectionFactory) {
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig()
-                        .entryTtl(Duration.ofDays(jwkTTLInDays)))
+        Set<JWSAlgorithm> jwsAlgorithms = jwtProperties.getJwsAlgorithms()
+                .stream()
+                .map(JWSAlgorithm::parse)
+                .collect(Collectors.toSet());
+
+        NimbusJwtDecoder nimbusJwtDecoder = NimbusJwtDecoder.withJwkSetUri(jwtProperties.getJwkSetUri())
+                .jwtProcessorCustomizer(jwtProcessor -> jwtProcessor.setJWSKeySelector(
+                        new JWSVerificationKeySelector<>(jwsAlgorithms, forgeJwkSource)
+                ))
                 .build();
+
+        List<String> audiences = jwtProperties.getAudiences();
+        List<OAuth2TokenValidator<Jwt>> validators = List.of(
+                JwtValidators.createDefaultWithIssuer(jwtProperties.getIssuerUri()),
+                new JwtClaimValidator<List<String>>(JwtClaimNames.AUD,
+                        (aud) -> aud != null && !Collections.disjoint(aud, audiences))
+        );
+        nimbusJwtDecoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(validators));
+
+        return new CachingJwtDecoder(nimbusJwtDecoder, forgeProperties.getJwks().getTokenCacheMaximumSize());
     }
 }
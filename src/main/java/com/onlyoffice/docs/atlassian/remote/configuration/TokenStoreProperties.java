@@ -0,0 +1,55 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+
+@Component
+@ConfigurationProperties(prefix = "app.token-store")
+@Getter
+@Setter
+public class TokenStoreProperties {
+    private Type type;
+    private MemoryConfig memory;
+    private PostgresConfig postgres;
+
+    public enum Type {
+        MEMORY,
+        REDIS,
+        POSTGRES
+    }
+
+    @Getter
+    @Setter
+    public static class MemoryConfig {
+        private int maximumSize;
+    }
+
+    @Getter
+    @Setter
+    public static class PostgresConfig {
+        private Duration cleanupInterval;
+    }
+}
@@ -19,20 +19,81 @@
 
 package com.onlyoffice.docs.atlassian.remote.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onlyoffice.docs.atlassian.remote.admission.AdmissionService;
+import com.onlyoffice.docs.atlassian.remote.bulkhead.BulkheadLane;
+import com.onlyoffice.docs.atlassian.remote.bulkhead.BulkheadService;
+import com.onlyoffice.docs.atlassian.remote.ratelimit.RateLimitService;
+import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import com.onlyoffice.docs.atlassian.remote.web.filter.AdmissionControlFilter;
+import com.onlyoffice.docs.atlassian.remote.web.interceptor.BulkheadInterceptor;
+import com.onlyoffice.docs.atlassian.remote.web.interceptor.RateLimitInterceptor;
 import com.onlyoffice.docs.atlassian.remote.web.interceptor.XForgeTokenInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
 
 @Configuration
 @RequiredArgsConstructor
 public class WebConfiguration implements WebMvcConfigurer {
+    public static final String STATIC_RESOURCES_PATH = "/static/";
+
     private final XForgeTokenInterceptor xForgeTokenInterceptor;
+    private final BulkheadService bulkheadService;
+    private final RateLimitService rateLimitService;
+    private final SecurityUtils securityUtils;
+
+    @Value("${app.static-resources.version}")
+    private String staticResourcesVersion;
+    @Value("${app.static-resources.max-age}")
+    private Duration staticResourcesMaxAge;
+
+    @Bean
+    @ConditionalOnProperty(value = "app.admission.enabled", havingValue = "true")
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            final AdmissionService admissionService,
+            final ObjectMapper objectMapper,
+            final AdmissionProperties admissionProperties) {
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+                new AdmissionControlFilter(admissionService, objectMapper, admissionProperties.getRetryAfter())
+        );
+
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+
+        return registration;
+    }
 
     @Override
     public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitService, securityUtils))
+                .addPathPatterns("/editor/**", "/api/v1/remote/**", "/api/v1/callback/**", "/api/v1/download/**");
+        registry.addInterceptor(new BulkheadInterceptor(bulkheadService, securityUtils, BulkheadLane.INTERACTIVE))
+                .addPathPatterns("/editor/**", "/api/v1/remote/**");
+        registry.addInterceptor(new BulkheadInterceptor(bulkheadService, securityUtils, BulkheadLane.BACKGROUND))
+                .addPathPatterns("/api/v1/callback/**", "/api/v1/download/**");
         registry.addInterceptor(xForgeTokenInterceptor)
                 .addPathPatterns("/api/v1/remote/**");
     }
+
+    @Override
+    public void addResourceHandlers(final ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(STATIC_RESOURCES_PATH + "**")
+                .addResourceLocations("classpath:/static/")
+                .setCacheControl(CacheControl.maxAge(staticResourcesMaxAge).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addFixedVersionStrategy(staticResourcesVersion, "/**"));
+    }
 }
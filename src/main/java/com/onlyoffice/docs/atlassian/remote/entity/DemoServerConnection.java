@@ -26,6 +26,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 
 @AllArgsConstructor
 @Builder
@@ -36,5 +38,5 @@ import lombok.NoArgsConstructor;
 public class DemoServerConnection {
     @EmbeddedId
     private DemoServerConnectionId id;
-    private String startDate;
+    private Instant startedAt;
 }
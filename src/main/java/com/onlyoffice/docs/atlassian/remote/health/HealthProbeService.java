@@ -0,0 +1,219 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.health;
+
+import com.onlyoffice.docs.atlassian.remote.configuration.HealthProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HealthProbeService {
+    private final Instant startedAt = Instant.now();
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("health-probe-", 0).factory()
+    );
+    /**
+     * Probes run on their own thread rather than the shared task scheduler, so a slow scheduled job elsewhere
+     * cannot make the probe results stale and fail the liveness check.
+     */
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("health-probe-scheduler").daemon().factory()
+    );
+
+    private final List<HealthProbe> healthProbes;
+    private final HealthProperties healthProperties;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationAvailability applicationAvailability;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private volatile HealthSnapshot snapshot = HealthSnapshot.initial();
+    private volatile boolean applicationReady;
+
+    public HealthSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public boolean isLive() {
+        Instant lastCheckedAt = Objects.requireNonNullElse(snapshot.checkedAt(), startedAt);
+
+        return lastCheckedAt.plus(healthProperties.getStaleAfter()).isAfter(Instant.now());
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                runProbes();
+            } catch (RuntimeException e) {
+                // An exception would cancel every later run of the task
+                log.error("Health probes failed", e);
+            }
+        }, 0, healthProperties.getProbeInterval().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void runProbes() {
+        List<CompletableFuture<ProbeResult>> pending = healthProbes.stream()
+                .map(this::runProbe)
+                .toList();
+
+        List<ProbeResult> probes = pending.stream()
+                .map(CompletableFuture::join)
+                .toList();
+        List<SaturationResult> saturation = checkSaturation();
+
+        boolean ready = probes.stream()
+                .filter(ProbeResult::critical)
+                .allMatch(probe -> probe.status() == ProbeStatus.UP)
+                && saturation.stream().noneMatch(SaturationResult::exceeded);
+
+        HealthSnapshot previous = snapshot;
+        snapshot = new HealthSnapshot(ready, Instant.now(), probes, saturation);
+
+        if (previous.ready() != ready) {
+            if (ready) {
+                log.info("Readiness restored: {}", probes);
+            } else {
+                log.warn("Readiness lost: probes={}, saturation={}", probes, saturation);
+            }
+        }
+
+        publishReadiness(ready);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        // Spring Boot accepts traffic right after this event, the next probe run corrects it if needed
+        applicationReady = true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private CompletableFuture<ProbeResult> runProbe(final HealthProbe healthProbe) {
+        String name = healthProbe.name();
+        boolean critical = healthProperties.getReadinessProbes().contains(name);
+        Duration timeout = healthProperties.getProbeTimeout();
+        Instant checkedAt = Instant.now();
+
+        CompletableFuture<Void> running = inFlight.get(name);
+        if (Objects.nonNull(running) && !running.isDone()) {
+            // A hung check keeps reporting a timeout instead of piling up another blocked call
+            return CompletableFuture.completedFuture(
+                    new ProbeResult(name, ProbeStatus.TIMEOUT, timeout.toMillis(), critical, checkedAt)
+            );
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<Void> check = CompletableFuture.runAsync(() -> {
+            try {
+                healthProbe.check().run();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+        inFlight.put(name, check);
+
+        return check.copy()
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((ignored, throwable) -> {
+                    long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                    return new ProbeResult(name, toStatus(name, throwable), latencyMillis, critical, checkedAt);
+                });
+    }
+
+    private ProbeStatus toStatus(final String name, final Throwable throwable) {
+        if (Objects.isNull(throwable)) {
+            return ProbeStatus.UP;
+        }
+
+        Throwable cause = throwable instanceof CompletionException && Objects.nonNull(throwable.getCause())
+                ? throwable.getCause()
+                : throwable;
+
+        if (cause instanceof TimeoutException) {
+            return ProbeStatus.TIMEOUT;
+        }
+
+        log.debug("Health probe {} failed", name, cause);
+
+        return ProbeStatus.DOWN;
+    }
+
+    private List<SaturationResult> checkSaturation() {
+        return new TreeMap<>(healthProperties.getSaturationThresholds()).entrySet()
+                .stream()
+                .map(entry -> SaturationResult.of(entry.getKey(), sumGauges(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
+    private double sumGauges(final String meter) {
+        return meterRegistry.find(meter)
+                .gauges()
+                .stream()
+                .mapToDouble(Gauge::value)
+                .filter(Double::isFinite)
+                .sum();
+    }
+
+    private void publishReadiness(final boolean ready) {
+        if (!applicationReady) {
+            return;
+        }
+
+        ReadinessState state = ready ? ReadinessState.ACCEPTING_TRAFFIC : ReadinessState.REFUSING_TRAFFIC;
+
+        if (applicationAvailability.getReadinessState() != state) {
+            AvailabilityChangeEvent.publish(applicationEventPublisher, this, state);
+        }
+    }
+}
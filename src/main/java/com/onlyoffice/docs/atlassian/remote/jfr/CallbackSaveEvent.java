@@ -0,0 +1,113 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+
+@Name(CallbackSaveEvent.NAME)
+@Label("Callback Save")
+@Description("Document saved back to the product from a Document Server callback")
+@Category({"ONLYOFFICE", "Docs Atlassian Remote"})
+@StackTrace(false)
+public class CallbackSaveEvent extends Event {
+    public static final String NAME = "com.onlyoffice.docs.atlassian.remote.CallbackSave";
+
+    private static final int DOCUMENT_KEY_HASH_BYTES = 8;
+
+    @Label("Product")
+    private String product;
+
+    @Label("Document Key Hash")
+    @Description("First bytes of the SHA-256 of the document key")
+    private String documentKeyHash;
+
+    @Label("Outcome")
+    @Description("SUCCESS or ERROR, phases that were not reached have no duration")
+    private String outcome;
+
+    @Label("Size")
+    @DataAmount
+    private long size;
+
+    @Label("Lookup")
+    @Description("Reading the attachment that is replaced")
+    @Timespan
+    private long lookupDuration;
+
+    @Label("Transfer")
+    @Description("Streaming the document from Document Server into a new attachment")
+    @Timespan
+    private long transferDuration;
+
+    @Label("Delete")
+    @Description("Deleting the replaced attachment")
+    @Timespan
+    private long deleteDuration;
+
+    public static CallbackSaveEvent start() {
+        CallbackSaveEvent event = new CallbackSaveEvent();
+        event.begin();
+
+        return event;
+    }
+
+    public void finish(final String product, final String documentKey, final String outcome, final long size,
+                       final long lookupDuration, final long transferDuration, final long deleteDuration) {
+        end();
+
+        if (shouldCommit()) {
+            this.product = product;
+            this.documentKeyHash = hash(documentKey);
+            this.outcome = outcome;
+            this.size = size;
+            this.lookupDuration = lookupDuration;
+            this.transferDuration = transferDuration;
+            this.deleteDuration = deleteDuration;
+            commit();
+        }
+    }
+
+    private static String hash(final String documentKey) {
+        if (documentKey == null) {
+            return null;
+        }
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(documentKey.getBytes(StandardCharsets.UTF_8));
+
+            return HexFormat.of().formatHex(digest, 0, DOCUMENT_KEY_HASH_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
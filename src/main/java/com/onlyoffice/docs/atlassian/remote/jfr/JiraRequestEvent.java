@@ -0,0 +1,75 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+@Name(JiraRequestEvent.NAME)
+@Label("Jira Request")
+@Description("Request to the Jira REST API")
+@Category({"ONLYOFFICE", "Docs Atlassian Remote"})
+@StackTrace(false)
+public class JiraRequestEvent extends Event {
+    public static final String NAME = "com.onlyoffice.docs.atlassian.remote.JiraRequest";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Tenant")
+    private String tenant;
+
+    @Label("Status")
+    private int status;
+
+    @Label("Response Bytes")
+    @Description("Bytes of the response body read, -1 when no response was received")
+    @DataAmount
+    private long bytes;
+
+    public static JiraRequestEvent start() {
+        JiraRequestEvent event = new JiraRequestEvent();
+        event.begin();
+
+        return event;
+    }
+
+    public void finish(final String operation, final String method, final String tenant, final int status,
+                       final long bytes) {
+        end();
+
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.method = method;
+            this.tenant = tenant;
+            this.status = status;
+            this.bytes = bytes;
+            commit();
+        }
+    }
+}
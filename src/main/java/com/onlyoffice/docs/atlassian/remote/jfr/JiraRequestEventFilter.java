@@ -0,0 +1,80 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.jfr;
+
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+public class JiraRequestEventFilter implements ExchangeFilterFunction {
+    private static final int NO_STATUS = 0;
+    private static final long UNKNOWN_LENGTH = -1;
+
+    @Override
+    public Mono<ClientResponse> filter(final ClientRequest request, final ExchangeFunction next) {
+        return Mono.defer(() -> {
+            JiraRequestEvent event = JiraRequestEvent.start();
+            if (!event.isEnabled()) {
+                return next.exchange(request);
+            }
+
+            AtomicBoolean finished = new AtomicBoolean();
+
+            // the event ends once the body is consumed, so it covers the transfer and counts the bytes received;
+            // it ends before the signal goes downstream, where the body may be subscribed again to release it
+            return next.exchange(request)
+                    .map(response -> {
+                        int status = response.statusCode().value();
+                        AtomicLong bytes = new AtomicLong();
+
+                        return response.mutate()
+                                .body(body -> body
+                                        .doOnNext(dataBuffer -> bytes.addAndGet(dataBuffer.readableByteCount()))
+                                        .doOnTerminate(() -> finish(finished, event, request, status, bytes.get()))
+                                        .doOnCancel(() -> finish(finished, event, request, status, bytes.get()))
+                                )
+                                .build();
+                    })
+                    .doOnError(error -> finish(finished, event, request, NO_STATUS, UNKNOWN_LENGTH))
+                    .doOnCancel(() -> finish(finished, event, request, NO_STATUS, UNKNOWN_LENGTH));
+        });
+    }
+
+    private static void finish(final AtomicBoolean finished, final JiraRequestEvent event,
+                               final ClientRequest request, final int status, final long bytes) {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+
+        event.finish(
+                request.attribute(MetricsTags.OPERATION).map(Object::toString).orElse(MetricsTags.NONE),
+                request.method().name(),
+                request.attribute(MetricsTags.TENANT).map(Object::toString).orElse(MetricsTags.NONE),
+                status,
+                bytes
+        );
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+@Name(RemoteAppJwtEvent.NAME)
+@Label("Remote App JWT")
+@Description("Remote app token signed, encoded or decoded")
+@Category({"ONLYOFFICE", "Docs Atlassian Remote"})
+@StackTrace(false)
+public class RemoteAppJwtEvent extends Event {
+    public static final String NAME = "com.onlyoffice.docs.atlassian.remote.RemoteAppJwt";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Success")
+    private boolean success;
+
+    public static RemoteAppJwtEvent start() {
+        RemoteAppJwtEvent event = new RemoteAppJwtEvent();
+        event.begin();
+
+        return event;
+    }
+
+    public void finish(final String operation, final boolean success) {
+        end();
+
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.success = success;
+            commit();
+        }
+    }
+}
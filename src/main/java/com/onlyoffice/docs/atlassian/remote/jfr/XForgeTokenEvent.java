@@ -0,0 +1,72 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+
+@Name(XForgeTokenEvent.NAME)
+@Label("X-Forge Token")
+@Description("X-Forge token read from or written to Redis")
+@Category({"ONLYOFFICE", "Docs Atlassian Remote"})
+@StackTrace(false)
+public class XForgeTokenEvent extends Event {
+    public static final String NAME = "com.onlyoffice.docs.atlassian.remote.XForgeToken";
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Token Type")
+    private String tokenType;
+
+    @Label("Product")
+    private String product;
+
+    @Label("Tenant")
+    private String tenant;
+
+    @Label("Found")
+    private boolean found;
+
+    public static XForgeTokenEvent start() {
+        XForgeTokenEvent event = new XForgeTokenEvent();
+        event.begin();
+
+        return event;
+    }
+
+    public void finish(final String operation, final String tokenType, final String product, final String tenant,
+                       final boolean found) {
+        end();
+
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.tokenType = tokenType;
+            this.product = product;
+            this.tenant = tenant;
+            this.found = found;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientRequestObservationContext;
+import org.springframework.web.reactive.function.client.DefaultClientRequestObservationConvention;
+
+import java.util.Objects;
+
+
+public class JiraClientObservationConvention extends DefaultClientRequestObservationConvention {
+    @Override
+    public String getContextualName(final ClientRequestObservationContext context) {
+        return "jira " + operation(context);
+    }
+
+    @Override
+    public KeyValues getHighCardinalityKeyValues(final ClientRequestObservationContext context) {
+        // kept off the low cardinality keys so http.client.requests has the same tags for every client
+        return super.getHighCardinalityKeyValues(context)
+                .and(MetricsTags.OPERATION, operation(context));
+    }
+
+    private static String operation(final ClientRequestObservationContext context) {
+        ClientRequest request = context.getRequest();
+
+        if (Objects.isNull(request)) {
+            return MetricsTags.NONE;
+        }
+
+        return request.attribute(MetricsTags.OPERATION)
+                .map(Object::toString)
+                .orElse(MetricsTags.NONE);
+    }
+}
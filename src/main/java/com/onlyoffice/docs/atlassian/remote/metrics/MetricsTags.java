@@ -0,0 +1,62 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.metrics;
+
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import io.micrometer.core.instrument.Tags;
+import reactor.core.publisher.SignalType;
+
+import java.util.Objects;
+
+
+public final class MetricsTags {
+    public static final String PRODUCT = "product";
+    public static final String TENANT = "tenant";
+    public static final String OPERATION = "operation";
+    public static final String STATUS = "status";
+    public static final String OUTCOME = "outcome";
+    public static final String NONE = "none";
+
+    public static final String SUCCESS = "SUCCESS";
+    public static final String ERROR = "ERROR";
+    public static final String CANCELLED = "CANCELLED";
+
+    private MetricsTags() {
+    }
+
+    public static Tags of(final Product product, final Object tenant) {
+        return Tags.of(
+                PRODUCT, Objects.isNull(product) ? NONE : product.name(),
+                TENANT, Objects.isNull(tenant) ? NONE : tenant.toString()
+        );
+    }
+
+    public static Tags of(final Context context) {
+        return of(context.getProduct(), context.getCloudId());
+    }
+
+    public static String outcome(final SignalType signalType) {
+        return switch (signalType) {
+            case ON_COMPLETE -> SUCCESS;
+            case CANCEL -> CANCELLED;
+            default -> ERROR;
+        };
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.metrics;
+
+import jakarta.servlet.ServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+public final class ServerTiming {
+    public static final String HEADER = "Server-Timing";
+    public static final String REQUEST_ATTRIBUTE = ServerTiming.class.getName();
+
+    private static final int MAXIMUM_ENTRIES = 32;
+    private static final long NANOS_PER_TENTH_OF_MILLI = 100_000L;
+    private static final int TENTHS_PER_MILLI = 10;
+
+    private final long startedAt = System.nanoTime();
+    private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public static Optional<ServerTiming> current() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(
+                (ServerTiming) requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+        );
+    }
+
+    public static ServerTiming from(final ServletRequest request) {
+        return (ServerTiming) request.getAttribute(REQUEST_ATTRIBUTE);
+    }
+
+    public void record(final String name, final long startNanos) {
+        add(name, System.nanoTime() - startNanos);
+    }
+
+    public void add(final String name, final long durationNanos) {
+        if (size.incrementAndGet() <= MAXIMUM_ENTRIES) {
+            entries.add(new Entry(toToken(name), durationNanos));
+        }
+    }
+
+    public String toHeaderValue() {
+        StringBuilder value = new StringBuilder();
+
+        for (Entry entry : entries) {
+            appendMetric(value, entry.name(), entry.durationNanos());
+            value.append(", ");
+        }
+
+        appendMetric(value, "total", System.nanoTime() - startedAt);
+
+        return value.toString();
+    }
+
+    private static void appendMetric(final StringBuilder value, final String name, final long durationNanos) {
+        long tenths = durationNanos / NANOS_PER_TENTH_OF_MILLI;
+
+        value.append(name)
+                .append(";dur=")
+                .append(tenths / TENTHS_PER_MILLI)
+                .append('.')
+                .append(tenths % TENTHS_PER_MILLI);
+    }
+
+    private static String toToken(final String name) {
+        StringBuilder token = new StringBuilder(name.length());
+
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            token.append(Character.isLetterOrDigit(c) || c == '.' || c == '-' || c == '_' ? c : '.');
+        }
+
+        return token.toString();
+    }
+
+    private record Entry(String name, long durationNanos) {
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.metrics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationView;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+
+public class ServerTimingObservationHandler implements ObservationHandler<Observation.Context> {
+    @Override
+    public void onStart(final Observation.Context context) {
+        if (findServerTiming(context) != null) {
+            context.put(StartedAt.class, new StartedAt(System.nanoTime()));
+        }
+    }
+
+    @Override
+    public void onStop(final Observation.Context context) {
+        StartedAt startedAt = context.get(StartedAt.class);
+        if (startedAt == null) {
+            return;
+        }
+
+        ServerTiming serverTiming = findServerTiming(context);
+        if (serverTiming != null) {
+            String name = context.getContextualName() != null ? context.getContextualName() : context.getName();
+
+            serverTiming.record(name, startedAt.nanos());
+        }
+    }
+
+    @Override
+    public boolean supportsContext(final Observation.Context context) {
+        return context.getParentObservation() != null;
+    }
+
+    private ServerTiming findServerTiming(final Observation.ContextView context) {
+        Observation.ContextView root = context;
+        ObservationView parent = context.getParentObservation();
+
+        while (parent != null) {
+            root = parent.getContextView();
+            parent = root.getParentObservation();
+        }
+
+        if (root instanceof ServerRequestObservationContext serverContext && serverContext.getCarrier() != null) {
+            return ServerTiming.from(serverContext.getCarrier());
+        }
+
+        return null;
+    }
+
+    private record StartedAt(long nanos) {
+    }
+}
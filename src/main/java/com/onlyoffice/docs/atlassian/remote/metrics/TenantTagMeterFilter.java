@@ -0,0 +1,80 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+public class TenantTagMeterFilter implements MeterFilter {
+    public static final String OTHER = "other";
+
+    private static final MeterFilter IGNORE_TENANT = MeterFilter.ignoreTags(MetricsTags.TENANT);
+
+    private final boolean enabled;
+    private final int maximumTenants;
+    private final Set<String> tenants = ConcurrentHashMap.newKeySet();
+
+    public TenantTagMeterFilter(final boolean enabled, final int maximumTenants) {
+        this.enabled = enabled;
+        this.maximumTenants = maximumTenants;
+    }
+
+    @Override
+    public Meter.Id map(final Meter.Id id) {
+        String tenant = id.getTag(MetricsTags.TENANT);
+
+        if (Objects.isNull(tenant)) {
+            return id;
+        }
+
+        if (!enabled) {
+            return IGNORE_TENANT.map(id);
+        }
+
+        if (MetricsTags.NONE.equals(tenant) || isTracked(tenant)) {
+            return id;
+        }
+
+        return id.withTag(Tag.of(MetricsTags.TENANT, OTHER));
+    }
+
+    private boolean isTracked(final String tenant) {
+        if (tenants.contains(tenant)) {
+            return true;
+        }
+
+        synchronized (tenants) {
+            if (tenants.contains(tenant)) {
+                return true;
+            }
+
+            if (tenants.size() >= maximumTenants) {
+                return false;
+            }
+
+            return tenants.add(tenant);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+
+public class WebClientMetricsFilter implements ExchangeFilterFunction {
+    private static final String CLIENT_ERROR = "CLIENT_ERROR";
+
+    private final MeterRegistry meterRegistry;
+    private final String meterName;
+
+    public WebClientMetricsFilter(final MeterRegistry meterRegistry, final String meterName) {
+        this.meterRegistry = meterRegistry;
+        this.meterName = meterName;
+    }
+
+    public static Consumer<Map<String, Object>> attributes(final String operation, final Tags tags) {
+        return attributes -> {
+            attributes.put(MetricsTags.OPERATION, operation);
+            tags.forEach(tag -> attributes.put(tag.getKey(), tag.getValue()));
+        };
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(final ClientRequest request, final ExchangeFunction next) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+
+            return next.exchange(request)
+                    .doOnNext(response -> sample.stop(timer(
+                            request,
+                            String.valueOf(response.statusCode().value()),
+                            response.statusCode().isError() ? MetricsTags.ERROR : MetricsTags.SUCCESS
+                    )))
+                    .doOnError(error -> sample.stop(timer(request, CLIENT_ERROR, MetricsTags.ERROR)))
+                    .doOnCancel(() -> sample.stop(timer(request, CLIENT_ERROR, MetricsTags.CANCELLED)));
+        });
+    }
+
+    private Timer timer(final ClientRequest request, final String status, final String outcome) {
+        return meterRegistry.timer(
+                meterName,
+                Tags.of(
+                        MetricsTags.OPERATION, attribute(request, MetricsTags.OPERATION),
+                        MetricsTags.PRODUCT, attribute(request, MetricsTags.PRODUCT),
+                        MetricsTags.TENANT, attribute(request, MetricsTags.TENANT),
+                        MetricsTags.STATUS, status,
+                        MetricsTags.OUTCOME, outcome
+                )
+        );
+    }
+
+    private static String attribute(final ClientRequest request, final String name) {
+        return request.attribute(name)
+                .map(Object::toString)
+                .orElse(MetricsTags.NONE);
+    }
+}
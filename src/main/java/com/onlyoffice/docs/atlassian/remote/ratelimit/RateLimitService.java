@@ -0,0 +1,226 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.cache.RedisKeys;
+import com.onlyoffice.docs.atlassian.remote.configuration.RateLimitProperties;
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Limits the requests of a tenant to an endpoint with a token bucket kept in Redis, so the limit holds across
+ * instances. While a bucket is well below its limit, the script hands out a small lease of tokens that is spent
+ * locally for up to {@code lease.ttl}, so most requests of such tenants do not wait for Redis. When Redis is not
+ * available requests are let through.
+ */
+@Slf4j
+@Service
+public class RateLimitService {
+    private static final String ENDPOINT_TAG = "endpoint";
+    private static final String SOURCE_TAG = "source";
+    private static final int GRANTED_INDEX = 0;
+    private static final int REMAINING_INDEX = 1;
+    private static final int RETRY_AFTER_INDEX = 2;
+    private static final int RESET_INDEX = 3;
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = RedisScript.of(
+            new ClassPathResource("redis/token-bucket.lua"),
+            List.class
+    );
+
+    private final RateLimitProperties rateLimitProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final List<Endpoint> endpoints;
+    private final Cache<String, Lease> leases;
+
+    public RateLimitService(final RateLimitProperties rateLimitProperties,
+                            final StringRedisTemplate stringRedisTemplate,
+                            final MeterRegistry meterRegistry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.endpoints = rateLimitProperties.getEndpoints().entrySet().stream()
+                .map(entry -> new Endpoint(
+                        entry.getKey(),
+                        entry.getValue().getPatterns().stream()
+                                .map(PathPatternParser.defaultInstance::parse)
+                                .toList(),
+                        entry.getValue()
+                ))
+                .toList();
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(rateLimitProperties.getMaximumTenants())
+                .expireAfterWrite(rateLimitProperties.getLease().getTtl())
+                .build();
+    }
+
+    public Optional<Endpoint> findEndpoint(final String path) {
+        if (!rateLimitProperties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        PathContainer pathContainer = PathContainer.parsePath(path);
+
+        return endpoints.stream()
+                .filter(endpoint -> endpoint.matches(pathContainer))
+                .findFirst();
+    }
+
+    /**
+     * Charges {@code tokens} more to the endpoint matching {@code path}, for requests that cost more than the token
+     * taken by the interceptor, e.g. a batch that creates several documents.
+     *
+     * @return the decision, empty when the path is not limited
+     * @throws RateLimitExceededException when the bucket holds fewer tokens
+     */
+    public Optional<RateLimitDecision> consume(final String path, final Context context, final int tokens) {
+        if (tokens <= 0) {
+            return Optional.empty();
+        }
+
+        return findEndpoint(path).map(endpoint -> {
+            RateLimitDecision decision = tryConsume(endpoint, context, tokens);
+
+            if (!decision.allowed()) {
+                throw new RateLimitExceededException(endpoint.name(), decision);
+            }
+
+            return decision;
+        });
+    }
+
+    public RateLimitDecision tryConsume(final Endpoint endpoint, final Context context) {
+        return tryConsume(endpoint, context, 1);
+    }
+
+    public RateLimitDecision tryConsume(final Endpoint endpoint, final Context context, final int tokens) {
+        String key = RedisKeys.rateLimit(endpoint.name(), context.getProduct(), context.getCloudId());
+        RateLimitProperties.EndpointConfig endpointConfig = endpoint.config();
+
+        Lease lease = leases.getIfPresent(key);
+        if (lease != null) {
+            int left = lease.take(tokens);
+
+            if (left >= 0) {
+                count(endpoint, "local");
+                return new RateLimitDecision(
+                        true,
+                        endpointConfig.getCapacity(),
+                        lease.bucketRemaining() + left,
+                        lease.resetSeconds(),
+                        0
+                );
+            }
+        }
+
+        List<?> result;
+        try {
+            result = stringRedisTemplate.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    List.of(key),
+                    String.valueOf(endpointConfig.getCapacity()),
+                    String.valueOf(endpointConfig.getRefillRate()),
+                    String.valueOf(rateLimitProperties.getLease().getSize()),
+                    String.valueOf(tokens)
+            );
+        } catch (DataAccessException e) {
+            log.warn("Failed to check the rate limit in Redis, letting the request through", e);
+            count(endpoint, "fallback");
+
+            return new RateLimitDecision(true, endpointConfig.getCapacity(), endpointConfig.getCapacity(), 0, 0);
+        }
+
+        count(endpoint, "redis");
+
+        long granted = ((Number) result.get(GRANTED_INDEX)).longValue();
+        long remaining = ((Number) result.get(REMAINING_INDEX)).longValue();
+        long retryAfterSeconds = toSeconds(((Number) result.get(RETRY_AFTER_INDEX)).longValue());
+        long resetSeconds = toSeconds(((Number) result.get(RESET_INDEX)).longValue());
+
+        if (granted == 0) {
+            meterRegistry.counter(
+                    "ratelimit.rejected",
+                    MetricsTags.of(context).and(ENDPOINT_TAG, endpoint.name())
+            ).increment();
+
+            return new RateLimitDecision(
+                    false,
+                    endpointConfig.getCapacity(),
+                    remaining,
+                    resetSeconds,
+                    Math.max(1, retryAfterSeconds)
+            );
+        }
+
+        if (granted > tokens) {
+            leases.put(key, new Lease(new AtomicInteger((int) granted - tokens), remaining, resetSeconds));
+        }
+
+        return new RateLimitDecision(
+                true,
+                endpointConfig.getCapacity(),
+                remaining + granted - tokens,
+                resetSeconds,
+                0
+        );
+    }
+
+    private void count(final Endpoint endpoint, final String source) {
+        meterRegistry.counter("ratelimit.checks", Tags.of(ENDPOINT_TAG, endpoint.name(), SOURCE_TAG, source))
+                .increment();
+    }
+
+    private static long toSeconds(final long millis) {
+        return TimeUnit.MILLISECONDS.toSeconds(millis + TimeUnit.SECONDS.toMillis(1) - 1);
+    }
+
+    public record Endpoint(String name, List<PathPattern> patterns, RateLimitProperties.EndpointConfig config) {
+        boolean matches(final PathContainer path) {
+            return patterns.stream().anyMatch(pattern -> pattern.matches(path));
+        }
+    }
+
+    private record Lease(AtomicInteger tokens, long bucketRemaining, long resetSeconds) {
+        /**
+         * Takes {@code count} tokens and returns how many are left, or a negative number when the lease holds fewer.
+         */
+        int take(final int count) {
+            return tokens.getAndUpdate(left -> left >= count ? left - count : left) - count;
+        }
+    }
+}
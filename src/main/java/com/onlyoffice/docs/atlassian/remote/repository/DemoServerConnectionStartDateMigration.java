@@ -0,0 +1,61 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class DemoServerConnectionStartDateMigration implements InitializingBean {
+    private static final String LEGACY_COLUMN_EXISTS = "SELECT COUNT(*) FROM information_schema.columns"
+            + " WHERE table_schema = current_schema() AND table_name = 'demo-server-connections'"
+            + " AND column_name = 'start_date'";
+
+    // Legacy values were formatted in the JVM time zone, which pgjdbc also uses as the session time zone.
+    private static final String MIGRATE_LEGACY_COLUMN = "UPDATE \"demo-server-connections\""
+            + " SET started_at = to_timestamp(start_date, 'YYYY/MM/DD HH24:MI:SS')"
+            + " WHERE started_at IS NULL AND start_date IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        Integer legacyColumns = jdbcTemplate.queryForObject(LEGACY_COLUMN_EXISTS, Integer.class);
+
+        if (Objects.isNull(legacyColumns) || legacyColumns == 0) {
+            return;
+        }
+
+        int migrated = jdbcTemplate.update(MIGRATE_LEGACY_COLUMN);
+
+        if (migrated > 0) {
+            log.info("Migrated {} demo server connections to started_at", migrated);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.repository;
+
+import com.onlyoffice.docs.atlassian.remote.entity.TenantUsage;
+import com.onlyoffice.docs.atlassian.remote.entity.TenantUsageId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+
+@Repository
+public interface TenantUsageRepository extends JpaRepository<TenantUsage, TenantUsageId> {
+    List<TenantUsage> findAllByIdPeriodStartGreaterThanEqual(Instant periodStart);
+
+    @Modifying
+    @Query("delete from TenantUsage u where u.id.periodStart < :periodStart")
+    int deleteAllByPeriodStartBefore(Instant periodStart);
+}
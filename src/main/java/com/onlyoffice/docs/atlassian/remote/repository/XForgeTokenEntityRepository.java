@@ -0,0 +1,49 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.repository;
+
+import com.onlyoffice.docs.atlassian.remote.entity.XForgeToken;
+import com.onlyoffice.docs.atlassian.remote.entity.XForgeTokenId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+
+@Repository
+public interface XForgeTokenEntityRepository extends JpaRepository<XForgeToken, XForgeTokenId> {
+    Optional<XForgeToken> findByIdAndExpiresAtAfter(XForgeTokenId id, Instant now);
+
+    /**
+     * Inserts or replaces the token in one statement, where {@code save} would select the row first.
+     */
+    @Modifying
+    @Query(value = "insert into \"x-forge-tokens\" (type, token_id, token, expires_at)"
+            + " values (:type, :tokenId, :token, :expiresAt)"
+            + " on conflict (type, token_id) do update set token = excluded.token, expires_at = excluded.expires_at",
+            nativeQuery = true)
+    void upsert(String type, String tokenId, String token, Instant expiresAt);
+
+    @Modifying
+    @Query("delete from XForgeToken t where t.expiresAt < :expiresAt")
+    int deleteAllByExpiresAtBefore(Instant expiresAt);
+}
@@ -20,30 +20,67 @@ package com.onlyoffice.docs.atlassian.remote.sdk.manager;
 
 import com.onlyoffice.docs.atlassian.remote.api.Context;
 import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
-import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraAttachment;
-import com.onlyoffice.docs.atlassian.remote.client.jira.JiraClient;
 import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
-import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import com.onlyoffice.docs.atlassian.remote.service.JiraEditorResourcesService;
 import com.onlyoffice.manager.document.DefaultDocumentManager;
 import com.onlyoffice.manager.settings.SettingsManager;
+import com.onlyoffice.model.common.Format;
+import com.onlyoffice.model.documenteditor.config.document.DocumentType;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 
 @Component
 public class DocumentManagerImpl extends DefaultDocumentManager {
-    private final JiraClient jiraClient;
-    private final XForgeTokenRepository xForgeTokenRepository;
+    private static final String EDIT_ACTION = "edit";
+
     private final SecurityUtils securityUtils;
+    private final JiraEditorResourcesService jiraEditorResourcesService;
+    private final Map<String, FormatInfo> formatsIndex;
 
-    public DocumentManagerImpl(final SettingsManager settingsManager, final JiraClient jiraClient,
-                               final XForgeTokenRepository xForgeTokenRepository,
-                               final SecurityUtils securityUtils) {
+    public DocumentManagerImpl(final SettingsManager settingsManager,
+                               final SecurityUtils securityUtils,
+                               final JiraEditorResourcesService jiraEditorResourcesService) {
         super(settingsManager);
 
-        this.jiraClient = jiraClient;
-        this.xForgeTokenRepository = xForgeTokenRepository;
         this.securityUtils = securityUtils;
+        this.jiraEditorResourcesService = jiraEditorResourcesService;
+        this.formatsIndex = indexFormats(getFormats());
+    }
+
+    public FormatInfo getFormatInfo(final String fileName) {
+        String extension = getExtension(fileName);
+
+        if (extension == null) {
+            return null;
+        }
+
+        return formatsIndex.get(extension.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public DocumentType getDocumentType(final String fileName) {
+        FormatInfo formatInfo = getFormatInfo(fileName);
+
+        return formatInfo == null ? null : formatInfo.type();
+    }
+
+    @Override
+    public boolean isEditable(final String fileName) {
+        FormatInfo formatInfo = getFormatInfo(fileName);
+
+        if (formatInfo != null && formatInfo.editable()) {
+            return true;
+        }
+
+        // lossy-edit formats depend on tenant settings, leave them to the SDK
+        return super.isEditable(fileName);
     }
 
     @Override
@@ -75,10 +112,33 @@ public class DocumentManagerImpl extends DefaultDocumentManager {
     private JiraAttachment getJiraAttachment(final String attachmentId) {
         JiraContext jiraContext = (JiraContext) securityUtils.getCurrentAppContext();
 
-        return jiraClient.getAttachment(
-                jiraContext.getCloudId(),
-                attachmentId,
-                xForgeTokenRepository.getXForgeToken(securityUtils.getCurrentXForgeUserTokenId(), XForgeTokenType.USER)
+        return jiraEditorResourcesService.getAttachment(
+                jiraContext,
+                securityUtils.getCurrentAccountId(),
+                attachmentId
         ).block();
     }
+
+    private static Map<String, FormatInfo> indexFormats(final List<Format> formats) {
+        return formats.stream()
+                .map(FormatInfo::of)
+                .collect(Collectors.toUnmodifiableMap(FormatInfo::name, Function.identity(), (first, second) -> first));
+    }
+
+    private static boolean hasAction(final Format format, final String action) {
+        return format.getActions() != null && format.getActions().stream()
+                .map(String::valueOf)
+                .anyMatch(action::equalsIgnoreCase);
+    }
+
+    public record FormatInfo(String name, DocumentType type, boolean editable, boolean convertible) {
+        public static FormatInfo of(final Format format) {
+            return new FormatInfo(
+                    format.getName().toLowerCase(Locale.ROOT),
+                    format.getType(),
+                    hasAction(format, EDIT_ACTION),
+                    format.getConvert() != null && !format.getConvert().isEmpty()
+            );
+        }
+    }
 }
@@ -19,72 +19,25 @@
 package com.onlyoffice.docs.atlassian.remote.sdk.manager;
 
 import com.onlyoffice.docs.atlassian.remote.api.Context;
-import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
-import com.onlyoffice.docs.atlassian.remote.client.jira.JiraClient;
-import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraSettings;
-import com.onlyoffice.docs.atlassian.remote.entity.DemoServerConnection;
-import com.onlyoffice.docs.atlassian.remote.entity.DemoServerConnectionId;
-import com.onlyoffice.docs.atlassian.remote.repository.DemoServerConnectionRepository;
 import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
-import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import com.onlyoffice.docs.atlassian.remote.service.TenantSettingsService;
 import com.onlyoffice.manager.settings.DefaultSettingsManager;
 import lombok.AllArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
-
-import java.util.Objects;
-import java.util.Optional;
-
-import static com.onlyoffice.docs.atlassian.remote.Constants.SETTINGS_KEY;
 
 
 @AllArgsConstructor
 @Component
 public class SettingsManagerImpl extends DefaultSettingsManager {
-    private final JiraClient jiraClient;
-    private final XForgeTokenRepository xForgeTokenRepository;
-    private final DemoServerConnectionRepository demoServerConnectionRepository;
+    private final TenantSettingsService tenantSettingsService;
     private final SecurityUtils securityUtils;
 
     @Override
     public String getSetting(final String name) {
         Context context = securityUtils.getCurrentAppContext();
 
-        if (name.equals("demo-start")) {
-           DemoServerConnection demoServerConnection = demoServerConnectionRepository.findById(
-                    DemoServerConnectionId.builder()
-                            .cloudId(context.getCloudId())
-                            .product(context.getProduct())
-                            .build()
-            ).orElse(null);
-
-           if (Objects.nonNull(demoServerConnection)) {
-               return demoServerConnection.getStartDate();
-           } else {
-               return null;
-           }
-        }
-
-        try {
-            JiraSettings jiraSettings = jiraClient.getSettings(
-                    SETTINGS_KEY,
-                    xForgeTokenRepository.getXForgeToken(
-                            securityUtils.getCurrentXForgeSystemTokenId(),
-                            XForgeTokenType.SYSTEM
-                    )
-            ).block();
-
-            return Optional.ofNullable(jiraSettings.getValue().get(name))
-                    .map(String::valueOf)
-                    .orElse(null);
-        } catch (WebClientResponseException e) {
-            if (HttpStatus.NOT_FOUND.equals(e.getStatusCode())) {
-                return null;
-            } else {
-                throw e;
-            }
-        }
+        return tenantSettingsService.getTenantSettings(context.getProduct(), context.getCloudId())
+                .getSetting(name);
     }
 
     @Override
@@ -18,8 +18,6 @@
 
 package com.onlyoffice.docs.atlassian.remote.sdk.manager;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.onlyoffice.docs.atlassian.remote.api.Context;
 import com.onlyoffice.docs.atlassian.remote.security.RemoteAppJwtService;
 import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
@@ -28,16 +26,12 @@ import com.onlyoffice.manager.url.DefaultUrlManager;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-
 
 @Component
 public class UrlManagerImpl extends DefaultUrlManager {
     private final RemoteAppJwtService remoteAppJwtService;
     private final SecurityUtils securityUtils;
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-
     @Value("${app.base-url}")
     private String baseUrl;
     @Value("${app.security.ttl.default}")
@@ -58,12 +52,12 @@ public class UrlManagerImpl extends DefaultUrlManager {
         Context context = securityUtils.getCurrentAppContext();
         String path = "/api/v1/download/" + context.getProduct().toString().toLowerCase();
 
-        String token = remoteAppJwtService.encode(
+        String token = remoteAppJwtService.sign(
                 securityUtils.getCurrentAccountId(),
                 path,
                 ttlDefault,
-                objectMapper.convertValue(context, new TypeReference<Map<String, Object>>() { })
-        ).getTokenValue();
+                remoteAppJwtService.createContextClaim(context)
+        );
 
         return baseUrl + path + "?token=" + token;
     }
@@ -73,12 +67,12 @@ public class UrlManagerImpl extends DefaultUrlManager {
         Context context = securityUtils.getCurrentAppContext();
         String path = "/api/v1/callback/" + context.getProduct().toString().toLowerCase();
 
-        String token = remoteAppJwtService.encode(
+        String token = remoteAppJwtService.sign(
                 securityUtils.getCurrentAccountId(),
                 path,
                 ttlCallback,
-                objectMapper.convertValue(context, new TypeReference<Map<String, Object>>() { })
-        ).getTokenValue();
+                remoteAppJwtService.createContextClaim(context)
+        );
 
         return baseUrl + path + "?token=" + token;
     }
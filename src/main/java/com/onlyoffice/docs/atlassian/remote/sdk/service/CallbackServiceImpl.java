@@ -18,22 +18,32 @@
 
 package com.onlyoffice.docs.atlassian.remote.sdk.service;
 
+import com.onlyoffice.docs.atlassian.remote.accounting.TenantAccountingService;
 import com.onlyoffice.docs.atlassian.remote.api.Context;
 import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
 import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
 import com.onlyoffice.docs.atlassian.remote.client.ds.DocumentServerClient;
 import com.onlyoffice.docs.atlassian.remote.client.jira.JiraClient;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraAttachment;
+import com.onlyoffice.docs.atlassian.remote.jfr.CallbackSaveEvent;
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
 import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
 import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import com.onlyoffice.docs.atlassian.remote.service.CallbackSaveJournal;
+import com.onlyoffice.docs.atlassian.remote.shutdown.ShutdownCoordinator;
 import com.onlyoffice.manager.security.JwtManager;
 import com.onlyoffice.manager.settings.SettingsManager;
 import com.onlyoffice.model.documenteditor.Callback;
 import com.onlyoffice.service.documenteditor.callback.DefaultCallbackService;
-import org.springframework.core.io.buffer.DataBuffer;
+import io.micrometer.common.KeyValues;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.stereotype.Component;
 
-import reactor.core.publisher.Flux;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 @Component
@@ -42,20 +52,57 @@ public class CallbackServiceImpl extends DefaultCallbackService {
     private final JiraClient jiraClient;
     private final XForgeTokenRepository xForgeTokenRepository;
     private final SecurityUtils securityUtils;
+    private final ObservationRegistry observationRegistry;
+    private final TenantAccountingService tenantAccountingService;
+    private final CallbackSaveJournal callbackSaveJournal;
+    private final ShutdownCoordinator shutdownCoordinator;
 
 
+    // CHECKSTYLE:OFF ParameterNumber - the SDK base class takes two of them
     public CallbackServiceImpl(final JwtManager jwtManager,
                                final SettingsManager settingsManager,
                                final DocumentServerClient documentServerClient,
                                final JiraClient jiraClient,
                                final XForgeTokenRepository xForgeTokenRepository,
-                               final SecurityUtils securityUtils) {
+                               final SecurityUtils securityUtils,
+                               final ObservationRegistry observationRegistry,
+                               final TenantAccountingService tenantAccountingService,
+                               final CallbackSaveJournal callbackSaveJournal,
+                               final ShutdownCoordinator shutdownCoordinator) {
         super(jwtManager, settingsManager);
 
         this.documentServerClient = documentServerClient;
         this.jiraClient = jiraClient;
         this.xForgeTokenRepository = xForgeTokenRepository;
         this.securityUtils = securityUtils;
+        this.observationRegistry = observationRegistry;
+        this.tenantAccountingService = tenantAccountingService;
+        this.callbackSaveJournal = callbackSaveJournal;
+        this.shutdownCoordinator = shutdownCoordinator;
+    }
+    // CHECKSTYLE:ON
+
+    @Override
+    public void processCallback(final Callback callback, final String fileId) throws Exception {
+        Observation observation = Observation.createNotStarted("callback.process", observationRegistry)
+                .lowCardinalityKeyValues(KeyValues.of(
+                        MetricsTags.of(securityUtils.getCurrentAppContext()),
+                        Tag::getKey,
+                        Tag::getValue
+                ))
+                .lowCardinalityKeyValue(MetricsTags.STATUS, String.valueOf(callback.getStatus()))
+                .start();
+        String outcome = MetricsTags.ERROR;
+
+        try (Observation.Scope scope = observation.openScope()) {
+            super.processCallback(callback, fileId);
+            outcome = MetricsTags.SUCCESS;
+        } catch (Exception e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.lowCardinalityKeyValue(MetricsTags.OUTCOME, outcome).stop();
+        }
     }
 
     @Override
@@ -66,37 +113,91 @@ public class CallbackServiceImpl extends DefaultCallbackService {
         switch (context.getProduct()) {
             case JIRA:
                 JiraContext jiraContext = (JiraContext) context;
+                CallbackSaveEvent event = CallbackSaveEvent.start();
+                AtomicLong size = new AtomicLong();
+
+                long lookupStartedAt = System.nanoTime();
+                long transferStartedAt = 0;
+                long deleteStartedAt = 0;
+                String outcome = MetricsTags.ERROR;
+
+                try {
+                    String xForgeUserToken = xForgeTokenRepository.getXForgeToken(
+                            securityUtils.getCurrentXForgeUserTokenId(),
+                            XForgeTokenType.USER
+                    );
+
+                    // A retry of a save that already uploaded the document only has the edited attachment to delete.
+                    Optional<String> uploadedAttachmentId = callbackSaveJournal.findUploadedAttachment(
+                            context,
+                            jiraContext.getAttachmentId()
+                    );
+
+                    if (uploadedAttachmentId.isEmpty()) {
+                        JiraAttachment jiraAttachment = jiraClient.getAttachment(
+                                jiraContext.getCloudId(),
+                                jiraContext.getAttachmentId(),
+                                xForgeUserToken
+                        ).block();
+
+                        transferStartedAt = System.nanoTime();
+                        List<JiraAttachment> uploadedAttachments = documentServerClient.getFile(url, context)
+                                .flatMap(file -> jiraClient.createAttachment(
+                                        jiraContext.getCloudId(),
+                                        jiraContext.getIssueId(),
+                                        new JiraClient.AttachmentFile(
+                                                jiraAttachment.getFilename(),
+                                                file.content().doOnNext(
+                                                        dataBuffer -> size.addAndGet(dataBuffer.readableByteCount())
+                                                ),
+                                                file.contentLength()
+                                        ),
+                                        xForgeUserToken
+                                ))
+                                .block();
+
+                        shutdownCoordinator.commit();
+
+                        if (uploadedAttachments != null && !uploadedAttachments.isEmpty()) {
+                            callbackSaveJournal.recordUploadedAttachment(
+                                    context,
+                                    jiraContext.getAttachmentId(),
+                                    String.valueOf(uploadedAttachments.getFirst().getId())
+                            );
+                        }
+                    } else {
+                        transferStartedAt = System.nanoTime();
+                        shutdownCoordinator.commit();
+                    }
+
+                    deleteStartedAt = System.nanoTime();
+                    jiraClient.deleteAttachment(
+                            jiraContext.getCloudId(),
+                            jiraContext.getAttachmentId(),
+                            xForgeUserToken
+                    );
+
+                    tenantAccountingService.recordSave(
+                            jiraContext.getCloudId(),
+                            size.get(),
+                            System.nanoTime() - lookupStartedAt
+                    );
+                    outcome = MetricsTags.SUCCESS;
+                } finally {
+                    long finishedAt = System.nanoTime();
+                    long lookupEndedAt = transferStartedAt == 0 ? finishedAt : transferStartedAt;
+                    long transferEndedAt = deleteStartedAt == 0 ? finishedAt : deleteStartedAt;
 
-                JiraAttachment jiraAttachment = jiraClient.getAttachment(
-                        jiraContext.getCloudId(),
-                        jiraContext.getAttachmentId(),
-                        xForgeTokenRepository.getXForgeToken(
-                                securityUtils.getCurrentXForgeUserTokenId(),
-                                XForgeTokenType.USER
-                        )
-                ).block();
-
-                Flux<DataBuffer> file = documentServerClient.getFile(url);
-
-                jiraClient.createAttachment(
-                        jiraContext.getCloudId(),
-                        jiraContext.getIssueId(),
-                        file,
-                        jiraAttachment.getFilename(),
-                        xForgeTokenRepository.getXForgeToken(
-                                securityUtils.getCurrentXForgeUserTokenId(),
-                                XForgeTokenType.USER
-                        )
-                );
-
-                jiraClient.deleteAttachment(
-                        jiraContext.getCloudId(),
-                        jiraContext.getAttachmentId(),
-                        xForgeTokenRepository.getXForgeToken(
-                                securityUtils.getCurrentXForgeUserTokenId(),
-                                XForgeTokenType.USER
-                        )
-                );
+                    event.finish(
+                            context.getProduct().name(),
+                            callback.getKey(),
+                            outcome,
+                            size.get(),
+                            lookupEndedAt - lookupStartedAt,
+                            transferStartedAt == 0 ? 0 : transferEndedAt - transferStartedAt,
+                            deleteStartedAt == 0 ? 0 : finishedAt - deleteStartedAt
+                    );
+                }
                 break;
             default:
                 throw new UnsupportedOperationException("Unsupported product: " + context.getProduct());
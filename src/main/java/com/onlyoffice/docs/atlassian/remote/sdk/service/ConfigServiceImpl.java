@@ -18,18 +18,16 @@
 
 package com.onlyoffice.docs.atlassian.remote.sdk.service;
 
-import com.onlyoffice.docs.atlassian.remote.Constants;
 import com.onlyoffice.docs.atlassian.remote.api.Context;
 import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
-import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
-import com.onlyoffice.docs.atlassian.remote.client.jira.JiraClient;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraAttachment;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermission;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermissions;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermissionsKey;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraUser;
 import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
-import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import com.onlyoffice.docs.atlassian.remote.service.JiraEditorResourcesService;
+import com.onlyoffice.docs.atlassian.remote.service.JiraEditorResourcesService.JiraEditorResources;
 import com.onlyoffice.manager.document.DocumentManager;
 import com.onlyoffice.manager.security.JwtManager;
 import com.onlyoffice.manager.settings.SettingsManager;
@@ -44,30 +42,23 @@ import com.onlyoffice.model.documenteditor.config.editorconfig.Mode;
 import com.onlyoffice.model.documenteditor.config.editorconfig.customization.Close;
 import com.onlyoffice.service.documenteditor.config.DefaultConfigService;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
-import reactor.core.publisher.Mono;
-
-import java.util.List;
-import java.util.UUID;
 
 
 @Component
 public class ConfigServiceImpl extends DefaultConfigService {
-    private final JiraClient jiraClient;
-    private final XForgeTokenRepository xForgeTokenRepository;
     private final SecurityUtils securityUtils;
+    private final JiraEditorResourcesService jiraEditorResourcesService;
 
     public ConfigServiceImpl(final DocumentManager documentManager,
                              final UrlManager urlManager,
                              final JwtManager jwtManager,
-                             final SettingsManager settingsManager, final JiraClient jiraClient,
-                             final XForgeTokenRepository xForgeTokenRepository,
-                             final SecurityUtils securityUtils) {
+                             final SettingsManager settingsManager,
+                             final SecurityUtils securityUtils,
+                             final JiraEditorResourcesService jiraEditorResourcesService) {
         super(documentManager, urlManager, jwtManager, settingsManager);
 
-        this.xForgeTokenRepository = xForgeTokenRepository;
-        this.jiraClient = jiraClient;
         this.securityUtils = securityUtils;
+        this.jiraEditorResourcesService = jiraEditorResourcesService;
     }
 
     @Override
@@ -76,7 +67,7 @@ public class ConfigServiceImpl extends DefaultConfigService {
 
         switch (context.getProduct()) {
             case JIRA:
-                preloadJiraResources(context.getCloudId(), ((JiraContext) context).getIssueId(), fileId);
+                getJiraEditorResources((JiraContext) context);
                 break;
             default:
                 throw new UnsupportedOperationException("Unsupported product: " + context.getProduct());
@@ -93,13 +84,7 @@ public class ConfigServiceImpl extends DefaultConfigService {
 
         switch (context.getProduct()) {
             case JIRA:
-                JiraUser user = jiraClient.getUser(
-                        context.getCloudId(),
-                        xForgeTokenRepository.getXForgeToken(
-                                securityUtils.getCurrentXForgeUserTokenId(),
-                                XForgeTokenType.USER
-                        )
-                ).block();
+                JiraUser user = getJiraEditorResources((JiraContext) context).user();
 
                 editorConfig.setLang(user.getLocale());
 
@@ -117,29 +102,16 @@ public class ConfigServiceImpl extends DefaultConfigService {
             case JIRA:
                 JiraContext jiraContext = (JiraContext) context;
 
-                JiraAttachment jiraAttachment = jiraClient.getAttachment(
-                        jiraContext.getCloudId(),
-                        fileId,
-                        xForgeTokenRepository.getXForgeToken(
-                                securityUtils.getCurrentXForgeUserTokenId(),
-                                XForgeTokenType.USER
-                        )
-                ).block();
+                JiraEditorResources jiraEditorResources = getJiraEditorResources(jiraContext);
 
-                JiraPermissions jiraPermissions = jiraClient.getIssuePermissions(
-                        jiraContext.getCloudId(),
-                        jiraContext.getIssueId(),
-                        List.of(
-                                JiraPermissionsKey.CREATE_ATTACHMENTS,
-                                JiraPermissionsKey.DELETE_OWN_ATTACHMENTS,
-                                JiraPermissionsKey.DELETE_ALL_ATTACHMENTS
-                        ),
-                        xForgeTokenRepository.getXForgeToken(
-                                securityUtils.getCurrentXForgeUserTokenId(),
-                                XForgeTokenType.USER
-                        )
+                JiraAttachment jiraAttachment = jiraEditorResourcesService.getAttachment(
+                        jiraContext,
+                        securityUtils.getCurrentAccountId(),
+                        fileId
                 ).block();
 
+                JiraPermissions jiraPermissions = jiraEditorResources.permissions();
+
                 JiraPermission createAttachments = jiraPermissions.getPermissions()
                         .get(JiraPermissionsKey.CREATE_ATTACHMENTS);
 
@@ -181,13 +153,7 @@ public class ConfigServiceImpl extends DefaultConfigService {
 
         switch (context.getProduct()) {
             case JIRA:
-                JiraUser user = jiraClient.getUser(
-                        context.getCloudId(),
-                        xForgeTokenRepository.getXForgeToken(
-                                securityUtils.getCurrentXForgeUserTokenId(),
-                                XForgeTokenType.USER
-                        )
-                ).block();
+                JiraUser user = getJiraEditorResources((JiraContext) context).user();
 
                 return User.builder()
                         .id(user.getAccountId())
@@ -199,31 +165,7 @@ public class ConfigServiceImpl extends DefaultConfigService {
         }
     }
 
-    private void preloadJiraResources(final UUID cloudId, final String issueId, final String attachmentId) {
-        String xForgeUserToken = xForgeTokenRepository.getXForgeToken(
-                securityUtils.getCurrentXForgeUserTokenId(),
-                XForgeTokenType.USER
-        );
-        String xForgeSystemToken = xForgeTokenRepository.getXForgeToken(
-                securityUtils.getCurrentXForgeSystemTokenId(),
-                XForgeTokenType.SYSTEM
-        );
-
-        Mono.when(
-                jiraClient.getUser(cloudId, xForgeUserToken),
-                jiraClient.getAttachment(cloudId, attachmentId, xForgeUserToken),
-                jiraClient.getIssuePermissions(
-                        cloudId,
-                        issueId,
-                        List.of(
-                                JiraPermissionsKey.CREATE_ATTACHMENTS,
-                                JiraPermissionsKey.DELETE_OWN_ATTACHMENTS,
-                                JiraPermissionsKey.DELETE_ALL_ATTACHMENTS
-                        ),
-                        xForgeUserToken
-                ),
-                jiraClient.getSettings(Constants.SETTINGS_KEY, xForgeSystemToken)
-                        .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
-        ).block();
+    private JiraEditorResources getJiraEditorResources(final JiraContext context) {
+        return jiraEditorResourcesService.getEditorResources(context, securityUtils.getCurrentAccountId()).block();
     }
 }
@@ -0,0 +1,299 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.onlyoffice.docs.atlassian.remote.client.forge.ForgeJwksClient;
+import com.onlyoffice.docs.atlassian.remote.configuration.ForgeProperties;
+import com.onlyoffice.docs.atlassian.remote.configuration.RedisProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ForgeJwkSource implements JWKSource<SecurityContext> {
+    private static final String JWKS_KEY = "spring:forge-jwks::jwks";
+    private static final String JWKS_LOCK_KEY = "spring:forge-jwks::lock";
+    private static final String FETCHED_AT_FIELD = "fetched-at";
+    private static final String KEYS_FIELD = "keys";
+    private static final long SHARED_JWKS_POLL_INTERVAL_MILLIS = 100;
+
+    private final ForgeJwksClient forgeJwksClient;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ForgeProperties forgeProperties;
+    private final RedisProperties redisProperties;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicReference<Instant> lastUnknownKeyRefresh = new AtomicReference<>(Instant.EPOCH);
+
+    private volatile CachedJwkSet cachedJwkSet;
+
+    @Override
+    public List<JWK> get(final JWKSelector jwkSelector, final SecurityContext context) throws KeySourceException {
+        CachedJwkSet current = getCachedJwkSet();
+
+        List<JWK> keys = jwkSelector.select(current.jwkSet());
+        if (!keys.isEmpty() || !tryAcquireUnknownKeyRefresh()) {
+            return keys;
+        }
+
+        log.info("Refreshing Forge JWKS: no key matches the token header");
+
+        return jwkSelector.select(refresh(current, true).jwkSet());
+    }
+
+    public int getKeyCount() throws KeySourceException {
+        return getCachedJwkSet().jwkSet().size();
+    }
+
+    @Scheduled(fixedDelayString = "#{@forgeProperties.jwks.refreshCheckInterval.toMillis()}")
+    public void refreshAhead() {
+        CachedJwkSet current = cachedJwkSet;
+
+        if (Objects.isNull(current) || !isRefreshDue(current)) {
+            return;
+        }
+
+        try {
+            refresh(current, false);
+        } catch (KeySourceException e) {
+            log.warn("Failed to refresh Forge JWKS ahead of expiry", e);
+        }
+    }
+
+    private CachedJwkSet getCachedJwkSet() throws KeySourceException {
+        CachedJwkSet current = cachedJwkSet;
+
+        if (Objects.isNull(current)) {
+            return refresh(null, false);
+        }
+
+        if (isExpired(current)) {
+            try {
+                return refresh(current, false);
+            } catch (KeySourceException e) {
+                log.warn("Failed to refresh expired Forge JWKS, using the last known keys", e);
+            }
+        }
+
+        return current;
+    }
+
+    /**
+     * Only one thread of the instance refreshes, and the wait for another instance's fetch happens on that thread.
+     * While it runs, the other threads keep verifying with the keys they have; only the first load and a forced
+     * refresh for an unknown key wait, since the keys they have cannot verify the token.
+     */
+    private CachedJwkSet refresh(final CachedJwkSet stale, final boolean force) throws KeySourceException {
+        if (Objects.isNull(stale) || force) {
+            refreshLock.lock();
+        } else if (!refreshLock.tryLock()) {
+            return cachedJwkSet;
+        }
+
+        try {
+            CachedJwkSet current = cachedJwkSet;
+            if (current != stale) {
+                return current;
+            }
+
+            CachedJwkSet shared = readSharedJwkSet();
+            if (isNewer(shared, current) && (force || !isRefreshDue(shared))) {
+                cachedJwkSet = shared;
+                return shared;
+            }
+
+            String lockValue = UUID.randomUUID().toString();
+            boolean locked = tryLock(lockValue);
+
+            if (!locked) {
+                shared = awaitSharedJwkSet(current);
+
+                if (Objects.nonNull(shared)) {
+                    cachedJwkSet = shared;
+                    return shared;
+                }
+            }
+
+            try {
+                CachedJwkSet fetched = fetchJwkSet();
+
+                writeSharedJwkSet(fetched);
+                cachedJwkSet = fetched;
+
+                return fetched;
+            } finally {
+                if (locked) {
+                    unlock(lockValue);
+                }
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private CachedJwkSet fetchJwkSet() throws KeySourceException {
+        try {
+            String json = forgeJwksClient.getJwkSet()
+                    .block(forgeProperties.getJwks().getFetchTimeout());
+
+            return new CachedJwkSet(JWKSet.parse(json), json, Instant.now());
+        } catch (ParseException | RuntimeException e) {
+            throw new KeySourceException("Failed to fetch Forge JWKS: " + e.getMessage(), e);
+        }
+    }
+
+    private CachedJwkSet awaitSharedJwkSet(final CachedJwkSet current) {
+        long deadline = System.nanoTime() + forgeProperties.getJwks().getLockTimeout().toNanos();
+
+        try {
+            while (System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(SHARED_JWKS_POLL_INTERVAL_MILLIS);
+
+                CachedJwkSet shared = readSharedJwkSet();
+                if (isNewer(shared, current)) {
+                    return shared;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return null;
+    }
+
+    private CachedJwkSet readSharedJwkSet() {
+        if (!redisProperties.isEnabled()) {
+            return null;
+        }
+
+        try {
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(JWKS_KEY);
+
+            Object fetchedAt = entries.get(FETCHED_AT_FIELD);
+            Object keys = entries.get(KEYS_FIELD);
+
+            if (Objects.isNull(fetchedAt) || Objects.isNull(keys)) {
+                return null;
+            }
+
+            return new CachedJwkSet(
+                    JWKSet.parse(keys.toString()),
+                    keys.toString(),
+                    Instant.ofEpochMilli(Long.parseLong(fetchedAt.toString()))
+            );
+        } catch (DataAccessException | ParseException | NumberFormatException e) {
+            log.warn("Failed to read Forge JWKS from Redis", e);
+            return null;
+        }
+    }
+
+    private void writeSharedJwkSet(final CachedJwkSet jwkSet) {
+        if (!redisProperties.isEnabled()) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForHash().putAll(JWKS_KEY, Map.of(
+                    FETCHED_AT_FIELD, String.valueOf(jwkSet.fetchedAt().toEpochMilli()),
+                    KEYS_FIELD, jwkSet.json()
+            ));
+            stringRedisTemplate.expire(JWKS_KEY, forgeProperties.getJwks().getTtl());
+        } catch (DataAccessException e) {
+            log.warn("Failed to write Forge JWKS to Redis", e);
+        }
+    }
+
+    private boolean tryLock(final String lockValue) {
+        if (!redisProperties.isEnabled()) {
+            return true;
+        }
+
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(JWKS_LOCK_KEY, lockValue, forgeProperties.getJwks().getLockTimeout()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to acquire Forge JWKS refresh lock in Redis", e);
+            return true;
+        }
+    }
+
+    private void unlock(final String lockValue) {
+        if (!redisProperties.isEnabled()) {
+            return;
+        }
+
+        try {
+            if (lockValue.equals(stringRedisTemplate.opsForValue().get(JWKS_LOCK_KEY))) {
+                stringRedisTemplate.delete(JWKS_LOCK_KEY);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to release Forge JWKS refresh lock in Redis", e);
+        }
+    }
+
+    private boolean tryAcquireUnknownKeyRefresh() {
+        Instant now = Instant.now();
+        Instant last = lastUnknownKeyRefresh.get();
+
+        return now.isAfter(last.plus(forgeProperties.getJwks().getUnknownKeyRefreshInterval()))
+                && lastUnknownKeyRefresh.compareAndSet(last, now);
+    }
+
+    private boolean isRefreshDue(final CachedJwkSet jwkSet) {
+        ForgeProperties.JwksConfig jwksConfig = forgeProperties.getJwks();
+
+        return Instant.now().isAfter(
+                jwkSet.fetchedAt().plus(jwksConfig.getTtl()).minus(jwksConfig.getRefreshAhead())
+        );
+    }
+
+    private boolean isExpired(final CachedJwkSet jwkSet) {
+        return Instant.now().isAfter(jwkSet.fetchedAt().plus(forgeProperties.getJwks().getTtl()));
+    }
+
+    private boolean isNewer(final CachedJwkSet candidate, final CachedJwkSet current) {
+        return Objects.nonNull(candidate)
+                && (Objects.isNull(current) || candidate.fetchedAt().isAfter(current.fetchedAt()));
+    }
+
+    private record CachedJwkSet(JWKSet jwkSet, String json, Instant fetchedAt) {
+    }
+}
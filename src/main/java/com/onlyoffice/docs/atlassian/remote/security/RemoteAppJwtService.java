@@ -18,12 +18,21 @@
 
 package com.onlyoffice.docs.atlassian.remote.security;
 
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
+import com.onlyoffice.docs.atlassian.remote.aop.RequestCacheable;
+import com.onlyoffice.docs.atlassian.remote.api.Context;
 import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
 import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.jfr.RemoteAppJwtEvent;
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.core.OAuth2Error;
@@ -44,25 +53,51 @@ import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 
 @Service
 public class RemoteAppJwtService {
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder BASE64_URL_ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final String ENCODED_HEADER = BASE64_URL_ENCODER.encodeToString(
+            "{\"typ\":\"JWT\",\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)
+    );
+
+    private static final String METER_NAME = "remote.app.jwt";
+
     private final NimbusJwtEncoder nimbusJwtEncoder;
     private final NimbusJwtDecoder nimbusJwtDecoder;
+    private final Mac macPrototype;
+    /**
+     * Idle initialized instances, grown to the peak number of concurrent signings. A thread local would keep one
+     * instance per thread, i.e. a new one for every virtual thread.
+     */
+    private final Queue<Mac> macPool = new ConcurrentLinkedQueue<>();
+    private final Timer signTimer;
+    private final Timer encodeTimer;
+    private final Timer decodeSuccessTimer;
+    private final Timer decodeErrorTimer;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectWriter claimsWriter = objectMapper.writerFor(Claims.class);
 
-    public RemoteAppJwtService(final @Value("${app.security.secret}") String secret) {
+    public RemoteAppJwtService(final @Value("${app.security.secret}") String secret,
+                               final MeterRegistry meterRegistry) {
         SecretKey secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "RAW");
         JWKSource<SecurityContext> jwkSource = new ImmutableSecret<>(secret.getBytes(StandardCharsets.UTF_8));
 
@@ -100,6 +135,80 @@ public class RemoteAppJwtService {
         nimbusJwtDecoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(validators));
 
         this.nimbusJwtEncoder = new NimbusJwtEncoder(jwkSource);
+
+        SecretKey macKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+        try {
+            this.macPrototype = Mac.getInstance(MAC_ALGORITHM);
+            macPrototype.init(macKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+
+        this.signTimer = timer(meterRegistry, "sign", MetricsTags.SUCCESS);
+        this.encodeTimer = timer(meterRegistry, "encode", MetricsTags.SUCCESS);
+        this.decodeSuccessTimer = timer(meterRegistry, "decode", MetricsTags.SUCCESS);
+        this.decodeErrorTimer = timer(meterRegistry, "decode", MetricsTags.ERROR);
+    }
+
+    @RequestCacheable
+    public ContextClaim createContextClaim(final Context context) {
+        try {
+            return new ContextClaim(objectMapper.writeValueAsString(context));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public String sign(final String subject, final String audience, final long lifeTimeInMinutes,
+                       final ContextClaim context) {
+        return recordEvent("sign", () -> signTimer.record(() -> doSign(subject, audience, lifeTimeInMinutes, context)));
+    }
+
+    private String doSign(final String subject, final String audience, final long lifeTimeInMinutes,
+                          final ContextClaim context) {
+        long issuedAt = Instant.now().getEpochSecond();
+
+        Claims claims = new Claims(
+                subject,
+                audience,
+                issuedAt,
+                issuedAt + TimeUnit.MINUTES.toSeconds(lifeTimeInMinutes),
+                context.json()
+        );
+
+        String signingInput;
+        try {
+            signingInput = ENCODED_HEADER + "."
+                    + BASE64_URL_ENCODER.encodeToString(claimsWriter.writeValueAsBytes(claims));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+
+        byte[] signature = hmac(signingInput.getBytes(StandardCharsets.US_ASCII));
+
+        return signingInput + "." + BASE64_URL_ENCODER.encodeToString(signature);
+    }
+
+    private byte[] hmac(final byte[] input) {
+        Mac instance = macPool.poll();
+        if (Objects.isNull(instance)) {
+            instance = newMac();
+        }
+
+        try {
+            return instance.doFinal(input);
+        } finally {
+            macPool.offer(instance);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            // Cloning skips the provider lookup and key setup
+            return (Mac) macPrototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public Jwt encode(final String subject, final String audience, final long lifeTimeInMinutes,
@@ -132,10 +241,26 @@ public class RemoteAppJwtService {
 
         JwtEncoderParameters parameters = JwtEncoderParameters.from(header, claims);
 
-        return nimbusJwtEncoder.encode(parameters);
+        return recordEvent("encode", () -> encodeTimer.record(() -> nimbusJwtEncoder.encode(parameters)));
     }
 
     public Jwt decode(final String token, final String audience) {
+        RemoteAppJwtEvent event = RemoteAppJwtEvent.start();
+        long start = System.nanoTime();
+        Timer timer = decodeErrorTimer;
+
+        try {
+            Jwt jwt = doDecode(token, audience);
+            timer = decodeSuccessTimer;
+
+            return jwt;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            event.finish("decode", timer == decodeSuccessTimer);
+        }
+    }
+
+    private Jwt doDecode(final String token, final String audience) {
         Jwt jwt = nimbusJwtDecoder.decode(token);
 
         JwtAudienceValidator jwtAudienceValidator = new JwtAudienceValidator(audience);
@@ -151,6 +276,28 @@ public class RemoteAppJwtService {
         }
     }
 
+    private static <T> T recordEvent(final String operation, final Supplier<T> supplier) {
+        RemoteAppJwtEvent event = RemoteAppJwtEvent.start();
+        boolean success = false;
+
+        try {
+            T result = supplier.get();
+            success = true;
+
+            return result;
+        } finally {
+            event.finish(operation, success);
+        }
+    }
+
+    private static Timer timer(final MeterRegistry meterRegistry, final String operation, final String outcome) {
+        return meterRegistry.timer(
+                METER_NAME,
+                MetricsTags.OPERATION, operation,
+                MetricsTags.OUTCOME, outcome
+        );
+    }
+
     private String getJwtValidationExceptionMessage(final Collection<OAuth2Error> errors) {
         for (OAuth2Error oAuth2Error : errors) {
             if (StringUtils.hasLength(oAuth2Error.getDescription())) {
@@ -163,4 +310,10 @@ public class RemoteAppJwtService {
 
         return "Unable to validate Jwt";
     }
+
+    public record ContextClaim(String json) {
+    }
+
+    private record Claims(String sub, String aud, long iat, long exp, @JsonRawValue String context) {
+    }
 }
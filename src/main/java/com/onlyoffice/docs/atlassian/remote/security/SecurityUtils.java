@@ -152,6 +152,30 @@ public class SecurityUtils {
                 ? xForgeSystemTokenExpiration : xForgeUserTokenExpiration;
     }
 
+    public Optional<Product> findCurrentProduct() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (Objects.isNull(authentication) || !(authentication.getPrincipal() instanceof Jwt jwt)) {
+            return Optional.empty();
+        }
+
+        Optional<Product> product = extractProduct(jwt);
+        if (product.isPresent()) {
+            return product;
+        }
+
+        Map<String, Object> contextAsMap = jwt.getClaimAsMap("context");
+        if (Objects.isNull(contextAsMap) || !(contextAsMap.get("product") instanceof String productFromContext)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Product.valueOf(productFromContext));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     public Optional<Product> extractProduct(final Jwt jwt) {
         List<String> audience = jwt.getAudience();
         if (Objects.isNull(audience) || audience.isEmpty()) {
@@ -22,12 +22,15 @@ import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.JWTParser;
 import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.jfr.XForgeTokenEvent;
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
+import com.onlyoffice.docs.atlassian.remote.security.store.XForgeTokenStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.text.ParseException;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
 
@@ -35,11 +38,20 @@ import java.util.Objects;
 @Component
 @RequiredArgsConstructor
 public class XForgeTokenRepository {
-    private final RedisTemplate<String, String> redisXForgeTokensTemplate;
+    private static final String METER_NAME = "xforge.token.store";
+    private static final int KEY_PARTS_LIMIT = 3;
+
+    private final XForgeTokenStore xForgeTokenStore;
+    private final MeterRegistry meterRegistry;
 
     public String getXForgeToken(final String key, final XForgeTokenType xForgeTokenType) {
-        return redisXForgeTokensTemplate.opsForValue()
-                .get(xForgeTokenType.getValue() + "::" + key);
+        XForgeTokenEvent event = XForgeTokenEvent.start();
+        String token = meterRegistry.timer(METER_NAME, tags("get", key, xForgeTokenType))
+                .record(() -> xForgeTokenStore.get(xForgeTokenType, key));
+
+        finishEvent(event, "get", key, xForgeTokenType, token != null);
+
+        return token;
     }
 
     public Instant getXForgeTokenExpiration(final String key, final XForgeTokenType xForgeTokenType)
@@ -61,10 +73,44 @@ public class XForgeTokenRepository {
         JWT jwt = JWTParser.parse(token);
         JWTClaimsSet claimsSet = jwt.getJWTClaimsSet();
 
-        redisXForgeTokensTemplate.opsForValue().set(
-                xForgeTokenType.getValue() + "::" + key,
-                token,
-                Duration.between(Instant.now(), claimsSet.getExpirationTime().toInstant())
+        XForgeTokenEvent event = XForgeTokenEvent.start();
+        meterRegistry.timer(METER_NAME, tags("set", key, xForgeTokenType))
+                .record(() -> xForgeTokenStore.save(
+                        xForgeTokenType,
+                        key,
+                        token,
+                        claimsSet.getExpirationTime().toInstant()
+                ));
+
+        finishEvent(event, "set", key, xForgeTokenType, true);
+    }
+
+    private static void finishEvent(final XForgeTokenEvent event, final String operation, final String key,
+                                    final XForgeTokenType xForgeTokenType, final boolean found) {
+        if (!event.isEnabled()) {
+            return;
+        }
+
+        String[] keyParts = key.split(":", KEY_PARTS_LIMIT);
+
+        event.finish(
+                operation,
+                xForgeTokenType.name(),
+                keyParts[0],
+                keyParts.length > 1 ? keyParts[1] : MetricsTags.NONE,
+                found
+        );
+    }
+
+    private Tags tags(final String operation, final String key, final XForgeTokenType xForgeTokenType) {
+        String[] keyParts = key.split(":", KEY_PARTS_LIMIT);
+
+        return Tags.of(
+                MetricsTags.OPERATION, operation,
+                MetricsTags.PRODUCT, keyParts[0],
+                MetricsTags.TENANT, keyParts.length > 1 ? keyParts[1] : MetricsTags.NONE,
+                "type", xForgeTokenType.name(),
+                "store", xForgeTokenStore.getName()
         );
     }
 }
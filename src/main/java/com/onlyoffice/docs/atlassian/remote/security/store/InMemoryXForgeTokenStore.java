@@ -0,0 +1,98 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.security.store;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.configuration.TokenStoreProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+
+/**
+ * Keeps the tokens in the heap of this instance, for single-node deployments. Tokens are evicted when they expire
+ * and, past {@code app.token-store.memory.maximum-size}, the least used ones first; an evicted token is fetched
+ * again by the next Forge invocation of its tenant.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.token-store", name = "type", havingValue = "memory")
+public class InMemoryXForgeTokenStore implements XForgeTokenStore {
+    private final Cache<Key, Entry> tokens;
+
+    public InMemoryXForgeTokenStore(final TokenStoreProperties tokenStoreProperties) {
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(tokenStoreProperties.getMemory().getMaximumSize())
+                .expireAfter(new Expiry<Key, Entry>() {
+                    @Override
+                    public long expireAfterCreate(final Key key, final Entry entry, final long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), entry.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(final Key key, final Entry entry, final long currentTime,
+                                                  final long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(final Key key, final Entry entry, final long currentTime,
+                                                final long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public String get(final XForgeTokenType xForgeTokenType, final String tokenId) {
+        Entry entry = tokens.getIfPresent(new Key(xForgeTokenType, tokenId));
+
+        return Objects.isNull(entry) ? null : entry.token();
+    }
+
+    @Override
+    public void save(final XForgeTokenType xForgeTokenType, final String tokenId, final String token,
+                     final Instant expiresAt) {
+        Key key = new Key(xForgeTokenType, tokenId);
+
+        if (!expiresAt.isAfter(Instant.now())) {
+            tokens.invalidate(key);
+            return;
+        }
+
+        tokens.put(key, new Entry(token, expiresAt));
+    }
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+
+    private record Key(XForgeTokenType xForgeTokenType, String tokenId) {
+    }
+
+    private record Entry(String token, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.security.store;
+
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.entity.XForgeToken;
+import com.onlyoffice.docs.atlassian.remote.entity.XForgeTokenId;
+import com.onlyoffice.docs.atlassian.remote.repository.XForgeTokenEntityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+
+/**
+ * Keeps the tokens in the application database, for deployments without Redis. Reads skip expired rows, which are
+ * deleted every {@code app.token-store.postgres.cleanup-interval}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.token-store", name = "type", havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresXForgeTokenStore implements XForgeTokenStore {
+    private final XForgeTokenEntityRepository xForgeTokenEntityRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public String get(final XForgeTokenType xForgeTokenType, final String tokenId) {
+        return xForgeTokenEntityRepository.findByIdAndExpiresAtAfter(
+                        new XForgeTokenId(xForgeTokenType, tokenId),
+                        Instant.now()
+                )
+                .map(XForgeToken::getToken)
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional
+    public void save(final XForgeTokenType xForgeTokenType, final String tokenId, final String token,
+                     final Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+
+        xForgeTokenEntityRepository.upsert(xForgeTokenType.name(), tokenId, token, expiresAt);
+    }
+
+    @Override
+    public String getName() {
+        return "postgres";
+    }
+
+    @Scheduled(fixedDelayString = "#{@tokenStoreProperties.postgres.cleanupInterval.toMillis()}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = xForgeTokenEntityRepository.deleteAllByExpiresAtBefore(Instant.now());
+
+        if (deleted > 0) {
+            log.debug("Deleted {} expired X-Forge tokens", deleted);
+        }
+    }
+}
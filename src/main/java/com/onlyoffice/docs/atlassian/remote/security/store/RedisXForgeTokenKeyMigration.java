@@ -0,0 +1,94 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.security.store;
+
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.cache.RedisKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+
+/**
+ * Renames the X-Forge token keys written before the keys were hash tagged, once at startup, so token reads only
+ * look up the current layout. Renaming keeps the TTL; a key whose current layout already exists is dropped.
+ * A Redis Cluster is skipped, as it only ever held hash tagged keys.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.token-store", name = "type", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisXForgeTokenKeyMigration implements InitializingBean {
+    private static final long SCAN_COUNT = 1000;
+
+    private final RedisTemplate<String, String> redisXForgeTokensTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        RedisConnectionFactory connectionFactory = redisXForgeTokensTemplate.getRequiredConnectionFactory();
+
+        if (connectionFactory instanceof LettuceConnectionFactory lettuceConnectionFactory
+                && lettuceConnectionFactory.isClusterAware()) {
+            return;
+        }
+
+        for (XForgeTokenType xForgeTokenType : XForgeTokenType.values()) {
+            int migrated = migrate(xForgeTokenType);
+
+            if (migrated > 0) {
+                log.info("Migrated {} {} keys to the hash tagged layout", migrated, xForgeTokenType.getValue());
+            }
+        }
+    }
+
+    int migrate(final XForgeTokenType xForgeTokenType) {
+        String prefix = RedisKeys.legacyXForgeToken(xForgeTokenType, "");
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(prefix + "[^{]*")
+                .count(SCAN_COUNT)
+                .build();
+
+        int migrated = 0;
+        try (Cursor<String> legacyKeys = redisXForgeTokensTemplate.scan(scanOptions)) {
+            while (legacyKeys.hasNext()) {
+                String legacyKey = legacyKeys.next();
+                String key = RedisKeys.xForgeToken(xForgeTokenType, legacyKey.substring(prefix.length()));
+
+                if (key.equals(legacyKey)) {
+                    continue;
+                }
+
+                if (!Boolean.TRUE.equals(redisXForgeTokensTemplate.renameIfAbsent(legacyKey, key))) {
+                    redisXForgeTokensTemplate.delete(legacyKey);
+                }
+
+                migrated++;
+            }
+        }
+
+        return migrated;
+    }
+}
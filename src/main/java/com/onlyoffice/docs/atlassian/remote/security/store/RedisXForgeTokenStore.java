@@ -0,0 +1,76 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.security.store;
+
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.cache.RedisKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+
+@Component
+@ConditionalOnProperty(prefix = "app.token-store", name = "type", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisXForgeTokenStore implements XForgeTokenStore {
+    private final RedisTemplate<String, String> redisXForgeTokensTemplate;
+    private final RedisTemplate<String, String> redisXForgeTokensReadTemplate;
+
+    /**
+     * Reads the token from a replica when {@code app.redis.token-read-from} allows it. A replica may return an older
+     * token that is still valid, which is fine for callers; a token it has not received yet is read from the
+     * primary. Keys written before the keys were hash tagged are renamed at startup by
+     * {@link RedisXForgeTokenKeyMigration}.
+     */
+    @Override
+    public String get(final XForgeTokenType xForgeTokenType, final String tokenId) {
+        String redisKey = RedisKeys.xForgeToken(xForgeTokenType, tokenId);
+        String token = redisXForgeTokensReadTemplate.opsForValue().get(redisKey);
+
+        if (Objects.isNull(token)
+                && redisXForgeTokensReadTemplate.getConnectionFactory()
+                        != redisXForgeTokensTemplate.getConnectionFactory()) {
+            token = redisXForgeTokensTemplate.opsForValue().get(redisKey);
+        }
+
+        return token;
+    }
+
+    @Override
+    public void save(final XForgeTokenType xForgeTokenType, final String tokenId, final String token,
+                     final Instant expiresAt) {
+        Duration ttl = Duration.between(Instant.now(), expiresAt);
+
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        redisXForgeTokensTemplate.opsForValue().set(RedisKeys.xForgeToken(xForgeTokenType, tokenId), token, ttl);
+    }
+
+    @Override
+    public String getName() {
+        return "redis";
+    }
+}
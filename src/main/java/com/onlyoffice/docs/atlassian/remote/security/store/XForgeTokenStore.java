@@ -0,0 +1,46 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.security.store;
+
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+
+import java.time.Instant;
+
+
+/**
+ * Storage of X-Forge tokens by their ID ({@code PRODUCT:cloudId} or {@code PRODUCT:cloudId:accountId}). The
+ * backend is selected with {@code app.token-store.type}.
+ */
+public interface XForgeTokenStore {
+    /**
+     * Returns the token, or {@code null} if there is none or it has expired.
+     */
+    String get(XForgeTokenType xForgeTokenType, String tokenId);
+
+    /**
+     * Stores the token until {@code expiresAt}, replacing the previous one. A token that has already expired is
+     * not stored.
+     */
+    void save(XForgeTokenType xForgeTokenType, String tokenId, String token, Instant expiresAt);
+
+    /**
+     * Name of the backend, used as a metric tag.
+     */
+    String getName();
+}
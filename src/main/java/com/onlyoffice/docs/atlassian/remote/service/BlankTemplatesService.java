@@ -0,0 +1,119 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.onlyoffice.docs.atlassian.remote.configuration.CacheProperties;
+import com.onlyoffice.manager.document.DocumentManager;
+import com.onlyoffice.model.documenteditor.config.document.DocumentType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+
+@Slf4j
+@Service
+public class BlankTemplatesService {
+    private final DocumentManager documentManager;
+    private final LoadingCache<BlankTemplateKey, BlankTemplate> blankTemplates;
+
+    public BlankTemplatesService(final DocumentManager documentManager,
+                                 final CacheProperties cacheProperties,
+                                 final @Value("${app.templates.preload-locales}") List<Locale> preloadLocales) {
+        this.documentManager = documentManager;
+        this.blankTemplates = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getTemplates().getMaximumSize())
+                .build(this::load);
+
+        preload(preloadLocales);
+    }
+
+    public BlankTemplate getBlankTemplate(final String extension, final Locale locale) {
+        BlankTemplate blankTemplate = blankTemplates.get(new BlankTemplateKey(extension, locale));
+
+        if (Objects.isNull(blankTemplate)) {
+            throw new IllegalArgumentException("No blank template for extension: " + extension);
+        }
+
+        return blankTemplate;
+    }
+
+    private void preload(final List<Locale> locales) {
+        long totalLength = 0;
+
+        for (DocumentType documentType : DocumentType.values()) {
+            String extension = documentManager.getDefaultExtension(documentType);
+
+            if (Objects.isNull(extension)) {
+                continue;
+            }
+
+            for (Locale locale : locales) {
+                BlankTemplate blankTemplate = blankTemplates.get(new BlankTemplateKey(extension, locale));
+
+                if (Objects.nonNull(blankTemplate)) {
+                    totalLength += blankTemplate.contentLength();
+                }
+            }
+        }
+
+        log.info("Preloaded {} blank templates ({} bytes)", blankTemplates.estimatedSize(), totalLength);
+    }
+
+    private BlankTemplate load(final BlankTemplateKey key) {
+        try (InputStream inputStream = documentManager.getNewBlankFile(key.extension(), key.locale())) {
+            if (Objects.isNull(inputStream)) {
+                return null;
+            }
+
+            return BlankTemplate.of(inputStream.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record BlankTemplateKey(String extension, Locale locale) {
+    }
+
+    public record BlankTemplate(ByteBuffer content) {
+        public static BlankTemplate of(final byte[] content) {
+            return new BlankTemplate(ByteBuffer.wrap(content).asReadOnlyBuffer());
+        }
+
+        public int contentLength() {
+            return content.remaining();
+        }
+
+        public Flux<DataBuffer> asDataBuffers() {
+            return Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(content.duplicate())));
+        }
+    }
+}
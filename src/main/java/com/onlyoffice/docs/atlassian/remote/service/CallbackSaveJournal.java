@@ -0,0 +1,98 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.cache.RedisKeys;
+import com.onlyoffice.docs.atlassian.remote.configuration.RedisProperties;
+import com.onlyoffice.docs.atlassian.remote.configuration.ShutdownProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+
+/**
+ * Remembers the attachment a save callback uploaded in place of the edited one, for
+ * {@code app.shutdown.save-retry-window}. When Document Server retries the callback, e.g. after it was handed off
+ * on shutdown, the save only deletes the edited attachment instead of uploading the document again. Without Redis
+ * the journal is kept by the instance, which is enough for the single instance that mode allows.
+ */
+@Slf4j
+@Service
+public class CallbackSaveJournal {
+    private static final int LOCAL_MAXIMUM_SIZE = 10_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisProperties redisProperties;
+    private final ShutdownProperties shutdownProperties;
+    private final Cache<String, String> localJournal;
+
+    public CallbackSaveJournal(final StringRedisTemplate stringRedisTemplate, final RedisProperties redisProperties,
+                               final ShutdownProperties shutdownProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisProperties = redisProperties;
+        this.shutdownProperties = shutdownProperties;
+        this.localJournal = Caffeine.newBuilder()
+                .maximumSize(LOCAL_MAXIMUM_SIZE)
+                .expireAfterWrite(shutdownProperties.getSaveRetryWindow())
+                .build();
+    }
+
+    public Optional<String> findUploadedAttachment(final Context context, final String attachmentId) {
+        if (!redisProperties.isEnabled()) {
+            return Optional.ofNullable(localJournal.getIfPresent(key(context, attachmentId)));
+        }
+
+        try {
+            return Optional.ofNullable(stringRedisTemplate.opsForValue().get(key(context, attachmentId)));
+        } catch (DataAccessException e) {
+            log.warn("Failed to read the upload of attachment {} from Redis", attachmentId, e);
+
+            return Optional.empty();
+        }
+    }
+
+    public void recordUploadedAttachment(final Context context, final String attachmentId,
+                                         final String uploadedAttachmentId) {
+        if (!redisProperties.isEnabled()) {
+            localJournal.put(key(context, attachmentId), uploadedAttachmentId);
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForValue().set(
+                    key(context, attachmentId),
+                    uploadedAttachmentId,
+                    shutdownProperties.getSaveRetryWindow()
+            );
+        } catch (DataAccessException e) {
+            log.warn("Failed to record the upload of attachment {} in Redis, a retried save uploads it again",
+                    attachmentId, e);
+        }
+    }
+
+    private static String key(final Context context, final String attachmentId) {
+        return RedisKeys.uploadedAttachment(context.getProduct(), context.getCloudId(), attachmentId);
+    }
+}
@@ -16,37 +16,121 @@
  *
  */
 
+
 package com.onlyoffice.docs.atlassian.remote.service;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.onlyoffice.docs.atlassian.remote.cache.CacheLoads;
+import com.onlyoffice.docs.atlassian.remote.configuration.CacheProperties;
 import com.onlyoffice.docs.atlassian.remote.entity.DemoServerConnection;
 import com.onlyoffice.docs.atlassian.remote.entity.DemoServerConnectionId;
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
 import com.onlyoffice.docs.atlassian.remote.repository.DemoServerConnectionRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.persistence.EntityExistsException;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 
 @Service
-@RequiredArgsConstructor
 public class DemoServerConnectionService {
     private final DemoServerConnectionRepository demoServerConnectionRepository;
+    private final ObservationRegistry observationRegistry;
+    private final AsyncCache<DemoServerConnectionId, Optional<DemoServerConnection>> demoServerConnections;
+
+    public DemoServerConnectionService(final DemoServerConnectionRepository demoServerConnectionRepository,
+                                       final ObservationRegistry observationRegistry,
+                                       final CacheProperties cacheProperties) {
+        CacheProperties.CacheConfig cacheConfig = cacheProperties.getDemo();
+
+        this.demoServerConnectionRepository = demoServerConnectionRepository;
+        this.observationRegistry = observationRegistry;
+        this.demoServerConnections = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfter(new Expiry<DemoServerConnectionId, Optional<DemoServerConnection>>() {
+                    @Override
+                    public long expireAfterCreate(final DemoServerConnectionId id,
+                                                  final Optional<DemoServerConnection> connection,
+                                                  final long currentTime) {
+                        return connection.isPresent()
+                                ? cacheConfig.getTtl().toNanos()
+                                : cacheConfig.getNegativeTtl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(final DemoServerConnectionId id,
+                                                  final Optional<DemoServerConnection> connection,
+                                                  final long currentTime, final long currentDuration) {
+                        return expireAfterCreate(id, connection, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(final DemoServerConnectionId id,
+                                                final Optional<DemoServerConnection> connection,
+                                                final long currentTime, final long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .buildAsync();
+    }
 
     public DemoServerConnection findById(final DemoServerConnectionId id) {
-        return demoServerConnectionRepository.findById(id).orElse(null);
+        return CacheLoads.get(
+                demoServerConnections,
+                id,
+                key -> observeRepository("findById", () -> demoServerConnectionRepository.findById(key))
+        ).orElse(null);
     }
 
     @Transactional
-    public DemoServerConnection create(final DemoServerConnectionId id, final String startDate) {
-        if (demoServerConnectionRepository.existsById(id)) {
+    public DemoServerConnection create(final DemoServerConnectionId id, final Instant startedAt) {
+        if (observeRepository("existsById", () -> demoServerConnectionRepository.existsById(id))) {
             throw new EntityExistsException();
         }
 
-        return demoServerConnectionRepository.saveAndFlush(
-            DemoServerConnection.builder()
-                    .id(id)
-                    .startDate(startDate)
-                    .build()
+        DemoServerConnection demoServerConnection = observeRepository(
+                "saveAndFlush",
+                () -> demoServerConnectionRepository.saveAndFlush(
+                        DemoServerConnection.builder()
+                                .id(id)
+                                .startedAt(startedAt)
+                                .build()
+                )
         );
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                demoServerConnections.synchronous().put(id, Optional.of(demoServerConnection));
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                if (status != STATUS_COMMITTED) {
+                    demoServerConnections.synchronous().invalidate(id);
+                }
+            }
+        });
+
+        return demoServerConnection;
+    }
+
+    public void evict(final DemoServerConnectionId id) {
+        demoServerConnections.synchronous().invalidate(id);
+    }
+
+    private <T> T observeRepository(final String operation, final Supplier<T> call) {
+        return Observation.createNotStarted("demo.repository", observationRegistry)
+                .lowCardinalityKeyValue(MetricsTags.OPERATION, operation)
+                .observe(call);
     }
 }
@@ -0,0 +1,89 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.onlyoffice.docs.atlassian.remote.sdk.manager.DocumentManagerImpl;
+import com.onlyoffice.docs.atlassian.remote.web.dto.formats.FormatResponse;
+import com.onlyoffice.docs.atlassian.remote.web.dto.formats.FormatsResponse;
+import com.onlyoffice.manager.document.DocumentManager;
+import lombok.Getter;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+
+@Service
+@Getter
+public class FormatsService {
+    private final FormatsPayload formatsPayload;
+
+    public FormatsService(final DocumentManager documentManager, final ObjectMapper objectMapper) {
+        try {
+            List<FormatResponse> formats = documentManager.getFormats().stream()
+                    .map(format -> new FormatResponse(format, DocumentManagerImpl.FormatInfo.of(format).convertible()))
+                    .toList();
+
+            byte[] body = objectMapper.writeValueAsBytes(new FormatsResponse(formats));
+
+            String eTag = eTag(body);
+
+            this.formatsPayload = new FormatsPayload(body, eTag, gzip(body), gzipETag(eTag));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(final byte[] body) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(body.length);
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    private static String eTag(final byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String gzipETag(final String eTag) {
+        return eTag.substring(0, eTag.length() - 1) + "-gzip\"";
+    }
+
+    public record FormatsPayload(byte[] body, String eTag, byte[] gzipBody, String gzipETag) {
+    }
+}
@@ -0,0 +1,170 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.onlyoffice.docs.atlassian.remote.aop.RequestCacheable;
+import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.client.jira.JiraClient;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraAttachment;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermissions;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraPermissionsKey;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraUser;
+import com.onlyoffice.docs.atlassian.remote.configuration.CacheProperties;
+import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.Objects;
+
+
+@Slf4j
+@Service
+public class JiraEditorResourcesService {
+    public static final List<JiraPermissionsKey> EDITOR_PERMISSIONS = List.of(
+            JiraPermissionsKey.CREATE_ATTACHMENTS,
+            JiraPermissionsKey.DELETE_OWN_ATTACHMENTS,
+            JiraPermissionsKey.DELETE_ALL_ATTACHMENTS
+    );
+
+    private final JiraClient jiraClient;
+    private final XForgeTokenRepository xForgeTokenRepository;
+    private final SecurityUtils securityUtils;
+    private final TenantSettingsService tenantSettingsService;
+    private final Scheduler blockingScheduler;
+    private final boolean prefetchEnabled;
+    private final Cache<EditorResourcesKey, Mono<JiraEditorResources>> prefetchedResources;
+
+    public JiraEditorResourcesService(final JiraClient jiraClient,
+                                      final XForgeTokenRepository xForgeTokenRepository,
+                                      final SecurityUtils securityUtils,
+                                      final TenantSettingsService tenantSettingsService,
+                                      final Scheduler blockingScheduler,
+                                      final CacheProperties cacheProperties) {
+        this.jiraClient = jiraClient;
+        this.xForgeTokenRepository = xForgeTokenRepository;
+        this.securityUtils = securityUtils;
+        this.tenantSettingsService = tenantSettingsService;
+        this.blockingScheduler = blockingScheduler;
+        this.prefetchEnabled = cacheProperties.getPrefetch().isEnabled();
+        this.prefetchedResources = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.getPrefetch().getMaximumSize())
+                .expireAfterWrite(cacheProperties.getPrefetch().getTtl())
+                .build();
+    }
+
+    public void prefetch(final JiraContext context, final String accountId) {
+        if (!prefetchEnabled) {
+            return;
+        }
+
+        EditorResourcesKey key = new EditorResourcesKey(context, accountId);
+
+        try {
+            Mono<JiraEditorResources> resources = prefetchedResources.get(key, this::load);
+
+            resources.subscribe(
+                    value -> { },
+                    e -> {
+                        prefetchedResources.asMap().remove(key, resources);
+                        log.debug("Failed to prefetch editor resources for {}", context, e);
+                    }
+            );
+        } catch (RuntimeException e) {
+            log.debug("Failed to prefetch editor resources for {}", context, e);
+        }
+
+        Mono.fromRunnable(() -> tenantSettingsService.getTenantSettings(context.getProduct(), context.getCloudId()))
+                .subscribeOn(blockingScheduler)
+                .subscribe(
+                        value -> { },
+                        e -> log.debug("Failed to prefetch tenant settings for {}", context, e)
+                );
+    }
+
+    @RequestCacheable
+    public Mono<JiraEditorResources> getEditorResources(final JiraContext context, final String accountId) {
+        EditorResourcesKey key = new EditorResourcesKey(context, accountId);
+        Mono<JiraEditorResources> resources = prefetchedResources.get(key, this::load);
+
+        return resources.doOnError(e -> prefetchedResources.asMap().remove(key, resources));
+    }
+
+    public Mono<JiraAttachment> getAttachment(final JiraContext context, final String accountId,
+                                              final String attachmentId) {
+        if (attachmentId.equals(context.getAttachmentId())) {
+            Mono<JiraEditorResources> resources = prefetchedResources.getIfPresent(
+                    new EditorResourcesKey(context, accountId)
+            );
+
+            if (Objects.nonNull(resources)) {
+                return resources.map(JiraEditorResources::attachment);
+            }
+        }
+
+        return jiraClient.getAttachment(
+                context.getCloudId(),
+                attachmentId,
+                xForgeTokenRepository.getXForgeToken(
+                        securityUtils.createXForgeUserTokenId(context.getProduct(), context.getCloudId(), accountId),
+                        XForgeTokenType.USER
+                )
+        );
+    }
+
+    private Mono<JiraEditorResources> load(final EditorResourcesKey key) {
+        JiraContext context = key.context();
+
+        return Mono.defer(() -> {
+                    String token = xForgeTokenRepository.getXForgeToken(
+                            securityUtils.createXForgeUserTokenId(
+                                    context.getProduct(),
+                                    context.getCloudId(),
+                                    key.accountId()
+                            ),
+                            XForgeTokenType.USER
+                    );
+
+                    return Mono.zip(
+                            jiraClient.getUser(context.getCloudId(), token),
+                            jiraClient.getAttachment(context.getCloudId(), context.getAttachmentId(), token),
+                            jiraClient.getIssuePermissions(
+                                    context.getCloudId(),
+                                    context.getIssueId(),
+                                    EDITOR_PERMISSIONS,
+                                    token
+                            )
+                    );
+                })
+                .map(resources -> new JiraEditorResources(resources.getT1(), resources.getT2(), resources.getT3()))
+                .cache();
+    }
+
+    public record JiraEditorResources(JiraUser user, JiraAttachment attachment, JiraPermissions permissions) {
+    }
+
+    private record EditorResourcesKey(JiraContext context, String accountId) {
+    }
+}
@@ -0,0 +1,204 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.cache.CacheLoads;
+import com.onlyoffice.docs.atlassian.remote.client.jira.JiraClient;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraSettings;
+import com.onlyoffice.docs.atlassian.remote.configuration.CacheProperties;
+import com.onlyoffice.docs.atlassian.remote.configuration.RedisProperties;
+import com.onlyoffice.docs.atlassian.remote.entity.DemoServerConnection;
+import com.onlyoffice.docs.atlassian.remote.entity.DemoServerConnectionId;
+import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.onlyoffice.docs.atlassian.remote.Constants.SETTINGS_KEY;
+
+
+@Slf4j
+@Service
+public class TenantSettingsService {
+    public static final String INVALIDATION_CHANNEL = "spring:tenant-settings::invalidation";
+    public static final String DEMO_START = "demo-start";
+
+    private static final DateTimeFormatter DEMO_START_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss")
+            .withZone(ZoneId.systemDefault());
+
+    private final JiraClient jiraClient;
+    private final XForgeTokenRepository xForgeTokenRepository;
+    private final DemoServerConnectionService demoServerConnectionService;
+    private final SecurityUtils securityUtils;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisProperties redisProperties;
+    private final AsyncCache<String, TenantSettings> tenantSettings;
+
+    public TenantSettingsService(final JiraClient jiraClient,
+                                 final XForgeTokenRepository xForgeTokenRepository,
+                                 final DemoServerConnectionService demoServerConnectionService,
+                                 final SecurityUtils securityUtils,
+                                 final StringRedisTemplate stringRedisTemplate,
+                                 final RedisProperties redisProperties,
+                                 final CacheProperties cacheProperties) {
+        CacheProperties.CacheConfig cacheConfig = cacheProperties.getSettings();
+
+        this.jiraClient = jiraClient;
+        this.xForgeTokenRepository = xForgeTokenRepository;
+        this.demoServerConnectionService = demoServerConnectionService;
+        this.securityUtils = securityUtils;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisProperties = redisProperties;
+        this.tenantSettings = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfter(new Expiry<String, TenantSettings>() {
+                    @Override
+                    public long expireAfterCreate(final String tenantId, final TenantSettings settings,
+                                                  final long currentTime) {
+                        return settings.configured()
+                                ? cacheConfig.getTtl().toNanos()
+                                : cacheConfig.getNegativeTtl().toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(final String tenantId, final TenantSettings settings,
+                                                  final long currentTime, final long currentDuration) {
+                        return expireAfterCreate(tenantId, settings, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(final String tenantId, final TenantSettings settings,
+                                                final long currentTime, final long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .buildAsync();
+    }
+
+    public TenantSettings getTenantSettings(final Product product, final UUID cloudId) {
+        return CacheLoads.get(
+                tenantSettings,
+                securityUtils.createXForgeSystemTokenId(product, cloudId),
+                tenantId -> load(product, cloudId, tenantId)
+        );
+    }
+
+    public void invalidate(final Product product, final UUID cloudId) {
+        String tenantId = securityUtils.createXForgeSystemTokenId(product, cloudId);
+
+        evict(tenantId);
+
+        if (!redisProperties.isEnabled()) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, tenantId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to broadcast settings invalidation for tenant {}", tenantId, e);
+        }
+    }
+
+    /**
+     * Evicts the settings of the tenant and its demo server connection, which the settings snapshot is built from.
+     * Called locally and for invalidations received from other instances.
+     */
+    public void evict(final String tenantId) {
+        tenantSettings.synchronous().invalidate(tenantId);
+
+        String[] tenantParts = tenantId.split(":", 2);
+        if (tenantParts.length < 2) {
+            return;
+        }
+
+        try {
+            demoServerConnectionService.evict(
+                    DemoServerConnectionId.builder()
+                            .product(Product.valueOf(tenantParts[0]))
+                            .cloudId(UUID.fromString(tenantParts[1]))
+                            .build()
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("Failed to evict the demo server connection of tenant {}", tenantId, e);
+        }
+    }
+
+    private TenantSettings load(final Product product, final UUID cloudId, final String tenantId) {
+        DemoServerConnection demoServerConnection = demoServerConnectionService.findById(
+                DemoServerConnectionId.builder()
+                        .cloudId(cloudId)
+                        .product(product)
+                        .build()
+        );
+
+        String demoStart = Objects.nonNull(demoServerConnection)
+                ? DEMO_START_FORMATTER.format(demoServerConnection.getStartedAt())
+                : null;
+
+        JiraSettings jiraSettings;
+        try {
+            jiraSettings = jiraClient.getSettings(
+                    SETTINGS_KEY,
+                    xForgeTokenRepository.getXForgeToken(tenantId, XForgeTokenType.SYSTEM)
+            ).block();
+        } catch (WebClientResponseException e) {
+            if (HttpStatus.NOT_FOUND.equals(e.getStatusCode())) {
+                jiraSettings = null;
+            } else {
+                throw e;
+            }
+        }
+
+        if (Objects.isNull(jiraSettings) || Objects.isNull(jiraSettings.getValue())) {
+            return new TenantSettings(Map.of(), demoStart, false);
+        }
+
+        Map<String, String> values = jiraSettings.getValue().entrySet().stream()
+                .filter(entry -> Objects.nonNull(entry.getValue()))
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> String.valueOf(entry.getValue())));
+
+        return new TenantSettings(values, demoStart, true);
+    }
+
+    public record TenantSettings(Map<String, String> values, String demoStart, boolean configured) {
+        public String getSetting(final String name) {
+            if (DEMO_START.equals(name)) {
+                return demoStart;
+            }
+
+            return values.get(name);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.shutdown;
+
+import java.time.Duration;
+import java.util.List;
+
+
+/**
+ * Outcome of draining callbacks on shutdown: callbacks that finished within the drain timeout, document keys of
+ * the ones handed off to a Document Server retry, and callbacks rejected while draining.
+ */
+public record DrainReport(int drained, List<String> handedOff, int rejected, Duration elapsed) {
+}
@@ -0,0 +1,245 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.shutdown;
+
+import com.onlyoffice.docs.atlassian.remote.configuration.ShutdownProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Drains Document Server callbacks when the application stops. It runs in the highest lifecycle phase, so on
+ * SIGTERM it stops before the web server's graceful shutdown and before Redis and the HTTP clients: new callbacks
+ * are rejected with {@code 503}, in-flight ones get {@code app.shutdown.drain-timeout} to finish, and the rest are
+ * interrupted and answered with {@code 503} as well. Document Server retries a callback that fails, and the retry
+ * reaches an instance that is still running. A callback that has {@link #commit() committed} is not interrupted but
+ * left to finish during the web server's graceful shutdown.
+ */
+@Slf4j
+@Component
+public class ShutdownCoordinator implements SmartLifecycle {
+    private static final String METER_NAME = "shutdown.callbacks";
+    private static final long DRAIN_POLL_INTERVAL_MILLIS = 20;
+
+    private final ShutdownProperties shutdownProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final Set<InFlightCallback> inFlight = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<InFlightCallback> current = new ThreadLocal<>();
+    private final AtomicInteger rejected = new AtomicInteger();
+
+    private volatile boolean running;
+    private volatile boolean draining;
+    private volatile DrainReport drainReport;
+
+    public ShutdownCoordinator(final ShutdownProperties shutdownProperties, final MeterRegistry meterRegistry) {
+        this.shutdownProperties = shutdownProperties;
+        this.meterRegistry = meterRegistry;
+
+        meterRegistry.gaugeCollectionSize(METER_NAME + ".inflight", List.of(), inFlight);
+    }
+
+    /**
+     * Registers a callback processed on the current thread. The caller must {@link InFlightCallback#finish()} it.
+     *
+     * @throws ShuttingDownException if the application is draining
+     */
+    public InFlightCallback begin(final String documentKey) {
+        if (draining) {
+            throw reject(documentKey);
+        }
+
+        InFlightCallback callback = new InFlightCallback(documentKey, Thread.currentThread());
+        inFlight.add(callback);
+
+        // Draining may have started before the callback was added and missed it.
+        if (draining) {
+            inFlight.remove(callback);
+            throw reject(documentKey);
+        }
+
+        current.set(callback);
+
+        return callback;
+    }
+
+    /**
+     * Marks the callback processed on the current thread as committed: its upload has finished, so interrupting it
+     * would leave the edited attachment in place and make the retry repeat the upload.
+     */
+    public void commit() {
+        InFlightCallback callback = current.get();
+
+        if (callback != null) {
+            callback.commit();
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    public DrainReport getDrainReport() {
+        return drainReport;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        drainReport = drain();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+
+    private DrainReport drain() {
+        draining = true;
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + shutdownProperties.getDrainTimeout().toNanos();
+        int started = inFlight.size();
+
+        log.info("Draining {} in-flight callbacks", started);
+
+        try {
+            while (!inFlight.isEmpty() && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(DRAIN_POLL_INTERVAL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<String> handedOff = inFlight.stream()
+                .filter(InFlightCallback::handOff)
+                .map(InFlightCallback::getDocumentKey)
+                .toList();
+
+        DrainReport report = new DrainReport(
+                Math.max(0, started - handedOff.size()),
+                handedOff,
+                rejected.get(),
+                Duration.ofNanos(System.nanoTime() - startedAt)
+        );
+
+        meterRegistry.counter(METER_NAME, "outcome", "drained").increment(report.drained());
+        meterRegistry.counter(METER_NAME, "outcome", "handed-off").increment(handedOff.size());
+
+        if (handedOff.isEmpty()) {
+            log.info("Drained {} callbacks in {} ms, rejected {}", report.drained(), report.elapsed().toMillis(),
+                    report.rejected());
+        } else {
+            log.warn("Drained {} callbacks in {} ms, rejected {}, handed off to Document Server retry: {}",
+                    report.drained(), report.elapsed().toMillis(), report.rejected(), handedOff);
+        }
+
+        return report;
+    }
+
+    private ShuttingDownException reject(final String documentKey) {
+        rejected.incrementAndGet();
+        meterRegistry.counter(METER_NAME, "outcome", "rejected").increment();
+
+        return new ShuttingDownException("Shutting down, not accepting the callback of document " + documentKey);
+    }
+
+    public final class InFlightCallback {
+        private final String documentKey;
+        private final Thread thread;
+        private boolean finished;
+        private boolean committed;
+        private boolean handedOff;
+
+        private InFlightCallback(final String documentKey, final Thread thread) {
+            this.documentKey = documentKey;
+            this.thread = thread;
+        }
+
+        public String getDocumentKey() {
+            return documentKey;
+        }
+
+        public synchronized boolean isHandedOff() {
+            return handedOff;
+        }
+
+        /**
+         * Unregisters the callback and clears the interrupt of a hand-off, so the request thread goes back to the
+         * server clean.
+         */
+        public synchronized void finish() {
+            if (finished) {
+                return;
+            }
+
+            finished = true;
+            inFlight.remove(this);
+
+            if (current.get() == this) {
+                current.remove();
+            }
+
+            if (handedOff) {
+                Thread.interrupted();
+            }
+        }
+
+        /**
+         * Clears an interrupt that raced with the upload, so the rest of the save runs.
+         */
+        private synchronized void commit() {
+            committed = true;
+
+            if (handedOff) {
+                Thread.interrupted();
+            }
+        }
+
+        private synchronized boolean handOff() {
+            if (finished || committed) {
+                return false;
+            }
+
+            handedOff = true;
+            thread.interrupt();
+
+            return true;
+        }
+    }
+}
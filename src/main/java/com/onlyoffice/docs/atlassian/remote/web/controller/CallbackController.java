@@ -19,7 +19,10 @@
 package com.onlyoffice.docs.atlassian.remote.web.controller;
 
 import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
+import com.onlyoffice.docs.atlassian.remote.metrics.ServerTiming;
 import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import com.onlyoffice.docs.atlassian.remote.shutdown.ShutdownCoordinator;
+import com.onlyoffice.docs.atlassian.remote.shutdown.ShuttingDownException;
 import com.onlyoffice.manager.settings.SettingsManager;
 import com.onlyoffice.model.documenteditor.Callback;
 import com.onlyoffice.service.documenteditor.callback.CallbackService;
@@ -43,6 +46,7 @@ public class CallbackController {
     private final SettingsManager settingsManager;
     private final CallbackService callbackService;
     private final SecurityUtils securityUtils;
+    private final ShutdownCoordinator shutdownCoordinator;
 
     @PostMapping("jira")
     public ResponseEntity<Map<String, Object>> callbackJira(
@@ -56,14 +60,29 @@ public class CallbackController {
                         .orElse(headers.get(settingsManager.getSecurityHeader().toLowerCase()));
 
         Callback verifiedCallback;
+        long verifyStartedAt = System.nanoTime();
         try {
             verifiedCallback = callbackService.verifyCallback(callback, authorizationHeader);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(Map.of("message", "Access denied: " + e.getMessage()));
+        } finally {
+            ServerTiming.current().ifPresent(serverTiming -> serverTiming.record("callback.verify", verifyStartedAt));
         }
 
-        callbackService.processCallback(verifiedCallback, jiraContext.getAttachmentId());
+        ShutdownCoordinator.InFlightCallback inFlightCallback = shutdownCoordinator.begin(verifiedCallback.getKey());
+        try {
+            callbackService.processCallback(verifiedCallback, jiraContext.getAttachmentId());
+        } catch (Exception e) {
+            if (inFlightCallback.isHandedOff()) {
+                throw new ShuttingDownException("Shutting down, the callback of document "
+                        + verifiedCallback.getKey() + " did not finish in time", e);
+            }
+
+            throw e;
+        } finally {
+            inFlightCallback.finish();
+        }
 
         return ResponseEntity.ok(Map.of("error", 0));
     }
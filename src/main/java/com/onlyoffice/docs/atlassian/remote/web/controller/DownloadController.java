@@ -18,6 +18,7 @@
 
 package com.onlyoffice.docs.atlassian.remote.web.controller;
 
+import com.onlyoffice.docs.atlassian.remote.accounting.TenantAccountingService;
 import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
 import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
 import com.onlyoffice.docs.atlassian.remote.client.jira.JiraClient;
@@ -51,6 +52,7 @@ public class DownloadController {
     private final JiraClient jiraClient;
     private final XForgeTokenRepository xForgeTokenRepository;
     private final SecurityUtils securityUtils;
+    private final TenantAccountingService tenantAccountingService;
 
     @GetMapping("jira")
     public ResponseEntity<Void> downloadJira(final @RequestHeader Map<String, String> headers) {
@@ -89,6 +91,10 @@ public class DownloadController {
 
         try {
             HttpStatusCode status = clientResponse.statusCode();
+            if (!status.isError()) {
+                tenantAccountingService.recordEditorOpen(jiraContext.getCloudId());
+            }
+
             HttpHeaders httpHeaders = new HttpHeaders();
             clientResponse.headers().asHttpHeaders().forEach((httpHeader, values) -> {
                 if (!httpHeader.equalsIgnoreCase("Transfer-Encoding")) {
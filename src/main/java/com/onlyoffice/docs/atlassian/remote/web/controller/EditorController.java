@@ -19,19 +19,27 @@
 package com.onlyoffice.docs.atlassian.remote.web.controller;
 
 import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
+import com.onlyoffice.docs.atlassian.remote.configuration.WebConfiguration;
+import com.onlyoffice.docs.atlassian.remote.metrics.ServerTiming;
 import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import com.onlyoffice.docs.atlassian.remote.web.dto.editor.EditorResponse;
 import com.onlyoffice.manager.settings.SettingsManager;
 import com.onlyoffice.manager.url.UrlManager;
 import com.onlyoffice.model.documenteditor.Config;
 import com.onlyoffice.model.documenteditor.config.document.Type;
 import com.onlyoffice.model.documenteditor.config.editorconfig.Mode;
 import com.onlyoffice.service.documenteditor.config.ConfigService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
-import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
 
 import java.text.ParseException;
 import java.util.Map;
@@ -41,25 +49,41 @@ import java.util.Map;
 @RequiredArgsConstructor
 @RequestMapping("/editor")
 public class EditorController {
+    @Value("${app.static-resources.version}")
+    private String staticResourcesVersion;
+
     private final ConfigService configService;
     private final SettingsManager settingsManager;
     private final UrlManager urlManager;
     private final SecurityUtils securityUtils;
 
-    @GetMapping(path = "/jira")
+    @GetMapping(path = "/jira", produces = MediaType.TEXT_HTML_VALUE)
     public String editorJiraPage(
             final @RequestParam Mode mode,
-            final Model model
+            final HttpServletRequest request
+    ) {
+        return "redirect:" + WebConfiguration.STATIC_RESOURCES_PATH + staticResourcesVersion
+                + "/editor/jira.html#" + request.getQueryString();
+    }
+
+    @GetMapping(path = "/jira")
+    @ResponseBody
+    public ResponseEntity<EditorResponse> editorJiraConfig(
+            final @RequestParam Mode mode
     ) throws ParseException {
         JiraContext jiraContext = (JiraContext) securityUtils.getCurrentAppContext();
 
+        long configStartedAt = System.nanoTime();
         Config config = configService.createConfig(jiraContext.getAttachmentId(), mode, Type.DESKTOP);
-        model.addAttribute("config", config);
-        model.addAttribute("documentServerApiUrl", urlManager.getDocumentServerApiUrl());
-
-        model.addAttribute("sessionExpires", securityUtils.getSessionExpires().toEpochMilli());
-        model.addAttribute("settings", Map.of("demo", settingsManager.isDemoActive()));
+        ServerTiming.current().ifPresent(serverTiming -> serverTiming.record("editor.config", configStartedAt));
 
-        return "editor";
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(new EditorResponse(
+                        config,
+                        urlManager.getDocumentServerApiUrl(),
+                        securityUtils.getSessionExpires().toEpochMilli(),
+                        Map.of("demo", settingsManager.isDemoActive())
+                ));
     }
 }
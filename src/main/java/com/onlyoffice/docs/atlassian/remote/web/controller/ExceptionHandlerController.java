@@ -18,7 +18,14 @@
 
 package com.onlyoffice.docs.atlassian.remote.web.controller;
 
+import com.onlyoffice.docs.atlassian.remote.bulkhead.BulkheadFullException;
+import com.onlyoffice.docs.atlassian.remote.configuration.ShutdownProperties;
+import com.onlyoffice.docs.atlassian.remote.ratelimit.RateLimitExceededException;
+import com.onlyoffice.docs.atlassian.remote.shutdown.ShuttingDownException;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -30,7 +37,12 @@ import java.net.URI;
 
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class ExceptionHandlerController {
+    private static final String BULKHEAD_RETRY_AFTER_SECONDS = "1";
+
+    private final ShutdownProperties shutdownProperties;
+
     @ExceptionHandler(WebClientResponseException.class)
     public ResponseEntity<ProblemDetail> handleWebClientException(
             final WebClientResponseException exception,
@@ -46,4 +58,49 @@ public class ExceptionHandlerController {
 
         return ResponseEntity.status(exception.getStatusCode()).body(problem);
     }
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ProblemDetail> handleBulkheadFullException(
+            final BulkheadFullException exception,
+            final HttpServletRequest request) {
+        HttpStatus status = exception.isTenantLimit() ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE;
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, exception.getMessage());
+
+        problem.setInstance(URI.create(request.getRequestURI()));
+        problem.setProperty("lane", exception.getLane());
+
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, BULKHEAD_RETRY_AFTER_SECONDS)
+                .body(problem);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ProblemDetail> handleRateLimitExceededException(
+            final RateLimitExceededException exception,
+            final HttpServletRequest request) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.TOO_MANY_REQUESTS, exception.getMessage());
+
+        problem.setInstance(URI.create(request.getRequestURI()));
+        problem.setProperty("endpoint", exception.getEndpoint());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .headers(exception.getDecision().toHeaders())
+                .body(problem);
+    }
+
+    @ExceptionHandler(ShuttingDownException.class)
+    public ResponseEntity<ProblemDetail> handleShuttingDownException(
+            final ShuttingDownException exception,
+            final HttpServletRequest request) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                exception.getMessage()
+        );
+
+        problem.setInstance(URI.create(request.getRequestURI()));
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(shutdownProperties.getRetryAfter().toSeconds()))
+                .body(problem);
+    }
 }
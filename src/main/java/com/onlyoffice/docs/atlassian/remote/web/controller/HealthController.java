@@ -18,6 +18,9 @@
 
 package com.onlyoffice.docs.atlassian.remote.web.controller;
 
+import com.onlyoffice.docs.atlassian.remote.health.HealthProbeService;
+import com.onlyoffice.docs.atlassian.remote.health.HealthSnapshot;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -27,10 +30,22 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/v1/health")
+@RequiredArgsConstructor
 public class HealthController {
+    private final HealthProbeService healthProbeService;
 
-    @GetMapping
-    public ResponseEntity<Void> getHealth() {
-        return ResponseEntity.status(HttpStatus.OK).build();
+    @GetMapping({"", "/live"})
+    public ResponseEntity<Void> getLiveness() {
+        HttpStatus status = healthProbeService.isLive() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+
+        return ResponseEntity.status(status).build();
+    }
+
+    @GetMapping("/ready")
+    public ResponseEntity<HealthSnapshot> getReadiness() {
+        HealthSnapshot snapshot = healthProbeService.getSnapshot();
+        HttpStatus status = snapshot.ready() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+
+        return ResponseEntity.status(status).body(snapshot);
     }
 }
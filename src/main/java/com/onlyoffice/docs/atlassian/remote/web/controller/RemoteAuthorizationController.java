@@ -18,12 +18,13 @@
 
 package com.onlyoffice.docs.atlassian.remote.web.controller;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.onlyoffice.docs.atlassian.remote.api.Context;
 import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
+import com.onlyoffice.docs.atlassian.remote.configuration.WebConfiguration;
+import com.onlyoffice.docs.atlassian.remote.metrics.ServerTiming;
 import com.onlyoffice.docs.atlassian.remote.security.RemoteAppJwtService;
 import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import com.onlyoffice.docs.atlassian.remote.service.JiraEditorResourcesService;
 import com.onlyoffice.docs.atlassian.remote.web.dto.authorization.AuthorizationRequest;
 import com.onlyoffice.docs.atlassian.remote.web.dto.authorization.AuthorizationResponse;
 import jakarta.validation.Valid;
@@ -36,7 +37,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.text.ParseException;
-import java.util.Map;
 
 
 @RestController
@@ -47,11 +47,12 @@ public class RemoteAuthorizationController {
     private String baseUrl;
     @Value("${app.security.ttl.default}")
     private long ttlDefault;
+    @Value("${app.static-resources.version}")
+    private String staticResourcesVersion;
 
     private final RemoteAppJwtService remoteAppJwtService;
     private final SecurityUtils securityUtils;
-
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JiraEditorResourcesService jiraEditorResourcesService;
 
     @PostMapping
     public ResponseEntity<AuthorizationResponse> getAuthorization(
@@ -69,15 +70,27 @@ public class RemoteAuthorizationController {
             default -> throw new UnsupportedOperationException();
         };
 
-        String token = remoteAppJwtService.encode(
+        long signStartedAt = System.nanoTime();
+        String token = remoteAppJwtService.sign(
                 securityUtils.getCurrentAccountId(),
                 "/editor/" + context.getProduct().toString().toLowerCase(),
                 ttlDefault,
-                objectMapper.convertValue(remoteAppTokenContext, new TypeReference<Map<String, Object>>() { })
-        ).getTokenValue();
+                remoteAppJwtService.createContextClaim(remoteAppTokenContext)
+        );
+        ServerTiming.current().ifPresent(serverTiming -> serverTiming.record("jwt.sign", signStartedAt));
+
+        if (remoteAppTokenContext instanceof JiraContext jiraContext) {
+            jiraEditorResourcesService.prefetch(jiraContext, securityUtils.getCurrentAccountId());
+        }
 
         return ResponseEntity.ok(
-                new AuthorizationResponse(baseUrl, token, securityUtils.getSessionExpires().toEpochMilli())
+                new AuthorizationResponse(
+                        baseUrl,
+                        baseUrl + WebConfiguration.STATIC_RESOURCES_PATH + staticResourcesVersion + "/editor/"
+                                + context.getProduct().toString().toLowerCase() + ".html",
+                        token,
+                        securityUtils.getSessionExpires().toEpochMilli()
+                )
         );
     }
 }
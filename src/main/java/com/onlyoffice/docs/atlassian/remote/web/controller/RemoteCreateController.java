@@ -20,27 +20,28 @@ package com.onlyoffice.docs.atlassian.remote.web.controller;
 
 import com.onlyoffice.docs.atlassian.remote.api.Context;
 import com.onlyoffice.docs.atlassian.remote.client.jira.JiraClient;
-import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraAttachment;
+import com.onlyoffice.docs.atlassian.remote.ratelimit.RateLimitService;
 import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import com.onlyoffice.docs.atlassian.remote.service.BlankTemplatesService;
+import com.onlyoffice.docs.atlassian.remote.web.dto.create.BatchCreateRequest;
+import com.onlyoffice.docs.atlassian.remote.web.dto.create.BatchCreateResponse;
 import com.onlyoffice.docs.atlassian.remote.web.dto.create.CreateRequest;
 import com.onlyoffice.docs.atlassian.remote.web.dto.create.CreateResponse;
 import com.onlyoffice.manager.document.DocumentManager;
 import com.onlyoffice.model.documenteditor.config.document.DocumentType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.io.IOUtils;
-import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.core.io.buffer.DataBufferUtils;
-import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import reactor.core.publisher.Flux;
+import org.springframework.web.util.UrlPathHelper;
+import reactor.core.publisher.Mono;
 
-import java.io.InputStream;
 import java.util.List;
 import java.util.Locale;
 
@@ -50,11 +51,13 @@ import java.util.Locale;
 @RequiredArgsConstructor
 public class RemoteCreateController {
     private final DocumentManager documentManager;
+    private final BlankTemplatesService blankTemplatesService;
     private final JiraClient jiraClient;
     private final SecurityUtils securityUtils;
+    private final RateLimitService rateLimitService;
 
     @PostMapping
-    public ResponseEntity<CreateResponse> createAttachment(
+    public Mono<ResponseEntity<CreateResponse>> createAttachment(
             final @RequestHeader("x-forge-oauth-user") String xForgeUserToken,
             final @Valid @RequestBody CreateRequest request
     ) {
@@ -66,39 +69,86 @@ public class RemoteCreateController {
 
         String fileExtension = documentManager.getDefaultExtension(documentType);
 
-        InputStream newBlankFile = documentManager.getNewBlankFile(
+        BlankTemplatesService.BlankTemplate blankTemplate = blankTemplatesService.getBlankTemplate(
                 fileExtension,
                 Locale.forLanguageTag(locale)
         );
 
         switch (context.getProduct()) {
             case JIRA:
-                List<JiraAttachment> newAttachments = jiraClient.createAttachment(
+                return jiraClient.createAttachment(
                         context.getCloudId(),
                         parentId,
-                        toDataBufferFlux(newBlankFile),
-                        title + "." + fileExtension,
+                        new JiraClient.AttachmentFile(
+                                title + "." + fileExtension,
+                                blankTemplate.asDataBuffers(),
+                                blankTemplate.contentLength()
+                        ),
                         xForgeUserToken
-                );
-
-                return ResponseEntity.ok(
+                ).map(newAttachments -> ResponseEntity.ok(
                         new CreateResponse(
                                 String.valueOf(newAttachments.getFirst().getId()),
                                 newAttachments.getFirst().getFilename()
                         )
-                );
+                ));
             default:
                 throw new UnsupportedOperationException("Unsupported product: " + context.getProduct());
         }
     }
 
-    private static Flux<DataBuffer> toDataBufferFlux(final InputStream inputStream) {
-        DefaultDataBufferFactory factory = new DefaultDataBufferFactory();
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<BatchCreateResponse>> createAttachments(
+            final @RequestHeader("x-forge-oauth-user") String xForgeUserToken,
+            final @Valid @RequestBody BatchCreateRequest request,
+            final HttpServletRequest servletRequest,
+            final HttpServletResponse servletResponse
+    ) {
+        Context context = securityUtils.getCurrentAppContext();
+        Locale locale = Locale.forLanguageTag(request.getLocale());
+
+        // The rate limit interceptor took one token for the request, the batch costs one per document.
+        rateLimitService.consume(
+                UrlPathHelper.defaultInstance.getPathWithinApplication(servletRequest),
+                context,
+                request.getDocuments().size() - 1
+        ).ifPresent(decision -> decision.toHeaders()
+                .forEach((name, values) -> servletResponse.setHeader(name, values.getFirst())));
 
-        return DataBufferUtils.readInputStream(
-                () -> inputStream,
-                factory,
-                IOUtils.DEFAULT_BUFFER_SIZE
-        );
+        List<JiraClient.AttachmentFile> files = request.getDocuments().stream()
+                .map(document -> {
+                    String fileExtension = documentManager.getDefaultExtension(document.getDocumentType());
+                    BlankTemplatesService.BlankTemplate blankTemplate = blankTemplatesService.getBlankTemplate(
+                            fileExtension,
+                            locale
+                    );
+
+                    return new JiraClient.AttachmentFile(
+                            document.getTitle() + "." + fileExtension,
+                            blankTemplate.asDataBuffers(),
+                            blankTemplate.contentLength()
+                    );
+                })
+                .toList();
+
+        switch (context.getProduct()) {
+            case JIRA:
+                return jiraClient.createAttachments(
+                        context.getCloudId(),
+                        request.getParentId(),
+                        files,
+                        xForgeUserToken
+                ).map(newAttachments -> ResponseEntity.ok(
+                        new BatchCreateResponse(
+                                newAttachments.stream()
+                                        .map(attachment -> new CreateResponse(
+                                                String.valueOf(attachment.getId()),
+                                                attachment.getFilename()
+                                        ))
+                                        .toList()
+                        )
+                ));
+            default:
+                throw new UnsupportedOperationException("Unsupported product: " + context.getProduct());
+        }
     }
 }
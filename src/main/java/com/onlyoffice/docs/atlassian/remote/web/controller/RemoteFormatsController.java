@@ -16,27 +16,102 @@
  *
  */
 
+
 package com.onlyoffice.docs.atlassian.remote.web.controller;
 
-import com.onlyoffice.docs.atlassian.remote.web.dto.formats.FormatsResponse;
-import com.onlyoffice.manager.document.DocumentManager;
+import com.onlyoffice.docs.atlassian.remote.service.FormatsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
+import java.util.Locale;
+
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/remote/formats")
 public class RemoteFormatsController {
-    private final DocumentManager documentManager;
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String ANY = "*";
+    private static final String QUALITY = "q=";
+
+    private final FormatsService formatsService;
+
+    @Value("${app.formats.max-age}")
+    private Duration formatsMaxAge;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getFormats(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding) {
+        FormatsService.FormatsPayload formatsPayload = formatsService.getFormatsPayload();
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.maxAge(formatsMaxAge).cachePrivate())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzip) {
+            return response
+                    .eTag(formatsPayload.gzipETag())
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                    .body(formatsPayload.gzipBody());
+        }
+
+        return response
+                .eTag(formatsPayload.eTag())
+                .body(formatsPayload.body());
+    }
+
+    static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double gzipQuality = null;
+        Double anyQuality = null;
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parameters);
+
+            if (name.equals(GZIP) || name.equals(X_GZIP)) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if (name.equals(ANY)) {
+                anyQuality = quality;
+            }
+        }
+
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+
+        return anyQuality != null && anyQuality > 0;
+    }
+
+    private static double quality(final String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim().toLowerCase(Locale.ROOT);
+
+            if (parameter.startsWith(QUALITY)) {
+                try {
+                    return Double.parseDouble(parameter.substring(QUALITY.length()).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
 
-    @GetMapping
-    public ResponseEntity<FormatsResponse> getFormats() {
-        return ResponseEntity.ok(
-                new FormatsResponse(documentManager.getFormats())
-        );
+        return 1;
     }
 }
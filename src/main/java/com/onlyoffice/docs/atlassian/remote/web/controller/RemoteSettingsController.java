@@ -22,6 +22,7 @@ import com.onlyoffice.docs.atlassian.remote.api.Context;
 import com.onlyoffice.docs.atlassian.remote.entity.DemoServerConnection;
 import com.onlyoffice.docs.atlassian.remote.entity.DemoServerConnectionId;
 import com.onlyoffice.docs.atlassian.remote.service.DemoServerConnectionService;
+import com.onlyoffice.docs.atlassian.remote.service.TenantSettingsService;
 import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
 import com.onlyoffice.docs.atlassian.remote.web.dto.settings.SettingsResponse;
 import com.onlyoffice.utils.ConfigurationUtils;
@@ -34,11 +35,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
 
@@ -48,9 +46,10 @@ import java.util.Objects;
 public class RemoteSettingsController {
     private final SecurityUtils securityUtils;
     private final DemoServerConnectionService demoServerConnectionService;
+    private final TenantSettingsService tenantSettingsService;
 
     @GetMapping
-    public ResponseEntity<SettingsResponse> getSettings() throws ParseException {
+    public ResponseEntity<SettingsResponse> getSettings() {
         Context context = securityUtils.getCurrentAppContext();
         DemoServerConnectionId demoServerConnectionId = DemoServerConnectionId.builder()
                 .cloudId(context.getCloudId())
@@ -67,51 +66,50 @@ public class RemoteSettingsController {
             ));
         }
 
-        DateFormat dateFormat = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss");
-
-        Date startDemo = dateFormat.parse(demoServerConnection.getStartDate());
-
-        Calendar endDemo = Calendar.getInstance();
-        endDemo.setTime(startDemo);
-        endDemo.add(Calendar.DATE, ConfigurationUtils.getDemoTrialPeriod());
-
-        return ResponseEntity.ok(new SettingsResponse(
-                endDemo.after(Calendar.getInstance()),
-                startDemo.getTime(),
-                endDemo.getTimeInMillis()
-        ));
+        return ResponseEntity.ok(createSettingsResponse(demoServerConnection));
     }
 
     @PostMapping
-    public ResponseEntity<SettingsResponse> saveSettings() throws ParseException {
+    public ResponseEntity<SettingsResponse> saveSettings() {
         Context context = securityUtils.getCurrentAppContext();
         DemoServerConnectionId demoServerConnectionId = DemoServerConnectionId.builder()
                 .cloudId(context.getCloudId())
                 .product(context.getProduct())
                 .build();
 
-        DateFormat dateFormat = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss");
-
         DemoServerConnection demoServerConnection;
         try {
             demoServerConnection = demoServerConnectionService.create(
                     demoServerConnectionId,
-                    dateFormat.format(new Date())
+                    Instant.now().truncatedTo(ChronoUnit.SECONDS)
             );
+
+            tenantSettingsService.invalidate(context.getProduct(), context.getCloudId());
         } catch (EntityExistsException | DataIntegrityViolationException e) {
+            demoServerConnectionService.evict(demoServerConnectionId);
             demoServerConnection = demoServerConnectionService.findById(demoServerConnectionId);
         }
 
-        Date startDemo = dateFormat.parse(demoServerConnection.getStartDate());
+        return ResponseEntity.ok(createSettingsResponse(demoServerConnection));
+    }
+
+    @PostMapping("/invalidate")
+    public ResponseEntity<Void> invalidateSettings() {
+        Context context = securityUtils.getCurrentAppContext();
+
+        tenantSettingsService.invalidate(context.getProduct(), context.getCloudId());
+
+        return ResponseEntity.noContent().build();
+    }
 
-        Calendar endDemo = Calendar.getInstance();
-        endDemo.setTime(startDemo);
-        endDemo.add(Calendar.DATE, ConfigurationUtils.getDemoTrialPeriod());
+    private SettingsResponse createSettingsResponse(final DemoServerConnection demoServerConnection) {
+        Instant startDemo = demoServerConnection.getStartedAt();
+        Instant endDemo = startDemo.plus(ConfigurationUtils.getDemoTrialPeriod(), ChronoUnit.DAYS);
 
-        return ResponseEntity.ok(new SettingsResponse(
-                endDemo.after(Calendar.getInstance()),
-                startDemo.getTime(),
-                endDemo.getTimeInMillis()
-        ));
+        return new SettingsResponse(
+                endDemo.isAfter(Instant.now()),
+                startDemo.toEpochMilli(),
+                endDemo.toEpochMilli()
+        );
     }
 }
@@ -28,6 +28,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class AuthorizationResponse {
     private String remoteAppUrl;
+    private String editorUrl;
     private String token;
     private long sessionExpires;
 }
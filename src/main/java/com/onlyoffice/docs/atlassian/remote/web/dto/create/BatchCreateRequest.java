@@ -0,0 +1,57 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.web.dto.create;
+
+import com.onlyoffice.model.documenteditor.config.document.DocumentType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+
+@AllArgsConstructor
+@Data
+@NoArgsConstructor
+public class BatchCreateRequest {
+    public static final int MAX_DOCUMENTS = 10;
+
+    @NotBlank
+    private String parentId;
+    @NotEmpty
+    @Size(max = MAX_DOCUMENTS)
+    private List<@Valid @NotNull Document> documents;
+    @NotBlank
+    private String locale;
+
+    @AllArgsConstructor
+    @Data
+    @NoArgsConstructor
+    public static class Document {
+        @NotBlank
+        private String title;
+        @NotNull
+        private DocumentType documentType;
+    }
+}
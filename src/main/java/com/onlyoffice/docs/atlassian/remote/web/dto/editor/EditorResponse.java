@@ -23,11 +23,15 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 
 @AllArgsConstructor
 @Data
 @NoArgsConstructor
 public class EditorResponse {
     private Config config;
+    private String documentServerApiUrl;
     private long sessionExpires;
+    private Map<String, Object> settings;
 }
@@ -18,7 +18,6 @@
 
 package com.onlyoffice.docs.atlassian.remote.web.dto.formats;
 
-import com.onlyoffice.model.common.Format;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -30,5 +29,5 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 public class FormatsResponse {
-    private List<Format> formats;
+    private List<FormatResponse> formats;
 }
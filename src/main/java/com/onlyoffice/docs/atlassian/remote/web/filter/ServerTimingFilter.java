@@ -0,0 +1,99 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.web.filter;
+
+import com.onlyoffice.docs.atlassian.remote.metrics.ServerTiming;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+
+
+@Slf4j
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+    private final boolean logRequests;
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        ServerTiming serverTiming = ServerTiming.from(request);
+        if (serverTiming == null) {
+            serverTiming = new ServerTiming();
+            request.setAttribute(ServerTiming.REQUEST_ATTRIBUTE, serverTiming);
+        }
+
+        // the async dispatch gets the response wrapped by the initial dispatch
+        ServerTimingResponse serverTimingResponse = WebUtils.getNativeResponse(response, ServerTimingResponse.class);
+        if (serverTimingResponse == null) {
+            serverTimingResponse = new ServerTimingResponse(response, serverTiming);
+        }
+
+        try {
+            filterChain.doFilter(request, serverTimingResponse);
+        } finally {
+            if (!isAsyncStarted(request)) {
+                // bodiless responses (304, empty 200) are committed by the container after the chain returns
+                serverTimingResponse.writeServerTiming();
+
+                if (logRequests && log.isInfoEnabled()) {
+                    log.atInfo()
+                            .addKeyValue("method", request.getMethod())
+                            .addKeyValue("uri", request.getRequestURI())
+                            .addKeyValue("status", response.getStatus())
+                            .addKeyValue("serverTiming", serverTiming.toHeaderValue())
+                            .log("Request completed");
+                }
+            }
+        }
+    }
+
+    private static final class ServerTimingResponse extends OnCommittedResponseWrapper {
+        private final ServerTiming serverTiming;
+
+        private ServerTimingResponse(final HttpServletResponse response, final ServerTiming serverTiming) {
+            super(response);
+
+            this.serverTiming = serverTiming;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeServerTiming();
+        }
+
+        private void writeServerTiming() {
+            if (!isCommitted()) {
+                setHeader(ServerTiming.HEADER, serverTiming.toHeaderValue());
+            }
+        }
+    }
+}
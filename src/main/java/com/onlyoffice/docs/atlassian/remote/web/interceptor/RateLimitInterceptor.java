@@ -0,0 +1,66 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.web.interceptor;
+
+import com.onlyoffice.docs.atlassian.remote.ratelimit.RateLimitDecision;
+import com.onlyoffice.docs.atlassian.remote.ratelimit.RateLimitExceededException;
+import com.onlyoffice.docs.atlassian.remote.ratelimit.RateLimitService;
+import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.util.Optional;
+
+
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final RateLimitService rateLimitService;
+    private final SecurityUtils securityUtils;
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request,
+                             final HttpServletResponse response,
+                             final Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        Optional<RateLimitService.Endpoint> endpoint = rateLimitService.findEndpoint(
+                UrlPathHelper.defaultInstance.getPathWithinApplication(request)
+        );
+
+        if (endpoint.isEmpty()) {
+            return true;
+        }
+
+        RateLimitDecision decision = rateLimitService.tryConsume(endpoint.get(), securityUtils.getCurrentAppContext());
+
+        if (!decision.allowed()) {
+            throw new RateLimitExceededException(endpoint.get().name(), decision);
+        }
+
+        decision.toHeaders().forEach((name, values) -> response.setHeader(name, values.getFirst()));
+
+        return true;
+    }
+}
@@ -25,8 +25,11 @@ import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
 import com.onlyoffice.docs.atlassian.remote.configuration.ForgeProperties;
 import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
 import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -47,11 +50,23 @@ public class XForgeTokenInterceptor implements HandlerInterceptor {
     private final ForgeProperties forgeProperties;
     private final XForgeTokenRepository xForgeTokenRepository;
     private final SecurityUtils securityUtils;
+    private final ObservationRegistry observationRegistry;
 
     @Override
     public boolean preHandle(final HttpServletRequest request,
                              final HttpServletResponse response,
-                             final Object handler) throws ParseException, IOException {
+                             final Object handler) throws Exception {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        return Observation.createNotStarted("xforge.token.interceptor", observationRegistry)
+                .observeChecked(() -> validateAndSaveXForgeTokens(request, response));
+    }
+
+    private boolean validateAndSaveXForgeTokens(final HttpServletRequest request,
+                                                final HttpServletResponse response)
+            throws ParseException, IOException {
         String xForgeOauthUserHeader = forgeProperties.getToken().getUser().getHeader();
         String xForgeOauthSystemHeader = forgeProperties.getToken().getSystem().getHeader();
 
@@ -0,0 +1,36 @@
+-- Token bucket refilled continuously at ARGV[2] tokens per second up to ARGV[1] tokens.
+-- Takes the ARGV[4] tokens a request costs; while the bucket holds enough to also leave twice ARGV[3] tokens, takes
+-- ARGV[3] - 1 more at once to be spent locally.
+-- Returns the granted tokens (0 when rejected), the tokens left, the milliseconds until a token is available
+-- and the milliseconds until the bucket is full.
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local lease = tonumber(ARGV[3])
+local cost = tonumber(ARGV[4])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'updated')
+local tokens = tonumber(bucket[1]) or capacity
+local updated = tonumber(bucket[2]) or now
+
+tokens = math.min(capacity, tokens + math.max(0, now - updated) * rate / 1000)
+
+local granted = 0
+if tokens >= cost - 1 + 2 * lease then
+    granted = cost - 1 + lease
+elseif tokens >= cost then
+    granted = cost
+end
+tokens = tokens - granted
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'updated', now)
+redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) * 1000 / rate) + 1000)
+
+local retryAfter = 0
+if granted == 0 then
+    retryAfter = math.ceil((cost - tokens) * 1000 / rate)
+end
+
+return { granted, math.floor(tokens), retryAfter, math.ceil((capacity - tokens) * 1000 / rate) }
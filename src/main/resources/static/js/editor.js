@@ -16,8 +16,38 @@
  *
  */
 
-document.addEventListener("DOMContentLoaded", function() {
-    (function(DocsAPI, config, events, sessionExpires, settings) {
+(function(events) {
+    const params = new URLSearchParams(window.location.hash.substring(1));
+
+    const loadEditorConfig = () => {
+        return fetch("../../../editor/jira?" + params.toString(), {
+            headers: {
+                "Accept": "application/json"
+            },
+            credentials: "omit",
+            cache: "no-store"
+        }).then((response) => {
+            if (!response.ok) {
+                throw new Error("Failed to load editor config: " + response.status);
+            }
+
+            return response.json();
+        });
+    };
+
+    const loadDocsAPI = (documentServerApiUrl) => {
+        return new Promise((resolve) => {
+            const script = document.createElement("script");
+
+            script.src = documentServerApiUrl;
+            script.onload = () => resolve(window.DocsAPI);
+            script.onerror = () => resolve(undefined);
+
+            document.head.appendChild(script);
+        });
+    };
+
+    const init = (DocsAPI, config, sessionExpires, settings) => {
         if (!DocsAPI) {
             events.emit("DOCS_API_UNDEFINED");
             return;
@@ -112,6 +142,16 @@ document.addEventListener("DOMContentLoaded", function() {
 
         startSession(sessionExpires);
         startEditor();
+    };
 
-    })(window.DocsAPI, window.config, window.events, window.sessionExpires, window.settings);
-});
\ No newline at end of file
+    loadEditorConfig()
+        .then((editorResponse) => {
+            return loadDocsAPI(editorResponse.documentServerApiUrl).then((DocsAPI) => {
+                init(DocsAPI, editorResponse.config, editorResponse.sessionExpires, editorResponse.settings);
+            });
+        })
+        .catch((error) => {
+            console.error(error);
+            events.emit("EDITOR_CONFIG_UNAVAILABLE");
+        });
+})(window.events);
\ No newline at end of file
@@ -0,0 +1,77 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.accounting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+    @Test
+    public void whenLatenciesRecorded_returnPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        long[] counts = histogram.drain();
+
+        assertEquals(1000, LatencyHistogram.count(counts));
+        assertWithin(500_000, LatencyHistogram.percentileMicros(counts, 0.5));
+        assertWithin(990_000, LatencyHistogram.percentileMicros(counts, 0.99));
+    }
+
+    @Test
+    public void whenDrained_resetCounts() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertEquals(1, LatencyHistogram.count(histogram.drain()));
+        assertEquals(0, LatencyHistogram.count(histogram.drain()));
+    }
+
+    @Test
+    public void whenHistogramsMerged_sumCounts() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(TimeUnit.MILLISECONDS.toNanos(1));
+        second.record(TimeUnit.MILLISECONDS.toNanos(1));
+        second.record(TimeUnit.HOURS.toNanos(10));
+
+        long[] merged = LatencyHistogram.merge(LatencyHistogram.merge(null, first.drain()), second.drain());
+
+        assertEquals(3, LatencyHistogram.count(merged));
+    }
+
+    @Test
+    public void bucketBoundsAreContiguous() {
+        for (int i = 1; i < LatencyHistogram.BUCKETS; i++) {
+            assertEquals(i, LatencyHistogram.index(LatencyHistogram.upperBound(i)));
+            assertEquals(i, LatencyHistogram.index(LatencyHistogram.upperBound(i - 1) + 1));
+        }
+    }
+
+    private static void assertWithin(final long expected, final long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.125, expected + " ~ " + actual);
+    }
+}
@@ -0,0 +1,158 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.accounting;
+
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
+import com.onlyoffice.docs.atlassian.remote.metrics.WebClientMetricsFilter;
+import com.onlyoffice.docs.atlassian.remote.repository.TenantUsageRepository;
+import com.onlyoffice.docs.atlassian.remote.web.controller.AbstractControllerTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TenantAccountingServiceTest extends AbstractControllerTest {
+    @Autowired
+    private TenantAccountingService tenantAccountingService;
+
+    @Autowired
+    private TenantsEndpoint tenantsEndpoint;
+
+    @Autowired
+    private TenantUsageRepository tenantUsageRepository;
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < 3; i++) {
+            tenantAccountingService.flush();
+        }
+        tenantUsageRepository.deleteAll();
+    }
+
+    @Test
+    public void whenUsageFlushed_returnTopTenantsByMetric() {
+        UUID busyTenant = UUID.randomUUID();
+        UUID quietTenant = UUID.randomUUID();
+
+        tenantAccountingService.recordJiraCall(busyTenant, 200, 100, TimeUnit.MILLISECONDS.toNanos(10));
+        tenantAccountingService.recordJiraCall(busyTenant, 200, 100, TimeUnit.MILLISECONDS.toNanos(10));
+        tenantAccountingService.recordJiraCall(busyTenant, 429, 100, TimeUnit.MILLISECONDS.toNanos(10));
+        tenantAccountingService.recordJiraCall(quietTenant, 200, 0, TimeUnit.MILLISECONDS.toNanos(20));
+        tenantAccountingService.recordEditorOpen(quietTenant);
+        tenantAccountingService.recordEditorOpen(quietTenant);
+        tenantAccountingService.recordSave(quietTenant, 1000, TimeUnit.MILLISECONDS.toNanos(300));
+        tenantAccountingService.flush();
+
+        List<TenantUsageSummary> byJiraCalls = tenantsEndpoint.topTenants(null, null, null);
+
+        assertEquals(2, byJiraCalls.size());
+        TenantUsageSummary busy = byJiraCalls.get(0);
+        assertEquals(busyTenant.toString(), busy.tenant());
+        assertEquals(3, busy.jiraCalls());
+        assertEquals(1, busy.jiraThrottled());
+        assertEquals(300, busy.bytesTransferred());
+        assertEquals(3, busy.jiraLatency().count());
+        assertTrue(busy.jiraLatency().p50Micros() >= 10_000 && busy.jiraLatency().p50Micros() < 11_250);
+
+        List<TenantUsageSummary> byEditorOpens = tenantsEndpoint.topTenants(TenantUsageMetric.EDITOR_OPENS, null, 1);
+
+        assertEquals(1, byEditorOpens.size());
+        TenantUsageSummary quiet = byEditorOpens.get(0);
+        assertEquals(quietTenant.toString(), quiet.tenant());
+        assertEquals(2, quiet.editorOpens());
+        assertEquals(1, quiet.saves());
+        assertEquals(1000, quiet.bytesTransferred());
+    }
+
+    @Test
+    public void whenUsageFlushedTwice_accumulateUsageOfThePeriod() {
+        UUID tenant = UUID.randomUUID();
+
+        tenantAccountingService.recordEditorOpen(tenant);
+        tenantAccountingService.flush();
+        tenantAccountingService.recordEditorOpen(tenant);
+        tenantAccountingService.flush();
+
+        List<TenantUsageSummary> summaries = tenantsEndpoint.topTenants(TenantUsageMetric.EDITOR_OPENS, null, null);
+
+        assertEquals(1, summaries.size());
+        assertEquals(2, summaries.get(0).editorOpens());
+    }
+
+    @Test
+    public void whenJiraCallFails_accountJiraCall() {
+        UUID tenant = UUID.randomUUID();
+        WebClient webClient = WebClient.builder()
+                .baseUrl("https://api.atlassian.com")
+                .exchangeFunction(request -> Mono.error(new IOException("Connection reset")))
+                .filter(new TenantAccountingFilter(tenantAccountingService))
+                .build();
+
+        assertThrows(
+                WebClientRequestException.class,
+                () -> webClient.get()
+                        .uri("/ex/jira/{cloudId}/rest/api/3/myself", tenant)
+                        .attributes(WebClientMetricsFilter.attributes("getUser", MetricsTags.of(Product.JIRA, tenant)))
+                        .retrieve()
+                        .toBodilessEntity()
+                        .block()
+        );
+        tenantAccountingService.flush();
+
+        List<TenantUsageSummary> summaries = tenantsEndpoint.topTenants(TenantUsageMetric.JIRA_CALLS, null, null);
+
+        assertEquals(1, summaries.size());
+        assertEquals(tenant.toString(), summaries.get(0).tenant());
+        assertEquals(1, summaries.get(0).jiraCalls());
+        assertEquals(0, summaries.get(0).jiraThrottled());
+    }
+
+    @Test
+    public void whenTenantLimitReached_accountOtherTenantsTogether() {
+        for (int i = 0; i < 5; i++) {
+            tenantAccountingService.recordEditorOpen(UUID.randomUUID());
+        }
+        tenantAccountingService.flush();
+
+        Map<String, TenantUsageSummary> summaries = tenantsEndpoint.topTenants(
+                TenantUsageMetric.EDITOR_OPENS,
+                null,
+                100
+        ).stream().collect(Collectors.toMap(TenantUsageSummary::tenant, Function.identity()));
+
+        assertEquals(4, summaries.size());
+        assertEquals(2, summaries.get(TenantAccountingService.OTHER).editorOpens());
+    }
+}
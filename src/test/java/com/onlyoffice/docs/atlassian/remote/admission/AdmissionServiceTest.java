@@ -0,0 +1,176 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.admission;
+
+import com.onlyoffice.docs.atlassian.remote.configuration.AdmissionProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AdmissionServiceTest {
+    private static final String CALLBACK_PATH = "/api/v1/callback/jira";
+    private static final String EDITOR_PATH = "/editor/jira";
+
+    private MeterRegistry meterRegistry;
+    private AdmissionService admissionService;
+
+    @BeforeEach
+    public void setUp() {
+        AdmissionProperties.LimitConfig limitConfig = new AdmissionProperties.LimitConfig();
+        limitConfig.setInitial(10);
+        limitConfig.setMin(10);
+        limitConfig.setMax(10);
+        limitConfig.setSmoothing(0.2);
+        limitConfig.setTolerance(1.5);
+        limitConfig.setSampleWindow(20);
+        limitConfig.setLongWindow(30);
+
+        AdmissionProperties admissionProperties = new AdmissionProperties();
+        admissionProperties.setLimit(limitConfig);
+        admissionProperties.getGroups().put("callback", group("/api/v1/callback/**", 0.5));
+        admissionProperties.getGroups().put("editor", group("/editor/**", 0.2));
+
+        meterRegistry = new SimpleMeterRegistry();
+        admissionService = new AdmissionService(admissionProperties, meterRegistry);
+    }
+
+    @Test
+    public void whenLimitReached_shedGroupsAboveTheirShareOnly() {
+        List<AdmissionService.Permit> editorPermits = acquire(EDITOR_PATH, 5);
+
+        assertTrue(admissionService.tryAcquire(EDITOR_PATH).isEmpty());
+
+        List<AdmissionService.Permit> callbackPermits = acquire(CALLBACK_PATH, 5);
+
+        assertTrue(admissionService.tryAcquire(CALLBACK_PATH).isEmpty());
+        assertEquals(1.0, meterRegistry.get("admission.rejected").tag("group", "callback").counter().count());
+        assertEquals(1.0, meterRegistry.get("admission.rejected").tag("group", "editor").counter().count());
+        assertEquals(5.0, meterRegistry.get("admission.inflight").tag("group", "editor").gauge().value());
+
+        editorPermits.forEach(AdmissionService.Permit::release);
+        callbackPermits.forEach(AdmissionService.Permit::release);
+
+        assertEquals(0.0, meterRegistry.get("admission.inflight").tag("group", "editor").gauge().value());
+        assertTrue(admissionService.tryAcquire(EDITOR_PATH).isPresent());
+    }
+
+    @Test
+    public void whenGroupAboveItsShare_keepUnusedSharesOfOtherGroupsInsideTheLimit() {
+        acquire(CALLBACK_PATH, 8);
+
+        assertTrue(admissionService.tryAcquire(CALLBACK_PATH).isEmpty());
+
+        acquire(EDITOR_PATH, 2);
+
+        assertTrue(admissionService.tryAcquire(EDITOR_PATH).isEmpty());
+        assertTrue(admissionService.tryAcquire(CALLBACK_PATH).isEmpty());
+        assertEquals(8.0, meterRegistry.get("admission.inflight").tag("group", "callback").gauge().value());
+        assertEquals(2.0, meterRegistry.get("admission.inflight").tag("group", "editor").gauge().value());
+    }
+
+    @Test
+    public void whenAcquiredConcurrently_neverAdmitAboveTheLimit() throws Exception {
+        int threads = 16;
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String path = i % 2 == 0 ? CALLBACK_PATH : EDITOR_PATH;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 10_000; j++) {
+                        Optional<AdmissionService.Permit> permit = admissionService.tryAcquire(path);
+                        if (permit.isPresent()) {
+                            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                            inFlight.decrementAndGet();
+                            permit.get().release();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(maxInFlight.get() <= 10, () -> "Admitted " + maxInFlight.get() + " at limit 10");
+    }
+
+    @Test
+    public void whenPermitReleasedTwice_countItOnce() {
+        AdmissionService.Permit permit = admissionService.tryAcquire(CALLBACK_PATH).orElseThrow();
+        acquire(CALLBACK_PATH, 1);
+
+        permit.release();
+        permit.release();
+
+        assertEquals(1.0, meterRegistry.get("admission.inflight").tag("group", "callback").gauge().value());
+    }
+
+    @Test
+    public void whenPathOutsideOfGroups_admitWithoutLimit() {
+        acquire(EDITOR_PATH, 5);
+        acquire(CALLBACK_PATH, 5);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Optional.of(AdmissionService.Permit.NONE), admissionService.tryAcquire("/api/v1/health"));
+        }
+    }
+
+    private List<AdmissionService.Permit> acquire(final String path, final int count) {
+        List<AdmissionService.Permit> permits = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            permits.add(admissionService.tryAcquire(path).orElseThrow());
+        }
+
+        return permits;
+    }
+
+    private static AdmissionProperties.GroupConfig group(final String pattern, final double share) {
+        AdmissionProperties.GroupConfig groupConfig = new AdmissionProperties.GroupConfig();
+        groupConfig.setPatterns(List.of(pattern));
+        groupConfig.setShare(share);
+        groupConfig.setSampleLatency(true);
+
+        return groupConfig;
+    }
+}
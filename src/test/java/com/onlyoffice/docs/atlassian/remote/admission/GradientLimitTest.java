@@ -0,0 +1,97 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.admission;
+
+import com.onlyoffice.docs.atlassian.remote.configuration.AdmissionProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GradientLimitTest {
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(20);
+
+    @Test
+    public void whenLatencyStaysFlatAtTheLimit_growLimit() {
+        GradientLimit limit = new GradientLimit(config());
+
+        sample(limit, RTT, 50, 100);
+
+        assertTrue(limit.getLimit() > 50, () -> "Limit is " + limit.getLimit());
+    }
+
+    @Test
+    public void whenLatencyRises_shrinkLimit() {
+        GradientLimit limit = new GradientLimit(config());
+
+        sample(limit, RTT, 50, 10);
+        int before = limit.getLimit();
+
+        sample(limit, RTT * 4, before, 20);
+
+        assertTrue(limit.getLimit() < before, () -> "Limit went from " + before + " to " + limit.getLimit());
+    }
+
+    @Test
+    public void whenLatencyStaysHigh_keepLimitAboveMinimum() {
+        GradientLimit limit = new GradientLimit(config());
+
+        sample(limit, RTT, 50, 10);
+
+        int lowest = limit.getLimit();
+        for (int i = 1; i <= 50; i++) {
+            sample(limit, RTT * (1L << Math.min(i, 20)), limit.getLimit(), 1);
+            lowest = Math.min(lowest, limit.getLimit());
+        }
+
+        assertEquals(10, lowest);
+    }
+
+    @Test
+    public void whenFarBelowTheLimit_keepLimit() {
+        GradientLimit limit = new GradientLimit(config());
+
+        sample(limit, RTT, 5, 10);
+        sample(limit, RTT * 10, 5, 10);
+
+        assertEquals(50, limit.getLimit());
+    }
+
+    private static void sample(final GradientLimit limit, final long rtt, final int inFlight, final int windows) {
+        for (int i = 0; i < windows * 20; i++) {
+            limit.onSample(rtt, inFlight);
+        }
+    }
+
+    private static AdmissionProperties.LimitConfig config() {
+        AdmissionProperties.LimitConfig config = new AdmissionProperties.LimitConfig();
+
+        config.setInitial(50);
+        config.setMin(10);
+        config.setMax(400);
+        config.setSmoothing(0.2);
+        config.setTolerance(1.5);
+        config.setSampleWindow(20);
+        config.setLongWindow(30);
+
+        return config;
+    }
+}
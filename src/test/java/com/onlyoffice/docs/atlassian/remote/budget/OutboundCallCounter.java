@@ -0,0 +1,131 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.budget;
+
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts outbound calls made while serving a request. Redis commands are recorded by the Lettuce hook and SQL
+ * statements by the data source wrapper registered in {@link OutboundCallCounterConfiguration}, so every client of
+ * Redis and the database is counted. Jira and Document Server calls are read from the invocations of the tracked
+ * client mocks and spies.
+ */
+public class OutboundCallCounter {
+    private static final Duration QUIET_PERIOD = Duration.ofMillis(200);
+    private static final Duration SETTLE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Map<OutboundTarget, Map<String, LongAdder>> recorded = new ConcurrentHashMap<>();
+    private final Map<OutboundTarget, List<Object>> trackedMocks = new ConcurrentHashMap<>();
+
+    public void track(final OutboundTarget target, final Object... mocks) {
+        trackedMocks.put(target, List.of(mocks));
+    }
+
+    public void record(final OutboundTarget target, final String name) {
+        recorded.computeIfAbsent(target, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, key -> new LongAdder())
+                .increment();
+    }
+
+    /**
+     * Runs the action and returns the calls it made, including the ones issued asynchronously after the
+     * response was written, e.g. prefetching.
+     */
+    public OutboundCalls measure(final Action action) throws Exception {
+        awaitQuiescence();
+        reset();
+
+        action.run();
+
+        awaitQuiescence();
+        return snapshot();
+    }
+
+    public void reset() {
+        recorded.clear();
+        trackedMocks.values().forEach(mocks -> Mockito.clearInvocations(mocks.toArray()));
+    }
+
+    public OutboundCalls snapshot() {
+        Map<OutboundTarget, Map<String, Long>> calls = new EnumMap<>(OutboundTarget.class);
+
+        for (OutboundTarget target : OutboundTarget.values()) {
+            Map<String, Long> counts = new TreeMap<>();
+
+            recorded.getOrDefault(target, Map.of())
+                    .forEach((name, count) -> counts.merge(name, count.sum(), Long::sum));
+
+            for (Object mock : trackedMocks.getOrDefault(target, List.of())) {
+                for (Invocation invocation : Mockito.mockingDetails(mock).getInvocations()) {
+                    Method method = invocation.getMethod();
+
+                    if (Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class) {
+                        counts.merge(method.getDeclaringClass().getSimpleName() + "." + method.getName(), 1L,
+                                Long::sum);
+                    }
+                }
+            }
+
+            calls.put(target, counts);
+        }
+
+        return new OutboundCalls(calls);
+    }
+
+    private void awaitQuiescence() throws InterruptedException {
+        long deadline = System.nanoTime() + SETTLE_TIMEOUT.toNanos();
+        long previous = -1;
+        long current = total();
+
+        while (current != previous && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(QUIET_PERIOD.toMillis());
+
+            previous = current;
+            current = total();
+        }
+    }
+
+    private long total() {
+        OutboundCalls calls = snapshot();
+        long total = 0;
+
+        for (OutboundTarget target : OutboundTarget.values()) {
+            total += calls.count(target);
+        }
+
+        return total;
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+}
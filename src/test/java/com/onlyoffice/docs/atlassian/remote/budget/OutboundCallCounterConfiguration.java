@@ -0,0 +1,71 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.budget;
+
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import javax.sql.DataSource;
+
+@TestConfiguration(proxyBeanMethods = false)
+public class OutboundCallCounterConfiguration {
+
+    @Bean
+    public OutboundCallCounter outboundCallCounter() {
+        return new OutboundCallCounter();
+    }
+
+    /**
+     * Replaces the Lettuce latency recorder, so Redis command metrics are not published in this context.
+     */
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public ClientResourcesBuilderCustomizer outboundRedisCommandCounter(
+            final OutboundCallCounter outboundCallCounter) {
+        CommandLatencyRecorder recorder = (local, remote, commandType, firstResponseLatency, completionLatency) ->
+                outboundCallCounter.record(OutboundTarget.REDIS, commandType.toString());
+
+        return builder -> builder.commandLatencyRecorder(recorder);
+    }
+
+    /**
+     * Wraps the data source rather than hooking into Hibernate, so statements issued through
+     * {@code JdbcTemplate} are counted as well.
+     */
+    @Bean
+    public static BeanPostProcessor outboundSqlStatementCounter(
+            final ObjectProvider<OutboundCallCounter> outboundCallCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return new StatementCountingDataSource(dataSource, outboundCallCounter.getObject());
+                }
+
+                return bean;
+            }
+        };
+    }
+}
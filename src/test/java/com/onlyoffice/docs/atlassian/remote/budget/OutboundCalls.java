@@ -0,0 +1,50 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.budget;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+public record OutboundCalls(Map<OutboundTarget, Map<String, Long>> calls) {
+    public long count(final OutboundTarget target) {
+        return calls.getOrDefault(target, Map.of()).values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    public void assertWithin(final OutboundCallBudget budget) {
+        List<String> violations = new ArrayList<>();
+
+        for (OutboundTarget target : OutboundTarget.values()) {
+            long count = count(target);
+
+            if (count > budget.limit(target)) {
+                violations.add(target + ": " + count + " calls exceed the budget of " + budget.limit(target)
+                        + " " + calls.getOrDefault(target, Map.of()));
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            fail("Outbound call budget exceeded:\n" + String.join("\n", violations));
+        }
+    }
+}
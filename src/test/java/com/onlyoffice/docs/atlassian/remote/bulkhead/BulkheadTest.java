@@ -0,0 +1,129 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.bulkhead;
+
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.configuration.BulkheadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkheadTest {
+
+    @Test
+    public void whenPermitsAndQueueExhausted_rejectWithoutWaiting() {
+        Bulkhead bulkhead = new Bulkhead(1, 0);
+
+        assertTrue(bulkhead.tryAcquire(deadline(Duration.ofSeconds(10))));
+
+        long startedAt = System.nanoTime();
+        assertFalse(bulkhead.tryAcquire(deadline(Duration.ofSeconds(10))));
+        assertTrue(System.nanoTime() - startedAt < Duration.ofSeconds(1).toNanos());
+
+        assertEquals(1, bulkhead.getActive());
+        assertEquals(0, bulkhead.getQueued());
+    }
+
+    @Test
+    public void whenPermitReleased_grantItToQueuedCaller() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        assertTrue(bulkhead.tryAcquire(deadline(Duration.ZERO)));
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(
+                () -> bulkhead.tryAcquire(deadline(Duration.ofSeconds(10)))
+        );
+
+        while (bulkhead.getQueued() == 0) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        assertFalse(bulkhead.tryAcquire(deadline(Duration.ofSeconds(10))));
+
+        bulkhead.release();
+
+        assertTrue(queued.get(10, TimeUnit.SECONDS));
+        assertEquals(1, bulkhead.getActive());
+        assertEquals(0, bulkhead.getQueued());
+    }
+
+    @Test
+    public void whenQueuedPastDeadline_reject() {
+        Bulkhead bulkhead = new Bulkhead(1, 1);
+        assertTrue(bulkhead.tryAcquire(deadline(Duration.ZERO)));
+
+        assertFalse(bulkhead.tryAcquire(deadline(Duration.ofMillis(50))));
+        assertEquals(0, bulkhead.getQueued());
+    }
+
+    @Test
+    public void whenTenantIdleTimeoutPassesWhilePermitHeld_keepTenantBulkhead() throws Exception {
+        BulkheadService bulkheadService = new BulkheadService(
+                properties(Duration.ofMillis(1)),
+                new SimpleMeterRegistry()
+        );
+        Context context = Context.builder().product(Product.JIRA).cloudId(UUID.randomUUID()).build();
+        String tenantId = context.getCloudId().toString();
+
+        BulkheadService.Permit permit = bulkheadService.acquire(BulkheadLane.BACKGROUND, tenantId, context);
+        TimeUnit.MILLISECONDS.sleep(50);
+
+        BulkheadFullException rejection = assertThrows(
+                BulkheadFullException.class,
+                () -> bulkheadService.acquire(BulkheadLane.BACKGROUND, tenantId, context)
+        );
+        assertTrue(rejection.isTenantLimit());
+
+        permit.release();
+        TimeUnit.MILLISECONDS.sleep(50);
+
+        bulkheadService.acquire(BulkheadLane.BACKGROUND, tenantId, context).release();
+    }
+
+    private static BulkheadProperties properties(final Duration tenantIdleTimeout) {
+        BulkheadProperties.LaneConfig laneConfig = new BulkheadProperties.LaneConfig();
+        laneConfig.setMaxConcurrent(10);
+        laneConfig.setMaxQueued(0);
+        laneConfig.setTenantMaxConcurrent(1);
+        laneConfig.setTenantMaxQueued(0);
+        laneConfig.setMaxWait(Duration.ZERO);
+
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setEnabled(true);
+        properties.setMaximumTenants(10);
+        properties.setTenantIdleTimeout(tenantIdleTimeout);
+        properties.setInteractive(laneConfig);
+        properties.setBackground(laneConfig);
+
+        return properties;
+    }
+
+    private static long deadline(final Duration maxWait) {
+        return System.nanoTime() + maxWait.toNanos();
+    }
+}
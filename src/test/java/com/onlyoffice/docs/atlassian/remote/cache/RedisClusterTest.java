@@ -0,0 +1,241 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.cache;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.configuration.RateLimitProperties;
+import com.onlyoffice.docs.atlassian.remote.ratelimit.RateLimitService;
+import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import com.onlyoffice.docs.atlassian.remote.security.store.RedisXForgeTokenStore;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.internal.HostAndPort;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DnsResolvers;
+import io.lettuce.core.resource.MappingSocketAddressResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the Redis clients against a single node Redis Cluster that owns all slots. Redis checks that the keys of
+ * a multi-key command share a slot regardless of the node count, so one node is enough to catch cross-slot
+ * key layouts.
+ */
+@Testcontainers
+public class RedisClusterTest {
+    private static final int REDIS_PORT = 6379;
+    private static final int CLUSTER_SLOTS = 16384;
+
+    @Container
+    protected static final GenericContainer<?> REDIS_CLUSTER =
+            new GenericContainer<>(DockerImageName.parse("redis:7.0.12"))
+                    .withCommand("redis-server", "--cluster-enabled", "yes", "--appendonly", "no")
+                    .withExposedPorts(REDIS_PORT)
+                    .waitingFor(Wait.forLogMessage(".*Ready to accept connections.*", 1));
+
+    private static ClientResources clientResources;
+
+    private LettuceConnectionFactory connectionFactory;
+    private LettuceConnectionFactory replicaConnectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeAll
+    public static void setUpCluster() throws Exception {
+        REDIS_CLUSTER.execInContainer("redis-cli", "cluster", "addslotsrange", "0", String.valueOf(CLUSTER_SLOTS - 1));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!REDIS_CLUSTER.execInContainer("redis-cli", "cluster", "info").getStdout()
+                .contains("cluster_state:ok")) {
+            assertTrue(System.nanoTime() < deadline, "Redis Cluster did not become ready");
+            TimeUnit.MILLISECONDS.sleep(100);
+        }
+
+        // Cluster nodes announce their container address, route it to the mapped port.
+        HostAndPort mapped = HostAndPort.of(REDIS_CLUSTER.getHost(), REDIS_CLUSTER.getMappedPort(REDIS_PORT));
+        clientResources = ClientResources.builder()
+                .socketAddressResolver(MappingSocketAddressResolver.create(DnsResolvers.UNRESOLVED, node -> mapped))
+                .build();
+    }
+
+    @AfterAll
+    public static void tearDownCluster() {
+        clientResources.shutdown();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        connectionFactory = createConnectionFactory(ReadFrom.UPSTREAM);
+        replicaConnectionFactory = createConnectionFactory(ReadFrom.REPLICA_PREFERRED);
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        replicaConnectionFactory.destroy();
+        connectionFactory.destroy();
+    }
+
+    @Test
+    public void whenTenantTokensSaved_readThemWithOneMultiKeyCommand() throws Exception {
+        UUID cloudId = UUID.randomUUID();
+        String systemTokenId = "JIRA:" + cloudId;
+        String userTokenId = systemTokenId + ":account";
+        String systemToken = createToken();
+        String userToken = createToken();
+
+        XForgeTokenRepository xForgeTokenRepository = new XForgeTokenRepository(
+                new RedisXForgeTokenStore(stringRedisTemplate, new StringRedisTemplate(replicaConnectionFactory)),
+                new SimpleMeterRegistry()
+        );
+
+        xForgeTokenRepository.saveXForgeToken(systemTokenId, systemToken, XForgeTokenType.SYSTEM);
+        xForgeTokenRepository.saveXForgeToken(userTokenId, userToken, XForgeTokenType.USER);
+
+        assertEquals(systemToken, xForgeTokenRepository.getXForgeToken(systemTokenId, XForgeTokenType.SYSTEM));
+        assertEquals(userToken, xForgeTokenRepository.getXForgeToken(userTokenId, XForgeTokenType.USER));
+
+        List<String> tokens = mget(
+                RedisKeys.xForgeToken(XForgeTokenType.SYSTEM, systemTokenId),
+                RedisKeys.xForgeToken(XForgeTokenType.USER, userTokenId)
+        );
+
+        assertEquals(List.of(systemToken, userToken), tokens);
+    }
+
+    @Test
+    public void whenLegacyKeyLayoutUsed_rejectMultiKeyCommand() {
+        UUID cloudId = UUID.randomUUID();
+        String systemKey = RedisKeys.legacyXForgeToken(XForgeTokenType.SYSTEM, "JIRA:" + cloudId);
+        String userKey = RedisKeys.legacyXForgeToken(XForgeTokenType.USER, "JIRA:" + cloudId + ":account");
+
+        try (RedisClusterConnection connection = connectionFactory.getClusterConnection()) {
+            assertNotEquals(
+                    connection.clusterGetSlotForKey(bytes(systemKey)),
+                    connection.clusterGetSlotForKey(bytes(userKey))
+            );
+        }
+
+        assertThrows(DataAccessException.class, () -> mget(systemKey, userKey));
+    }
+
+    @Test
+    public void whenTenantRateLimitedOnCluster_shareBucket() {
+        RateLimitProperties.LeaseConfig leaseConfig = new RateLimitProperties.LeaseConfig();
+        leaseConfig.setSize(1);
+        leaseConfig.setTtl(Duration.ofMinutes(1));
+
+        RateLimitProperties.EndpointConfig endpointConfig = new RateLimitProperties.EndpointConfig();
+        endpointConfig.setPatterns(List.of("/api/v1/remote/create/**"));
+        endpointConfig.setCapacity(2);
+        endpointConfig.setRefillRate(0.01);
+
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.setEnabled(true);
+        rateLimitProperties.setMaximumTenants(100);
+        rateLimitProperties.setLease(leaseConfig);
+        rateLimitProperties.getEndpoints().put("create", endpointConfig);
+
+        RateLimitService rateLimitService = new RateLimitService(
+                rateLimitProperties,
+                stringRedisTemplate,
+                new SimpleMeterRegistry()
+        );
+        RateLimitService.Endpoint endpoint = rateLimitService.findEndpoint("/api/v1/remote/create").orElseThrow();
+        Context context = Context.builder()
+                .product(Product.JIRA)
+                .cloudId(UUID.randomUUID())
+                .build();
+
+        assertTrue(rateLimitService.tryConsume(endpoint, context).allowed());
+        assertTrue(rateLimitService.tryConsume(endpoint, context).allowed());
+        assertFalse(rateLimitService.tryConsume(endpoint, context).allowed());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> mget(final String firstKey, final String secondKey) {
+        try (RedisClusterConnection connection = connectionFactory.getClusterConnection()) {
+            List<byte[]> values = (List<byte[]>) connection.execute("MGET", bytes(firstKey), List.of(bytes(secondKey)));
+
+            return values.stream()
+                    .map(value -> new String(value, StandardCharsets.UTF_8))
+                    .toList();
+        }
+    }
+
+    private static LettuceConnectionFactory createConnectionFactory(final ReadFrom readFrom) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisClusterConfiguration(List.of(
+                        REDIS_CLUSTER.getHost() + ":" + REDIS_CLUSTER.getMappedPort(REDIS_PORT)
+                )),
+                LettuceClientConfiguration.builder()
+                        .clientResources(clientResources)
+                        .readFrom(readFrom)
+                        .build()
+        );
+
+        factory.afterPropertiesSet();
+        factory.start();
+
+        return factory;
+    }
+
+    private static byte[] bytes(final String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String createToken() {
+        return new PlainJWT(new JWTClaimsSet.Builder()
+                .expirationTime(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+                .build()
+        ).serialize();
+    }
+}
@@ -0,0 +1,98 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.jfr;
+
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
+import com.onlyoffice.docs.atlassian.remote.metrics.WebClientMetricsFilter;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JiraRequestEventFilterTest {
+    @Test
+    public void whenJiraRequestCompleted_emitJiraRequestEvent() throws Exception {
+        UUID cloudId = UUID.randomUUID();
+        WebClient webClient = WebClient.builder()
+                .baseUrl("https://api.atlassian.com")
+                .exchangeFunction(request -> Mono.just(
+                        ClientResponse.create(HttpStatus.NOT_FOUND)
+                                .header(HttpHeaders.CONTENT_LENGTH, "2")
+                                .body("{}")
+                                .build()
+                ))
+                .filter(new JiraRequestEventFilter())
+                .build();
+
+        List<RecordedEvent> events = FlightRecordings.record(
+                () -> webClient.get()
+                        .uri("/ex/jira/{cloudId}/rest/api/3/myself", cloudId)
+                        .attributes(WebClientMetricsFilter.attributes(
+                                "getUser",
+                                MetricsTags.of(Product.JIRA, cloudId)
+                        ))
+                        .exchangeToMono(ClientResponse::releaseBody)
+                        .block(),
+                JiraRequestEvent.NAME
+        );
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("getUser", event.getString("operation"));
+        assertEquals("GET", event.getString("method"));
+        assertEquals(cloudId.toString(), event.getString("tenant"));
+        assertEquals(HttpStatus.NOT_FOUND.value(), event.getInt("status"));
+        assertEquals(2, event.getLong("bytes"));
+    }
+
+    @Test
+    public void whenJiraResponseIsChunked_countBytesRead() throws Exception {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("https://api.atlassian.com")
+                .exchangeFunction(request -> Mono.just(
+                        ClientResponse.create(HttpStatus.OK)
+                                .body("{\"id\":\"10001\"}")
+                                .build()
+                ))
+                .filter(new JiraRequestEventFilter())
+                .build();
+
+        List<RecordedEvent> events = FlightRecordings.record(
+                () -> webClient.get()
+                        .uri("/ex/jira/{cloudId}/rest/api/3/attachment/10001", UUID.randomUUID())
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .block(),
+                JiraRequestEvent.NAME
+        );
+
+        assertEquals(1, events.size());
+        assertEquals(HttpStatus.OK.value(), events.get(0).getInt("status"));
+        assertEquals(14, events.get(0).getLong("bytes"));
+    }
+}
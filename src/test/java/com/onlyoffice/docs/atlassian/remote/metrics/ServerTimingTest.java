@@ -0,0 +1,51 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ServerTimingTest {
+    @Test
+    public void whenEntriesAdded_formatHeaderWithTotalLast() {
+        ServerTiming serverTiming = new ServerTiming();
+
+        serverTiming.add("jira getAttachment", TimeUnit.MICROSECONDS.toNanos(12_345));
+        serverTiming.add("jwt.sign", TimeUnit.MICROSECONDS.toNanos(80));
+
+        String value = serverTiming.toHeaderValue();
+
+        assertTrue(value.startsWith("jira.getAttachment;dur=12.3, jwt.sign;dur=0.0, total;dur="), value);
+    }
+
+    @Test
+    public void whenTooManyEntriesAdded_keepFirstEntries() {
+        ServerTiming serverTiming = new ServerTiming();
+
+        for (int i = 0; i < 100; i++) {
+            serverTiming.add("redis", 0);
+        }
+
+        assertEquals(33, serverTiming.toHeaderValue().split(", ").length);
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TenantTagMeterFilterTest {
+    private static final String METER_NAME = "callback.process";
+
+    @Test
+    public void whenTenantLimitReached_groupOtherTenants() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new TenantTagMeterFilter(true, 1));
+
+        meterRegistry.counter(METER_NAME, MetricsTags.TENANT, "tenant-1").increment();
+        meterRegistry.counter(METER_NAME, MetricsTags.TENANT, "tenant-2").increment();
+        meterRegistry.counter(METER_NAME, MetricsTags.TENANT, "tenant-3").increment();
+        meterRegistry.counter(METER_NAME, MetricsTags.TENANT, "tenant-1").increment();
+
+        assertEquals(2, meterRegistry.get(METER_NAME).tag(MetricsTags.TENANT, "tenant-1").counter().count());
+        assertEquals(
+                2,
+                meterRegistry.get(METER_NAME).tag(MetricsTags.TENANT, TenantTagMeterFilter.OTHER).counter().count()
+        );
+    }
+
+    @Test
+    public void whenTenantTagDisabled_dropTenantTag() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(new TenantTagMeterFilter(false, 1));
+
+        meterRegistry.counter(METER_NAME, MetricsTags.TENANT, "tenant-1", MetricsTags.OUTCOME, "SUCCESS").increment();
+
+        assertNull(meterRegistry.find(METER_NAME).tagKeys(MetricsTags.TENANT).counter());
+        assertNotNull(meterRegistry.find(METER_NAME).tag(MetricsTags.OUTCOME, "SUCCESS").counter());
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.metrics;
+
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WebClientMetricsFilterTest {
+    private static final String METER_NAME = "jira.client.requests";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WebClientMetricsFilter webClientMetricsFilter = new WebClientMetricsFilter(meterRegistry, METER_NAME);
+    private final UUID cloudId = UUID.randomUUID();
+
+    @Test
+    public void whenExchangeReturnsResponse_recordTimerByOperationAndStatus() {
+        webClientMetricsFilter.filter(
+                request("getUser"),
+                request -> Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build())
+        ).block();
+
+        Timer timer = meterRegistry.find(METER_NAME)
+                .tags(
+                        MetricsTags.OPERATION, "getUser",
+                        MetricsTags.PRODUCT, Product.JIRA.name(),
+                        MetricsTags.TENANT, cloudId.toString(),
+                        MetricsTags.STATUS, "404",
+                        MetricsTags.OUTCOME, MetricsTags.ERROR
+                )
+                .timer();
+
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    public void whenExchangeFails_recordTimerWithClientError() {
+        Mono<ClientResponse> exchange = webClientMetricsFilter.filter(
+                request("createAttachments"),
+                request -> Mono.error(new IOException("Connection reset"))
+        );
+
+        assertThrows(RuntimeException.class, exchange::block);
+
+        Timer timer = meterRegistry.find(METER_NAME)
+                .tags(
+                        MetricsTags.OPERATION, "createAttachments",
+                        MetricsTags.STATUS, "CLIENT_ERROR",
+                        MetricsTags.OUTCOME, MetricsTags.ERROR
+                )
+                .timer();
+
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    private ClientRequest request(final String operation) {
+        return ClientRequest.create(HttpMethod.GET, URI.create("https://api.atlassian.com/ex/jira"))
+                .attributes(WebClientMetricsFilter.attributes(operation, MetricsTags.of(Product.JIRA, cloudId)))
+                .build();
+    }
+}
@@ -0,0 +1,217 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.ratelimit;
+
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.configuration.RateLimitProperties;
+import com.redis.testcontainers.RedisContainer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@Testcontainers
+public class RateLimitServiceTest {
+    private static final String CREATE_PATH = "/api/v1/remote/create";
+
+    @Container
+    protected static final RedisContainer REDIS_CONTAINER =
+            new RedisContainer(DockerImageName.parse("redis:7.0.12"))
+                    .withExposedPorts(6379)
+                    .withReuse(true);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private final Context context = Context.builder()
+            .product(Product.JIRA)
+            .cloudId(UUID.randomUUID())
+            .build();
+
+    @BeforeEach
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                REDIS_CONTAINER.getHost(),
+                REDIS_CONTAINER.getMappedPort(6379)
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    public void whenTenantWellBelowLimit_takeTokensFromLocalLease() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RateLimitService rateLimitService = new RateLimitService(
+                properties(100, 1, 5),
+                stringRedisTemplate,
+                meterRegistry
+        );
+        RateLimitService.Endpoint endpoint = rateLimitService.findEndpoint(CREATE_PATH).orElseThrow();
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(rateLimitService.tryConsume(endpoint, context).allowed());
+        }
+
+        assertEquals(2.0, meterRegistry.get("ratelimit.checks").tag("source", "redis").counter().count());
+        assertEquals(8.0, meterRegistry.get("ratelimit.checks").tag("source", "local").counter().count());
+    }
+
+    @Test
+    public void whenBucketEmpty_rejectWithRetryAfter() {
+        RateLimitService rateLimitService = new RateLimitService(
+                properties(3, 0.5, 5),
+                stringRedisTemplate,
+                new SimpleMeterRegistry()
+        );
+        RateLimitService.Endpoint endpoint = rateLimitService.findEndpoint(CREATE_PATH).orElseThrow();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimitService.tryConsume(endpoint, context).allowed());
+        }
+
+        RateLimitDecision decision = rateLimitService.tryConsume(endpoint, context);
+
+        assertFalse(decision.allowed());
+        assertEquals(3, decision.limit());
+        assertEquals(0, decision.remaining());
+        assertEquals(2, decision.retryAfterSeconds());
+        assertEquals(6, decision.resetSeconds());
+    }
+
+    @Test
+    public void whenRequestCostsSeveralTokens_takeThemAll() {
+        RateLimitService rateLimitService = new RateLimitService(
+                properties(5, 0.01, 5),
+                stringRedisTemplate,
+                new SimpleMeterRegistry()
+        );
+
+        assertTrue(rateLimitService.tryConsume(
+                rateLimitService.findEndpoint(CREATE_PATH).orElseThrow(),
+                context
+        ).allowed());
+        assertEquals(
+                1,
+                rateLimitService.consume(CREATE_PATH + "/batch", context, 3).orElseThrow().remaining()
+        );
+
+        RateLimitExceededException exception = assertThrows(
+                RateLimitExceededException.class,
+                () -> rateLimitService.consume(CREATE_PATH + "/batch", context, 2)
+        );
+
+        assertEquals(1, exception.getDecision().remaining());
+        assertTrue(rateLimitService.consume(CREATE_PATH, context, 0).isEmpty());
+    }
+
+    @Test
+    public void whenInstancesShareBucket_enforceLimitAcrossThem() {
+        RateLimitService first = new RateLimitService(properties(4, 0.01, 1), stringRedisTemplate,
+                new SimpleMeterRegistry());
+        RateLimitService second = new RateLimitService(properties(4, 0.01, 1), stringRedisTemplate,
+                new SimpleMeterRegistry());
+        RateLimitService.Endpoint endpoint = first.findEndpoint(CREATE_PATH).orElseThrow();
+
+        int allowed = 0;
+        for (int i = 0; i < 5; i++) {
+            allowed += first.tryConsume(endpoint, context).allowed() ? 1 : 0;
+            allowed += second.tryConsume(endpoint, context).allowed() ? 1 : 0;
+        }
+
+        assertEquals(4, allowed);
+    }
+
+    @Test
+    public void whenRedisUnavailable_letRequestThrough() {
+        StringRedisTemplate failingTemplate = Mockito.mock(StringRedisTemplate.class);
+        when(failingTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+
+        RateLimitService rateLimitService = new RateLimitService(
+                properties(1, 0.01, 5),
+                failingTemplate,
+                new SimpleMeterRegistry()
+        );
+        RateLimitService.Endpoint endpoint = rateLimitService.findEndpoint(CREATE_PATH).orElseThrow();
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimitService.tryConsume(endpoint, context).allowed());
+        }
+    }
+
+    @Test
+    public void whenPathNotConfigured_findNoEndpoint() {
+        RateLimitService rateLimitService = new RateLimitService(
+                properties(1, 1, 5),
+                stringRedisTemplate,
+                new SimpleMeterRegistry()
+        );
+
+        assertTrue(rateLimitService.findEndpoint("/api/v1/remote/settings").isEmpty());
+        assertTrue(rateLimitService.findEndpoint(CREATE_PATH + "/batch").isPresent());
+    }
+
+    private static RateLimitProperties properties(final int capacity, final double refillRate, final int leaseSize) {
+        RateLimitProperties.LeaseConfig leaseConfig = new RateLimitProperties.LeaseConfig();
+        leaseConfig.setSize(leaseSize);
+        leaseConfig.setTtl(Duration.ofMinutes(1));
+
+        RateLimitProperties.EndpointConfig endpointConfig = new RateLimitProperties.EndpointConfig();
+        endpointConfig.setPatterns(List.of("/api/v1/remote/create/**"));
+        endpointConfig.setCapacity(capacity);
+        endpointConfig.setRefillRate(refillRate);
+
+        RateLimitProperties rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.setEnabled(true);
+        rateLimitProperties.setMaximumTenants(100);
+        rateLimitProperties.setLease(leaseConfig);
+        rateLimitProperties.getEndpoints().put("create", endpointConfig);
+
+        return rateLimitProperties;
+    }
+}
@@ -0,0 +1,346 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.onlyoffice.docs.atlassian.remote.client.forge.ForgeJwksClient;
+import com.onlyoffice.docs.atlassian.remote.configuration.ForgeProperties;
+import com.onlyoffice.docs.atlassian.remote.configuration.RedisProperties;
+import com.redis.testcontainers.RedisContainer;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+public class ForgeJwkSourceTest {
+    @Container
+    protected static final RedisContainer REDIS_CONTAINER =
+            new RedisContainer(DockerImageName.parse("redis:7.0.12"))
+                    .withExposedPorts(6379)
+                    .withReuse(true);
+
+    private final AtomicInteger jwksRequests = new AtomicInteger();
+    private final AtomicReference<String> jwks = new AtomicReference<>();
+    private final AtomicReference<CountDownLatch> jwksResponse = new AtomicReference<>(new CountDownLatch(0));
+
+    private HttpServer jwksServer;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private ForgeProperties forgeProperties;
+    private RedisProperties redisProperties;
+    private RSAKey firstKey;
+    private RSAKey secondKey;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        jwksServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        jwksServer.createContext("/.well-known/jwks.json", exchange -> {
+            jwksRequests.incrementAndGet();
+            try {
+                jwksResponse.get().await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            byte[] body = jwks.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        jwksServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(
+                REDIS_CONTAINER.getHost(),
+                REDIS_CONTAINER.getMappedPort(6379)
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+
+        ForgeProperties.JwksConfig jwksConfig = new ForgeProperties.JwksConfig();
+        jwksConfig.setTtl(Duration.ofHours(1));
+        jwksConfig.setRefreshAhead(Duration.ofMinutes(10));
+        jwksConfig.setRefreshCheckInterval(Duration.ofMinutes(1));
+        jwksConfig.setUnknownKeyRefreshInterval(Duration.ofMinutes(1));
+        jwksConfig.setFetchTimeout(Duration.ofSeconds(5));
+        jwksConfig.setLockTimeout(Duration.ofSeconds(2));
+        jwksConfig.setTokenCacheMaximumSize(100);
+
+        forgeProperties = new ForgeProperties();
+        forgeProperties.setJwks(jwksConfig);
+
+        redisProperties = new RedisProperties();
+        redisProperties.setEnabled(true);
+
+        firstKey = new RSAKeyGenerator(2048).keyID("first").generate();
+        secondKey = new RSAKeyGenerator(2048).keyID("second").generate();
+
+        publish(firstKey);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jwksServer.stop(0);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    public void whenKeysRequestedRepeatedly_thenJwksFetchedOnce() throws Exception {
+        ForgeJwkSource forgeJwkSource = createForgeJwkSource();
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(1, forgeJwkSource.get(selector("first"), null).size());
+        }
+
+        assertEquals(1, jwksRequests.get());
+    }
+
+    @Test
+    public void whenAnotherNodeRequestsKeys_thenJwksServedFromRedis() throws Exception {
+        ForgeJwkSource firstNode = createForgeJwkSource();
+        ForgeJwkSource secondNode = createForgeJwkSource();
+
+        assertEquals(1, firstNode.get(selector("first"), null).size());
+        assertEquals(1, secondNode.get(selector("first"), null).size());
+
+        assertEquals(1, jwksRequests.get());
+    }
+
+    @Test
+    public void whenRedisDisabled_thenJwksKeptPerNode() throws Exception {
+        redisProperties.setEnabled(false);
+
+        ForgeJwkSource firstNode = createForgeJwkSource();
+        ForgeJwkSource secondNode = createForgeJwkSource();
+
+        assertEquals(1, firstNode.get(selector("first"), null).size());
+        assertEquals(1, secondNode.get(selector("first"), null).size());
+
+        assertEquals(2, jwksRequests.get());
+        assertEquals(0, stringRedisTemplate.keys("spring:forge-jwks::*").size());
+    }
+
+    @Test
+    public void whenUnknownKeyRequested_thenJwksRefreshedWithRateLimit() throws Exception {
+        ForgeJwkSource forgeJwkSource = createForgeJwkSource();
+
+        assertEquals(1, forgeJwkSource.get(selector("first"), null).size());
+
+        publish(firstKey, secondKey);
+
+        assertEquals(1, forgeJwkSource.get(selector("second"), null).size());
+        assertEquals(2, jwksRequests.get());
+
+        assertTrue(forgeJwkSource.get(selector("unknown"), null).isEmpty());
+        assertTrue(forgeJwkSource.get(selector("unknown"), null).isEmpty());
+        assertEquals(2, jwksRequests.get());
+    }
+
+    @Test
+    public void whenRefreshAheadIsDue_thenJwksRefreshedInBackground() throws Exception {
+        forgeProperties.getJwks().setRefreshAhead(Duration.ofHours(1));
+
+        ForgeJwkSource forgeJwkSource = createForgeJwkSource();
+
+        assertEquals(1, forgeJwkSource.get(selector("first"), null).size());
+
+        publish(firstKey, secondKey);
+        forgeJwkSource.refreshAhead();
+
+        assertEquals(2, jwksRequests.get());
+        assertEquals(1, forgeJwkSource.get(selector("second"), null).size());
+        assertEquals(2, jwksRequests.get());
+    }
+
+    @Test
+    public void whenUnknownKeyArrivesDuringRefreshAhead_thenKeysOfThatRefreshServed() throws Exception {
+        ForgeJwkSource forgeJwkSource = createForgeJwkSource();
+
+        assertEquals(1, forgeJwkSource.get(selector("first"), null).size());
+
+        forgeProperties.getJwks().setRefreshAhead(Duration.ofHours(1));
+
+        CountDownLatch slowResponse = new CountDownLatch(1);
+        jwksResponse.set(slowResponse);
+
+        Thread refresher = Thread.ofVirtual().start(forgeJwkSource::refreshAhead);
+        while (jwksRequests.get() < 2) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        publish(firstKey, secondKey);
+
+        AtomicReference<List<JWK>> keys = new AtomicReference<>();
+        Thread verifier = Thread.ofVirtual().start(() -> {
+            try {
+                keys.set(forgeJwkSource.get(selector("second"), null));
+            } catch (KeySourceException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (verifier.getState() != Thread.State.WAITING) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        slowResponse.countDown();
+        refresher.join();
+        verifier.join();
+
+        assertEquals(1, keys.get().size());
+        assertEquals(2, jwksRequests.get());
+    }
+
+    @Test
+    public void whenExpiredJwksRefreshedByAnotherThread_thenCurrentKeysServedMeanwhile() throws Exception {
+        ForgeJwkSource forgeJwkSource = createForgeJwkSource();
+
+        assertEquals(1, forgeJwkSource.get(selector("first"), null).size());
+
+        forgeProperties.getJwks().setTtl(Duration.ofMillis(1));
+        forgeProperties.getJwks().setRefreshAhead(Duration.ZERO);
+        TimeUnit.MILLISECONDS.sleep(10);
+
+        CountDownLatch slowResponse = new CountDownLatch(1);
+        jwksResponse.set(slowResponse);
+
+        Thread refresher = Thread.ofVirtual().start(() -> {
+            try {
+                forgeJwkSource.get(selector("first"), null);
+            } catch (KeySourceException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (jwksRequests.get() < 2) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        long startedAt = System.nanoTime();
+        assertEquals(1, forgeJwkSource.get(selector("first"), null).size());
+        long elapsed = System.nanoTime() - startedAt;
+
+        slowResponse.countDown();
+        refresher.join();
+
+        assertTrue(elapsed < TimeUnit.MILLISECONDS.toNanos(500), () -> "Waited "
+                + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms for another thread's refresh");
+        assertEquals(2, jwksRequests.get());
+    }
+
+    @Test
+    public void whenTokenDecodedRepeatedly_thenValidatedTokenCached() throws Exception {
+        ForgeJwkSource forgeJwkSource = createForgeJwkSource();
+        AtomicInteger decodes = new AtomicInteger();
+
+        NimbusJwtDecoder nimbusJwtDecoder = NimbusJwtDecoder.withJwkSetUri(jwksUri())
+                .jwtProcessorCustomizer(jwtProcessor -> jwtProcessor.setJWSKeySelector(
+                        new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, forgeJwkSource)
+                ))
+                .build();
+        JwtDecoder jwtDecoder = new CachingJwtDecoder(token -> {
+            decodes.incrementAndGet();
+            return nimbusJwtDecoder.decode(token);
+        }, 100);
+
+        String token = sign(firstKey, Instant.now().plusSeconds(60));
+
+        Jwt jwt = jwtDecoder.decode(token);
+        jwtDecoder.decode(token);
+
+        assertEquals("principal", jwt.getSubject());
+        assertEquals(1, decodes.get());
+        assertEquals(1, jwksRequests.get());
+    }
+
+    private ForgeJwkSource createForgeJwkSource() {
+        return new ForgeJwkSource(
+                new ForgeJwksClient(WebClient.create(), jwksUri()),
+                stringRedisTemplate,
+                forgeProperties,
+                redisProperties
+        );
+    }
+
+    private String jwksUri() {
+        return "http://localhost:" + jwksServer.getAddress().getPort() + "/.well-known/jwks.json";
+    }
+
+    private void publish(final JWK... keys) {
+        jwks.set(new JWKSet(List.of(keys)).toPublicJWKSet().toString());
+    }
+
+    private JWKSelector selector(final String keyId) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+    }
+
+    private String sign(final RSAKey key, final Instant expiresAt) throws JOSEException {
+        SignedJWT signedJWT = new SignedJWT(
+                new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                new JWTClaimsSet.Builder()
+                        .subject("principal")
+                        .issueTime(new Date())
+                        .expirationTime(Date.from(expiresAt))
+                        .build()
+        );
+        signedJWT.sign(new RSASSASigner(key));
+
+        return signedJWT.serialize();
+    }
+}
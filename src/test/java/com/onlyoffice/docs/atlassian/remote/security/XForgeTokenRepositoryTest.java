@@ -0,0 +1,143 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.security;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.jfr.FlightRecordings;
+import com.onlyoffice.docs.atlassian.remote.jfr.XForgeTokenEvent;
+import com.onlyoffice.docs.atlassian.remote.security.store.RedisXForgeTokenStore;
+import com.redis.testcontainers.RedisContainer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+public class XForgeTokenRepositoryTest {
+    @Container
+    protected static final RedisContainer REDIS_CONTAINER =
+            new RedisContainer(DockerImageName.parse("redis:7.0.12"))
+                    .withExposedPorts(6379)
+                    .withReuse(true);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private XForgeTokenRepository xForgeTokenRepository;
+
+    @BeforeEach
+    public void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                REDIS_CONTAINER.getHost(),
+                REDIS_CONTAINER.getMappedPort(6379)
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.getRequiredConnectionFactory().getConnection().serverCommands().flushAll();
+
+        xForgeTokenRepository = new XForgeTokenRepository(
+                new RedisXForgeTokenStore(stringRedisTemplate, stringRedisTemplate),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+
+    @Test
+    public void whenXForgeTokenSavedAndRead_emitXForgeTokenEvents() throws Exception {
+        UUID cloudId = UUID.randomUUID();
+        String key = "JIRA:" + cloudId + ":account";
+        String token = new PlainJWT(new JWTClaimsSet.Builder()
+                .expirationTime(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+                .build()
+        ).serialize();
+
+        List<RecordedEvent> events = FlightRecordings.record(
+                () -> {
+                    xForgeTokenRepository.saveXForgeToken(key, token, XForgeTokenType.USER);
+                    xForgeTokenRepository.getXForgeToken(key, XForgeTokenType.USER);
+                    xForgeTokenRepository.getXForgeToken(key, XForgeTokenType.SYSTEM);
+                },
+                XForgeTokenEvent.NAME
+        );
+
+        assertEquals(3, events.size());
+        assertEquals("set", events.get(0).getString("operation"));
+        assertEquals("get", events.get(1).getString("operation"));
+        assertTrue(events.get(1).getBoolean("found"));
+        assertEquals("SYSTEM", events.get(2).getString("tokenType"));
+        assertFalse(events.get(2).getBoolean("found"));
+        events.forEach(event -> {
+            assertEquals("JIRA", event.getString("product"));
+            assertEquals(cloudId.toString(), event.getString("tenant"));
+        });
+    }
+
+    @Test
+    public void whenXForgeTokenSaved_storeItUnderTenantHashTag() throws Exception {
+        UUID cloudId = UUID.randomUUID();
+        String token = createToken();
+
+        xForgeTokenRepository.saveXForgeToken("JIRA:" + cloudId + ":account", token, XForgeTokenType.USER);
+
+        assertEquals(
+                token,
+                stringRedisTemplate.opsForValue().get("spring:x-forge-user-token::{JIRA:" + cloudId + "}:account")
+        );
+    }
+
+    @Test
+    public void whenXForgeTokenSavedUnderLegacyKey_readIt() throws Exception {
+        UUID cloudId = UUID.randomUUID();
+        String token = createToken();
+
+        stringRedisTemplate.opsForValue().set("spring:x-forge-system-token::JIRA:" + cloudId, token);
+
+        assertEquals(token, xForgeTokenRepository.getXForgeToken("JIRA:" + cloudId, XForgeTokenType.SYSTEM));
+    }
+
+    private static String createToken() {
+        return new PlainJWT(new JWTClaimsSet.Builder()
+                .expirationTime(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+                .build()
+        ).serialize();
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.security.store;
+
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.entity.XForgeToken;
+import com.onlyoffice.docs.atlassian.remote.entity.XForgeTokenId;
+import com.onlyoffice.docs.atlassian.remote.repository.XForgeTokenEntityRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = "app.token-store.type=postgres")
+@Import(PostgresXForgeTokenStore.class)
+@Testcontainers
+public class PostgresXForgeTokenStoreTest extends XForgeTokenStoreContractTest {
+    @Container
+    protected static final PostgreSQLContainer<?> POSTGRES_CONTAINER =
+            new PostgreSQLContainer<>(DockerImageName.parse("postgres:16.2")).withReuse(true);
+
+    @Autowired
+    private PostgresXForgeTokenStore postgresXForgeTokenStore;
+
+    @Autowired
+    private XForgeTokenEntityRepository xForgeTokenEntityRepository;
+
+    @DynamicPropertySource
+    public static void registerProperties(final DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES_CONTAINER::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES_CONTAINER::getUsername);
+        registry.add("spring.datasource.password", POSTGRES_CONTAINER::getPassword);
+    }
+
+    @Override
+    protected XForgeTokenStore createStore() {
+        return postgresXForgeTokenStore;
+    }
+
+    @Test
+    public void whenExpiredTokensDeleted_keepValidTokens() {
+        Instant now = Instant.now();
+
+        xForgeTokenEntityRepository.save(token("JIRA:expired", now.minus(1, ChronoUnit.MINUTES)));
+        xForgeTokenEntityRepository.save(token("JIRA:valid", now.plus(1, ChronoUnit.HOURS)));
+
+        postgresXForgeTokenStore.deleteExpired();
+
+        assertFalse(xForgeTokenEntityRepository.existsById(new XForgeTokenId(XForgeTokenType.SYSTEM, "JIRA:expired")));
+        assertTrue(xForgeTokenEntityRepository.existsById(new XForgeTokenId(XForgeTokenType.SYSTEM, "JIRA:valid")));
+    }
+
+    private static XForgeToken token(final String tokenId, final Instant expiresAt) {
+        return XForgeToken.builder()
+                .id(new XForgeTokenId(XForgeTokenType.SYSTEM, tokenId))
+                .token("token")
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.security.store;
+
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.cache.RedisKeys;
+import com.redis.testcontainers.RedisContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Testcontainers
+public class RedisXForgeTokenStoreTest extends XForgeTokenStoreContractTest {
+    @Container
+    protected static final RedisContainer REDIS_CONTAINER =
+            new RedisContainer(DockerImageName.parse("redis:7.0.12"))
+                    .withExposedPorts(6379)
+                    .withReuse(true);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    protected XForgeTokenStore createStore() {
+        connectionFactory = new LettuceConnectionFactory(
+                REDIS_CONTAINER.getHost(),
+                REDIS_CONTAINER.getMappedPort(6379)
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+
+        return new RedisXForgeTokenStore(stringRedisTemplate, stringRedisTemplate);
+    }
+
+    @Test
+    public void whenLegacyKeysExist_renameThemKeepingTtl() {
+        XForgeTokenStore store = new RedisXForgeTokenStore(stringRedisTemplate, stringRedisTemplate);
+        String tokenId = "JIRA:" + UUID.randomUUID() + ":account";
+        String legacyKey = RedisKeys.legacyXForgeToken(XForgeTokenType.USER, tokenId);
+        String key = RedisKeys.xForgeToken(XForgeTokenType.USER, tokenId);
+
+        stringRedisTemplate.opsForValue().set(legacyKey, "token", Duration.ofHours(1));
+
+        RedisXForgeTokenKeyMigration migration = new RedisXForgeTokenKeyMigration(stringRedisTemplate);
+        migration.afterPropertiesSet();
+
+        assertEquals("token", store.get(XForgeTokenType.USER, tokenId));
+        assertFalse(Boolean.TRUE.equals(stringRedisTemplate.hasKey(legacyKey)));
+        assertTrue(stringRedisTemplate.getExpire(key, TimeUnit.SECONDS) > 0);
+        assertEquals(0, migration.migrate(XForgeTokenType.USER));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionFactory.destroy();
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.security.store;
+
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Behaviour every {@link XForgeTokenStore} backend must have.
+ */
+public abstract class XForgeTokenStoreContractTest {
+    private XForgeTokenStore xForgeTokenStore;
+    private String tokenId;
+
+    protected abstract XForgeTokenStore createStore();
+
+    @BeforeEach
+    public void setUpStore() {
+        xForgeTokenStore = createStore();
+        tokenId = "JIRA:" + UUID.randomUUID();
+    }
+
+    @Test
+    public void whenTokenSaved_returnIt() {
+        xForgeTokenStore.save(XForgeTokenType.SYSTEM, tokenId, "token", inOneHour());
+
+        assertEquals("token", xForgeTokenStore.get(XForgeTokenType.SYSTEM, tokenId));
+    }
+
+    @Test
+    public void whenTokenNotSaved_returnNull() {
+        assertNull(xForgeTokenStore.get(XForgeTokenType.SYSTEM, tokenId));
+    }
+
+    @Test
+    public void whenTokenSavedAgain_returnLatest() {
+        xForgeTokenStore.save(XForgeTokenType.SYSTEM, tokenId, "token", inOneHour());
+        xForgeTokenStore.save(XForgeTokenType.SYSTEM, tokenId, "refreshed-token", inOneHour().plusSeconds(60));
+
+        assertEquals("refreshed-token", xForgeTokenStore.get(XForgeTokenType.SYSTEM, tokenId));
+    }
+
+    @Test
+    public void whenTokensOfOtherTypeAndAccountSaved_keepThemApart() {
+        String userTokenId = tokenId + ":account";
+
+        xForgeTokenStore.save(XForgeTokenType.SYSTEM, tokenId, "system-token", inOneHour());
+        xForgeTokenStore.save(XForgeTokenType.USER, userTokenId, "user-token", inOneHour());
+        xForgeTokenStore.save(XForgeTokenType.USER, tokenId + ":other-account", "other-user-token", inOneHour());
+
+        assertEquals("system-token", xForgeTokenStore.get(XForgeTokenType.SYSTEM, tokenId));
+        assertEquals("user-token", xForgeTokenStore.get(XForgeTokenType.USER, userTokenId));
+        assertNull(xForgeTokenStore.get(XForgeTokenType.USER, tokenId));
+        assertNull(xForgeTokenStore.get(XForgeTokenType.SYSTEM, userTokenId));
+    }
+
+    @Test
+    public void whenTokenAlreadyExpired_doNotStoreIt() {
+        xForgeTokenStore.save(XForgeTokenType.SYSTEM, tokenId, "token", Instant.now().minusSeconds(1));
+
+        assertNull(xForgeTokenStore.get(XForgeTokenType.SYSTEM, tokenId));
+    }
+
+    @Test
+    public void whenTokenExpires_stopReturningIt() throws InterruptedException {
+        xForgeTokenStore.save(XForgeTokenType.SYSTEM, tokenId, "token", Instant.now().plusMillis(500));
+
+        assertEquals("token", xForgeTokenStore.get(XForgeTokenType.SYSTEM, tokenId));
+
+        Thread.sleep(Duration.ofSeconds(1));
+
+        assertNull(xForgeTokenStore.get(XForgeTokenType.SYSTEM, tokenId));
+    }
+
+    private static Instant inOneHour() {
+        return Instant.now().plus(1, ChronoUnit.HOURS);
+    }
+}
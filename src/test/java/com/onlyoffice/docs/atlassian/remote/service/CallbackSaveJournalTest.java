@@ -0,0 +1,54 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.service;
+
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.configuration.RedisProperties;
+import com.onlyoffice.docs.atlassian.remote.configuration.ShutdownProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CallbackSaveJournalTest {
+    private final Context context = Context.builder()
+            .product(Product.JIRA)
+            .cloudId(UUID.randomUUID())
+            .build();
+
+    @Test
+    public void whenRedisDisabled_keepUploadsInTheInstance() {
+        RedisProperties redisProperties = new RedisProperties();
+        redisProperties.setEnabled(false);
+
+        ShutdownProperties shutdownProperties = new ShutdownProperties();
+        shutdownProperties.setSaveRetryWindow(Duration.ofHours(1));
+
+        CallbackSaveJournal callbackSaveJournal = new CallbackSaveJournal(null, redisProperties, shutdownProperties);
+
+        callbackSaveJournal.recordUploadedAttachment(context, "10001", "10002");
+
+        assertEquals(Optional.of("10002"), callbackSaveJournal.findUploadedAttachment(context, "10001"));
+        assertEquals(Optional.empty(), callbackSaveJournal.findUploadedAttachment(context, "10003"));
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.shutdown;
+
+import com.onlyoffice.docs.atlassian.remote.configuration.ShutdownProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShutdownCoordinatorTest {
+    private ShutdownCoordinator shutdownCoordinator;
+
+    @BeforeEach
+    public void setUp() {
+        ShutdownProperties shutdownProperties = new ShutdownProperties();
+        shutdownProperties.setDrainTimeout(Duration.ofMillis(200));
+        shutdownProperties.setRetryAfter(Duration.ofSeconds(1));
+
+        shutdownCoordinator = new ShutdownCoordinator(shutdownProperties, new SimpleMeterRegistry());
+        shutdownCoordinator.start();
+    }
+
+    @Test
+    public void whenNothingInFlight_stopAtOnce() {
+        shutdownCoordinator.stop();
+
+        assertFalse(shutdownCoordinator.isRunning());
+        assertEquals(0, shutdownCoordinator.getDrainReport().drained());
+        assertTrue(shutdownCoordinator.getDrainReport().elapsed().compareTo(Duration.ofMillis(200)) < 0);
+    }
+
+    @Test
+    public void whenCallbackFinishesWithinDrainTimeout_countItDrained() throws Exception {
+        ShutdownCoordinator.InFlightCallback callback = shutdownCoordinator.begin("document-key");
+
+        CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS).execute(callback::finish);
+        shutdownCoordinator.stop();
+
+        assertEquals(1, shutdownCoordinator.getDrainReport().drained());
+        assertEquals(List.of(), shutdownCoordinator.getDrainReport().handedOff());
+        assertFalse(callback.isHandedOff());
+    }
+
+    @Test
+    public void whenCallbackOutlastsDrainTimeout_interruptAndHandItOff() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Boolean> interrupted = new CompletableFuture<>();
+
+        Thread thread = Thread.ofVirtual().start(() -> {
+            ShutdownCoordinator.InFlightCallback callback = shutdownCoordinator.begin("document-key");
+            started.countDown();
+            try {
+                TimeUnit.SECONDS.sleep(10);
+                interrupted.complete(false);
+            } catch (InterruptedException e) {
+                interrupted.complete(callback.isHandedOff());
+            } finally {
+                callback.finish();
+            }
+        });
+
+        started.await();
+        shutdownCoordinator.stop();
+
+        assertTrue(interrupted.get(1, TimeUnit.SECONDS));
+        assertEquals(List.of("document-key"), shutdownCoordinator.getDrainReport().handedOff());
+        thread.join();
+        assertEquals(0, shutdownCoordinator.getInFlight());
+    }
+
+    @Test
+    public void whenCallbackCommittedBeforeDrainTimeout_leaveItRunning() throws Exception {
+        CountDownLatch committed = new CountDownLatch(1);
+        CompletableFuture<Boolean> interrupted = new CompletableFuture<>();
+
+        Thread thread = Thread.ofVirtual().start(() -> {
+            ShutdownCoordinator.InFlightCallback callback = shutdownCoordinator.begin("document-key");
+            shutdownCoordinator.commit();
+            committed.countDown();
+            try {
+                TimeUnit.MILLISECONDS.sleep(500);
+                interrupted.complete(false);
+            } catch (InterruptedException e) {
+                interrupted.complete(true);
+            } finally {
+                callback.finish();
+            }
+        });
+
+        committed.await();
+        shutdownCoordinator.stop();
+
+        assertEquals(List.of(), shutdownCoordinator.getDrainReport().handedOff());
+        assertFalse(interrupted.get(1, TimeUnit.SECONDS));
+        thread.join();
+        assertEquals(0, shutdownCoordinator.getInFlight());
+    }
+
+    @Test
+    public void whenDraining_rejectNewCallbacks() {
+        shutdownCoordinator.stop();
+
+        assertThrows(ShuttingDownException.class, () -> shutdownCoordinator.begin("document-key"));
+        assertEquals(0, shutdownCoordinator.getInFlight());
+    }
+}
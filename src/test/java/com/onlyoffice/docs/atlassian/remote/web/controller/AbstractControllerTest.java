@@ -18,24 +18,49 @@
 
 package com.onlyoffice.docs.atlassian.remote.web.controller;
 
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
 import com.onlyoffice.docs.atlassian.remote.client.jira.JiraClient;
+import com.onlyoffice.docs.atlassian.remote.security.RemoteAppJwtService;
 import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import com.onlyoffice.docs.atlassian.remote.web.data.DataTest;
+import com.onlyoffice.manager.security.JwtManager;
+import com.onlyoffice.model.documenteditor.Callback;
+import com.onlyoffice.model.documenteditor.callback.Status;
 import com.redis.testcontainers.RedisContainer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.shaded.com.fasterxml.jackson.core.type.TypeReference;
 import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
 import org.testcontainers.utility.DockerImageName;
+import reactor.core.publisher.Mono;
+
+import java.text.ParseException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
@@ -43,10 +68,18 @@ import org.testcontainers.utility.DockerImageName;
 @SpringBootTest
 @Testcontainers
 public abstract class AbstractControllerTest {
+    protected static final String JIRA_EDITOR_PATH = "/editor/jira";
+    protected static final String JIRA_CALLBACK_PATH = "/api/v1/callback/jira";
+    protected static final String DOCUMENT_KEY = "document-key";
+
     @Value("${forge.products.JIRA.appId}")
     protected String JIRA_APP_ID;
     @Value("${app.base-url}")
     protected String APP_BASE_URL;
+    @Value("${app.security.ttl.default}")
+    protected long ttlDefault;
+    @Value("${app.security.ttl.callback}")
+    protected long ttlCallback;
 
     protected ObjectMapper objectMapper = new ObjectMapper();
 
@@ -63,6 +96,12 @@ public abstract class AbstractControllerTest {
     @Autowired
     protected MockMvc mockMvc;
 
+    @Autowired
+    protected RemoteAppJwtService remoteAppJwtService;
+
+    @Autowired
+    protected JwtManager jwtManager;
+
     @MockitoBean
     protected JiraClient jiraClient;
 
@@ -78,4 +117,71 @@ public abstract class AbstractControllerTest {
         registry.add("spring.data.redis.host", REDIS_CONTAINER::getHost);
         registry.add("spring.data.redis.port", () -> REDIS_CONTAINER.getMappedPort(6379).toString());
     }
+
+    protected void stubXForgeTokenExpirations() throws ParseException {
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.SYSTEM)))
+                .thenReturn(Instant.now().plus(1, ChronoUnit.HOURS));
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.USER)))
+                .thenReturn(Instant.now().plus(2, ChronoUnit.HOURS));
+    }
+
+    protected void stubJiraEditorResources() {
+        when(jiraClient.getSettings(any(), any())).thenReturn(Mono.just(DataTest.Settings.CORRECT_SETTINGS));
+        when(jiraClient.getUser(any(), any())).thenReturn(Mono.just(DataTest.Users.ADMIN));
+        when(jiraClient.getAttachment(any(), any(), any())).thenReturn(Mono.just(DataTest.Attachments.ATTACHMENT));
+        when(jiraClient.getIssuePermissions(any(), any(), any(), any())).thenReturn(
+                Mono.just(DataTest.Permissions.FULL)
+        );
+    }
+
+    protected String createRemoteAppToken(final UUID cloudId, final String audience, final long ttl) {
+        Context remoteAppTokenContext = JiraContext.builder()
+                .product(Product.JIRA)
+                .cloudId(cloudId)
+                .issueId("parentId")
+                .attachmentId("entityId")
+                .build();
+
+        return remoteAppJwtService.encode(
+                DataTest.Users.ADMIN.getAccountId(),
+                audience,
+                ttl,
+                objectMapper.convertValue(remoteAppTokenContext, new TypeReference<Map<String, Object>>() { })
+        ).getTokenValue();
+    }
+
+    protected String createEditorToken(final Map<String, Object> payload) {
+        return jwtManager.createToken(
+                objectMapper.convertValue(payload, new TypeReference<Map<String, ?>>() { }),
+                "secret"
+        );
+    }
+
+    protected Callback createSaveCallback() {
+        Callback callback = DataTest.Callbacks.getTestCallback();
+        callback.setStatus(Status.SAVE);
+        callback.setKey(DOCUMENT_KEY);
+        callback.setUrl("https://test-docs-server.com/cache/files/document-key/output.docx");
+
+        return callback;
+    }
+
+    /**
+     * Posts the callback as the Document Server does, signed in the {@code Authorization} header.
+     */
+    protected ResultActions postCallback(final UUID cloudId, final Callback callback) throws Exception {
+        String token = createRemoteAppToken(cloudId, JIRA_CALLBACK_PATH, ttlCallback);
+        String tokenFromEditor = createEditorToken(Map.of("payload", callback));
+
+        return mockMvc.perform(post(JIRA_CALLBACK_PATH)
+                .header("Authorization", "Bearer " + tokenFromEditor)
+                .param("token", token)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(callback))
+        );
+    }
+
+    protected ResultActions postSaveCallback(final UUID cloudId) throws Exception {
+        return postCallback(cloudId, createSaveCallback());
+    }
 }
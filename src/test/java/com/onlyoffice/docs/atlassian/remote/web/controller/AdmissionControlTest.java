@@ -0,0 +1,66 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.web.controller;
+
+import com.onlyoffice.docs.atlassian.remote.admission.AdmissionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class AdmissionControlTest extends AbstractControllerTest {
+    private static final String JIRA_EDITOR_PATH = "/editor/jira";
+
+    @MockitoBean
+    private AdmissionService admissionService;
+
+    @Test
+    public void whenRequestShed_returnServiceUnavailableBeforeAuthentication() throws Exception {
+        when(admissionService.tryAcquire(anyString())).thenReturn(Optional.of(AdmissionService.Permit.NONE));
+        when(admissionService.tryAcquire(eq(JIRA_EDITOR_PATH))).thenReturn(Optional.empty());
+
+        mockMvc.perform(get(JIRA_EDITOR_PATH)
+                        .param("token", "invalid")
+                        .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.instance").value(JIRA_EDITOR_PATH));
+    }
+
+    @Test
+    public void whenRequestAdmitted_passToTheEndpoint() throws Exception {
+        when(admissionService.tryAcquire(anyString())).thenReturn(Optional.of(AdmissionService.Permit.NONE));
+
+        mockMvc.perform(get("/api/v1/health/live"))
+                .andExpect(status().isOk());
+    }
+}
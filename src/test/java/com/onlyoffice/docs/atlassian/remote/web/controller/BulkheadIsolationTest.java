@@ -0,0 +1,335 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.web.controller;
+
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.client.ds.DocumentServerClient;
+import com.onlyoffice.docs.atlassian.remote.client.ds.DocumentServerFile;
+import com.onlyoffice.docs.atlassian.remote.client.jira.JiraClient;
+import com.onlyoffice.docs.atlassian.remote.configuration.BulkheadProperties;
+import com.onlyoffice.model.documenteditor.Callback;
+import com.onlyoffice.model.documenteditor.config.editorconfig.Mode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs on a real server with a small Tomcat pool, so hung saves compete with editor opens for request threads the
+ * way they do in production; MockMvc would serve every request on the calling thread.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "server.tomcat.threads.max=" + BulkheadIsolationTest.TOMCAT_THREADS,
+        "server.tomcat.threads.min-spare=" + BulkheadIsolationTest.TOMCAT_THREADS,
+        "app.admission.enabled=false",
+        "app.bulkhead.background.max-concurrent=4",
+        "app.bulkhead.background.max-queued=0",
+        "app.bulkhead.background.max-wait=200ms",
+        "app.bulkhead.background.tenant-max-concurrent=2",
+        "app.bulkhead.background.tenant-max-queued=0"
+})
+public class BulkheadIsolationTest extends AbstractControllerTest {
+    static final int TOMCAT_THREADS = 8;
+
+    private static final int HUNG_CALLBACKS = TOMCAT_THREADS * 2;
+    private static final int EDITOR_CLIENTS = TOMCAT_THREADS / 2;
+    private static final int EDITOR_REQUESTS_PER_CLIENT = 50;
+    private static final Duration EDITOR_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration REJECTION_BUDGET = Duration.ofSeconds(1);
+    private static final Duration P99_SLACK = Duration.ofMillis(100);
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${app.bulkhead.background.tenant-max-concurrent}")
+    private int tenantMaxConcurrent;
+
+    @Autowired
+    private BulkheadProperties bulkheadProperties;
+
+    @MockitoBean
+    private DocumentServerClient documentServerClient;
+
+    private final UUID hungTenant = UUID.randomUUID();
+    private final CompletableFuture<Void> hang = new CompletableFuture<>();
+    private final AtomicInteger hungDownloads = new AtomicInteger();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(executor)
+            .build();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        stubXForgeTokenExpirations();
+        stubJiraEditorResources();
+
+        when(jiraClient.createAttachment(any(), any(), any(), any())).thenAnswer(invocation ->
+                invocation.<JiraClient.AttachmentFile>getArgument(2).content().then(Mono.just(List.of()))
+        );
+
+        when(documentServerClient.getFile(anyString(), any())).thenAnswer(invocation -> {
+            Context context = invocation.getArgument(1);
+
+            if (!hungTenant.equals(context.getCloudId())) {
+                return Mono.just(new DocumentServerFile(0, Flux.empty()));
+            }
+
+            hungDownloads.incrementAndGet();
+            return Mono.fromFuture(hang).then(Mono.just(new DocumentServerFile(0, Flux.empty())));
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        bulkheadProperties.setEnabled(true);
+        hang.complete(null);
+        httpClient.close();
+        executor.close();
+    }
+
+    @Test
+    public void whenTenantDocumentServerHangs_keepOtherTenantsServed() throws Exception {
+        UUID editorTenant = UUID.randomUUID();
+
+        measureEditorLatencies(editorTenant);
+        EditorLatencies baseline = measureEditorLatencies(editorTenant);
+
+        long rejectionStartedAt = System.nanoTime();
+        List<CompletableFuture<HttpResponse<Void>>> hungCallbacks = postHungCallbacks();
+        awaitHungDownloads(tenantMaxConcurrent);
+        List<HttpResponse<Void>> rejected = awaitResponses(hungCallbacks, HUNG_CALLBACKS - tenantMaxConcurrent);
+        long rejectionElapsed = System.nanoTime() - rejectionStartedAt;
+
+        assertTrue(
+                rejectionElapsed < REJECTION_BUDGET.toNanos(),
+                () -> "Rejections took " + Duration.ofNanos(rejectionElapsed).toMillis() + " ms"
+        );
+        for (HttpResponse<Void> response : rejected) {
+            assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.statusCode());
+            assertTrue(response.headers().firstValue(HttpHeaders.RETRY_AFTER).isPresent());
+        }
+
+        assertEquals(HttpStatus.OK.value(), postSaveCallback(UUID.randomUUID(), EDITOR_TIMEOUT).statusCode());
+
+        EditorLatencies duringHang = measureEditorLatencies(editorTenant);
+
+        assertTrue(duringHang.isolatedFrom(baseline), () -> "Editor p99 rose from "
+                + TimeUnit.NANOSECONDS.toMicros(baseline.p99()) + " us to "
+                + TimeUnit.NANOSECONDS.toMicros(duringHang.p99()) + " us with " + duringHang.timeouts()
+                + " timeouts while another tenant's saves hung");
+
+        hang.complete(null);
+        for (CompletableFuture<HttpResponse<Void>> hungCallback : hungCallbacks) {
+            assertEquals(HttpStatus.OK.value(), hungCallback.get(10, TimeUnit.SECONDS).statusCode());
+        }
+    }
+
+    /**
+     * Guards the test above: without bulkheads the same scenario must fail the isolation check, otherwise the
+     * check would not prove that the bulkheads isolate anything.
+     */
+    @Test
+    public void whenBulkheadsDisabled_hungTenantStarvesOtherTenants() throws Exception {
+        bulkheadProperties.setEnabled(false);
+        UUID editorTenant = UUID.randomUUID();
+
+        measureEditorLatencies(editorTenant);
+        EditorLatencies baseline = measureEditorLatencies(editorTenant);
+
+        postHungCallbacks();
+        awaitHungDownloads(TOMCAT_THREADS);
+
+        EditorLatencies duringHang = measureEditorLatencies(editorTenant);
+
+        assertFalse(duringHang.isolatedFrom(baseline), () -> "Editor p99 stayed at "
+                + TimeUnit.NANOSECONDS.toMicros(duringHang.p99()) + " us without bulkheads");
+    }
+
+    private List<CompletableFuture<HttpResponse<Void>>> postHungCallbacks() throws Exception {
+        List<CompletableFuture<HttpResponse<Void>>> hungCallbacks = new ArrayList<>();
+
+        for (int i = 0; i < HUNG_CALLBACKS; i++) {
+            hungCallbacks.add(httpClient.sendAsync(
+                    callbackRequest(hungTenant, Duration.ofSeconds(30)),
+                    HttpResponse.BodyHandlers.discarding()
+            ));
+        }
+
+        return hungCallbacks;
+    }
+
+    private HttpResponse<Void> postSaveCallback(final UUID cloudId, final Duration timeout) throws Exception {
+        return httpClient.send(callbackRequest(cloudId, timeout), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private HttpRequest callbackRequest(final UUID cloudId, final Duration timeout) throws Exception {
+        String token = createRemoteAppToken(cloudId, JIRA_CALLBACK_PATH, ttlCallback);
+        Callback callback = createSaveCallback();
+
+        return HttpRequest.newBuilder(uri(JIRA_CALLBACK_PATH + "?token=" + token))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + createEditorToken(Map.of("payload", callback)))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(callback)))
+                .timeout(timeout)
+                .build();
+    }
+
+    /**
+     * Sends editor opens from a few concurrent clients. A client stops at its first timeout, since every later
+     * request would wait for the same starved pool.
+     */
+    private EditorLatencies measureEditorLatencies(final UUID cloudId) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri(JIRA_EDITOR_PATH
+                        + "?mode=" + Mode.EDIT.name()
+                        + "&token=" + createRemoteAppToken(cloudId, JIRA_EDITOR_PATH, ttlDefault)))
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .timeout(EDITOR_TIMEOUT)
+                .GET()
+                .build();
+
+        List<Future<List<Long>>> clients = new ArrayList<>();
+        AtomicInteger timeouts = new AtomicInteger();
+
+        for (int i = 0; i < EDITOR_CLIENTS; i++) {
+            clients.add(executor.submit(() -> {
+                List<Long> latencies = new ArrayList<>(EDITOR_REQUESTS_PER_CLIENT);
+
+                for (int j = 0; j < EDITOR_REQUESTS_PER_CLIENT; j++) {
+                    long startedAt = System.nanoTime();
+
+                    try {
+                        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                        assertEquals(HttpStatus.OK.value(), response.statusCode());
+                    } catch (HttpTimeoutException e) {
+                        timeouts.incrementAndGet();
+                        latencies.add(EDITOR_TIMEOUT.toNanos());
+                        break;
+                    }
+
+                    latencies.add(System.nanoTime() - startedAt);
+                }
+
+                return latencies;
+            }));
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        for (Future<List<Long>> client : clients) {
+            try {
+                latencies.addAll(client.get(1, TimeUnit.MINUTES));
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof AssertionError error) {
+                    throw error;
+                }
+                throw e;
+            }
+        }
+
+        return new EditorLatencies(latencies, timeouts.get());
+    }
+
+    /**
+     * Waits for the expected number of responses, the remaining requests are the ones holding the tenant's permits.
+     */
+    private static List<HttpResponse<Void>> awaitResponses(final List<CompletableFuture<HttpResponse<Void>>> requests,
+                                                           final int expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        while (requests.stream().filter(CompletableFuture::isDone).count() < expected) {
+            assertTrue(System.nanoTime() < deadline, "Callbacks over the tenant limit were not rejected");
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+
+        List<HttpResponse<Void>> responses = new ArrayList<>();
+        for (CompletableFuture<HttpResponse<Void>> request : requests) {
+            if (request.isDone()) {
+                responses.add(request.get());
+            }
+        }
+
+        assertEquals(expected, responses.size());
+        return responses;
+    }
+
+    private void awaitHungDownloads(final int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        while (hungDownloads.get() < expected) {
+            assertTrue(System.nanoTime() < deadline, "Hung callbacks never reached the Document Server");
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private URI uri(final String pathAndQuery) {
+        return URI.create("http://localhost:" + port + pathAndQuery);
+    }
+
+    private record EditorLatencies(List<Long> latencies, int timeouts) {
+        long p99() {
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+
+            return sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+        }
+
+        boolean isolatedFrom(final EditorLatencies baseline) {
+            long bound = Math.max(baseline.p99() * 3, baseline.p99() + P99_SLACK.toNanos());
+
+            return timeouts == 0 && p99() <= bound;
+        }
+    }
+}
@@ -22,27 +22,51 @@ import com.onlyoffice.docs.atlassian.remote.api.Context;
 import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
 import com.onlyoffice.docs.atlassian.remote.api.Product;
 import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.client.ds.DocumentServerClient;
+import com.onlyoffice.docs.atlassian.remote.client.ds.DocumentServerFile;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraUser;
+import com.onlyoffice.docs.atlassian.remote.jfr.CallbackSaveEvent;
+import com.onlyoffice.docs.atlassian.remote.jfr.FlightRecordings;
+import com.onlyoffice.docs.atlassian.remote.jfr.RemoteAppJwtEvent;
+import com.onlyoffice.docs.atlassian.remote.metrics.ServerTiming;
 import com.onlyoffice.docs.atlassian.remote.security.RemoteAppJwtService;
 import com.onlyoffice.docs.atlassian.remote.web.data.DataTest;
 import com.onlyoffice.manager.security.JwtManager;
 import com.onlyoffice.model.documenteditor.Callback;
+import com.onlyoffice.model.documenteditor.callback.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.testcontainers.shaded.com.fasterxml.jackson.core.type.TypeReference;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class CallbackControllerTest extends AbstractControllerTest {
@@ -59,6 +83,12 @@ public class CallbackControllerTest extends AbstractControllerTest {
     @Autowired
     private JwtManager jwtManager;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private DocumentServerClient documentServerClient;
+
     @Test
     public void whenPostJiraCallbackWithInvalidTokenFromEditor_returnUnauthorized() throws Exception {
         Product product = Product.JIRA;
@@ -140,7 +170,9 @@ public class CallbackControllerTest extends AbstractControllerTest {
                 .param("token", token)
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
                 .content(objectMapper.writeValueAsString(callback))
-        ).andExpect(status().isOk());
+        ).andExpect(status().isOk())
+                .andExpect(header().string(ServerTiming.HEADER, containsString("callback.verify;dur=")))
+                .andExpect(header().string(ServerTiming.HEADER, containsString("callback.process;dur=")));
     }
 
     @Test
@@ -187,4 +219,228 @@ public class CallbackControllerTest extends AbstractControllerTest {
                 .content(objectMapper.writeValueAsString(callback))
         ).andExpect(status().isOk());
     }
+
+    @Test
+    public void whenPostJiraCallbackFromEditor_recordCallbackAndJwtMetrics() throws Exception {
+        Product product = Product.JIRA;
+        JiraUser user = DataTest.Users.ADMIN;
+
+        Context remoteAppTokenContext = JiraContext.builder()
+                .product(product)
+                .cloudId(DataTest.testCloudId)
+                .issueId("parentId")
+                .attachmentId("entityId")
+                .build();
+
+        String token = remoteAppJwtService.encode(
+                user.getAccountId(),
+                JIRA_CALLBACK_PATH,
+                ttlCallback,
+                objectMapper.convertValue(remoteAppTokenContext, new TypeReference<Map<String, Object>>() { })
+        ).getTokenValue();
+
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.SYSTEM)))
+                .thenReturn(Instant.now().plus(1, ChronoUnit.HOURS));
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.USER)))
+                .thenReturn(Instant.now().plus(2, ChronoUnit.HOURS));
+
+        when(jiraClient.getSettings(
+                any(),
+                any()
+        )).thenReturn(
+                Mono.just(DataTest.Settings.CORRECT_SETTINGS)
+        );
+
+        Callback callback = DataTest.Callbacks.getTestCallback();
+        Map<String, Object> payload = Map.of("payload", callback);
+        String tokenFromEditor = jwtManager.createToken(
+                objectMapper.convertValue(payload, new TypeReference<Map<String, ?>>() { }),
+                "secret"
+        );
+
+        Timer jwtDecodeTimer = meterRegistry.timer("remote.app.jwt", "operation", "decode", "outcome", "SUCCESS");
+        long callbackCount = callbackProcessCount(product, callback);
+        long jwtDecodeCount = jwtDecodeTimer.count();
+
+        mockMvc.perform(post(JIRA_CALLBACK_PATH)
+                        .header("Authorization", "Bearer " + tokenFromEditor)
+                .param("token", token)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(callback))
+        ).andExpect(status().isOk());
+
+        assertEquals(callbackCount + 1, callbackProcessCount(product, callback));
+        assertTrue(jwtDecodeTimer.count() > jwtDecodeCount);
+    }
+
+    @Test
+    public void whenPostJiraSaveCallbackFromEditor_emitFlightRecorderEvents() throws Exception {
+        Product product = Product.JIRA;
+        JiraUser user = DataTest.Users.ADMIN;
+
+        Context remoteAppTokenContext = JiraContext.builder()
+                .product(product)
+                .cloudId(DataTest.testCloudId)
+                .issueId("parentId")
+                .attachmentId("entityId")
+                .build();
+
+        String token = remoteAppJwtService.encode(
+                user.getAccountId(),
+                JIRA_CALLBACK_PATH,
+                ttlCallback,
+                objectMapper.convertValue(remoteAppTokenContext, new TypeReference<Map<String, Object>>() { })
+        ).getTokenValue();
+
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.SYSTEM)))
+                .thenReturn(Instant.now().plus(1, ChronoUnit.HOURS));
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.USER)))
+                .thenReturn(Instant.now().plus(2, ChronoUnit.HOURS));
+
+        when(jiraClient.getSettings(
+                any(),
+                any()
+        )).thenReturn(
+                Mono.just(DataTest.Settings.CORRECT_SETTINGS)
+        );
+        when(jiraClient.getAttachment(any(), any(), any())).thenReturn(Mono.just(DataTest.Attachments.ATTACHMENT));
+        when(documentServerClient.getFile(anyString(), any())).thenReturn(
+                Mono.just(new DocumentServerFile(0, Flux.empty()))
+        );
+        when(jiraClient.createAttachment(any(), any(), any(), any())).thenReturn(Mono.just(List.of()));
+
+        Callback callback = DataTest.Callbacks.getTestCallback();
+        callback.setStatus(Status.SAVE);
+        callback.setKey("document-key");
+        callback.setUrl("https://test-docs-server.com/cache/files/document-key/output.docx");
+
+        Map<String, Object> payload = Map.of("payload", callback);
+        String tokenFromEditor = jwtManager.createToken(
+                objectMapper.convertValue(payload, new TypeReference<Map<String, ?>>() { }),
+                "secret"
+        );
+
+        List<RecordedEvent> events = FlightRecordings.record(
+                () -> mockMvc.perform(post(JIRA_CALLBACK_PATH)
+                                .header("Authorization", "Bearer " + tokenFromEditor)
+                        .param("token", token)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(callback))
+                ).andExpect(status().isOk()),
+                CallbackSaveEvent.NAME,
+                RemoteAppJwtEvent.NAME
+        );
+
+        RecordedEvent saveEvent = events.stream()
+                .filter(event -> event.getEventType().getName().equals(CallbackSaveEvent.NAME))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(product.name(), saveEvent.getString("product"));
+        assertEquals("SUCCESS", saveEvent.getString("outcome"));
+        assertEquals(16, saveEvent.getString("documentKeyHash").length());
+        assertNotEquals(callback.getKey(), saveEvent.getString("documentKeyHash"));
+
+        assertTrue(events.stream()
+                .filter(event -> event.getEventType().getName().equals(RemoteAppJwtEvent.NAME))
+                .anyMatch(event -> event.getString("operation").equals("decode") && event.getBoolean("success")));
+    }
+
+    @Test
+    public void whenJiraSaveCallbackFails_emitCallbackSaveEventWithErrorOutcome() throws Exception {
+        JiraUser user = DataTest.Users.ADMIN;
+
+        Context remoteAppTokenContext = JiraContext.builder()
+                .product(Product.JIRA)
+                .cloudId(DataTest.testCloudId)
+                .issueId("parentId")
+                .attachmentId("entityId")
+                .build();
+
+        String token = remoteAppJwtService.encode(
+                user.getAccountId(),
+                JIRA_CALLBACK_PATH,
+                ttlCallback,
+                objectMapper.convertValue(remoteAppTokenContext, new TypeReference<Map<String, Object>>() { })
+        ).getTokenValue();
+
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.SYSTEM)))
+                .thenReturn(Instant.now().plus(1, ChronoUnit.HOURS));
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.USER)))
+                .thenReturn(Instant.now().plus(2, ChronoUnit.HOURS));
+
+        when(jiraClient.getSettings(any(), any())).thenReturn(Mono.just(DataTest.Settings.CORRECT_SETTINGS));
+        when(jiraClient.getAttachment(any(), any(), any())).thenReturn(Mono.just(DataTest.Attachments.ATTACHMENT));
+        when(documentServerClient.getFile(anyString(), any())).thenReturn(
+                Mono.just(new DocumentServerFile(0, Flux.empty()))
+        );
+        when(jiraClient.createAttachment(any(), any(), any(), any())).thenReturn(
+                Mono.error(new WebClientResponseException(
+                        HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                        "",
+                        null,
+                        null,
+                        null
+                ))
+        );
+
+        Callback callback = DataTest.Callbacks.getTestCallback();
+        callback.setStatus(Status.SAVE);
+        callback.setKey("document-key");
+        callback.setUrl("https://test-docs-server.com/cache/files/document-key/output.docx");
+
+        String tokenFromEditor = jwtManager.createToken(
+                objectMapper.convertValue(Map.of("payload", callback), new TypeReference<Map<String, ?>>() { }),
+                "secret"
+        );
+
+        List<RecordedEvent> events = FlightRecordings.record(
+                () -> mockMvc.perform(post(JIRA_CALLBACK_PATH)
+                        .header("Authorization", "Bearer " + tokenFromEditor)
+                        .param("token", token)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(callback))
+                ),
+                CallbackSaveEvent.NAME
+        );
+
+        assertEquals(1, events.size());
+        assertEquals("ERROR", events.get(0).getString("outcome"));
+        assertEquals(0, events.get(0).getDuration("deleteDuration").toNanos());
+    }
+
+    @Test
+    public void whenSaveRetriedAfterUpload_deleteEditedAttachmentWithoutUploadingAgain() throws Exception {
+        UUID cloudId = UUID.randomUUID();
+
+        stubXForgeTokenExpirations();
+        stubJiraEditorResources();
+        when(documentServerClient.getFile(anyString(), any())).thenReturn(
+                Mono.just(new DocumentServerFile(0, Flux.empty()))
+        );
+        when(jiraClient.createAttachment(any(), any(), any(), any())).thenReturn(
+                Mono.just(List.of(DataTest.Attachments.ATTACHMENT))
+        );
+        doThrow(new WebClientResponseException(HttpStatus.SERVICE_UNAVAILABLE.value(), "", null, null, null))
+                .doNothing()
+                .when(jiraClient).deleteAttachment(any(), any(), any());
+
+        postSaveCallback(cloudId);
+        postSaveCallback(cloudId).andExpect(status().isOk());
+
+        verify(jiraClient, times(1)).createAttachment(any(), any(), any(), any());
+        verify(jiraClient, times(2)).deleteAttachment(any(), eq("entityId"), any());
+    }
+
+    private long callbackProcessCount(final Product product, final Callback callback) {
+        Timer timer = meterRegistry.find("callback.process")
+                .tags(
+                        "product", product.name(),
+                        "tenant", DataTest.testCloudId.toString(),
+                        "status", String.valueOf(callback.getStatus()),
+                        "outcome", "SUCCESS"
+                )
+                .timer();
+
+        return timer == null ? 0 : timer.count();
+    }
 }
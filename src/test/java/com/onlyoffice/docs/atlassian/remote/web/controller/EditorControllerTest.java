@@ -23,12 +23,17 @@ import com.onlyoffice.docs.atlassian.remote.api.JiraContext;
 import com.onlyoffice.docs.atlassian.remote.api.Product;
 import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraUser;
+import com.onlyoffice.docs.atlassian.remote.metrics.MetricsTags;
+import com.onlyoffice.docs.atlassian.remote.metrics.ServerTiming;
 import com.onlyoffice.docs.atlassian.remote.security.RemoteAppJwtService;
 import com.onlyoffice.docs.atlassian.remote.web.data.DataTest;
 import com.onlyoffice.model.documenteditor.config.editorconfig.Mode;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.testcontainers.shaded.com.fasterxml.jackson.core.type.TypeReference;
 import reactor.core.publisher.Mono;
 
@@ -37,24 +42,31 @@ import java.time.temporal.ChronoUnit;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.model;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.view;
 
 public class EditorControllerTest extends AbstractControllerTest {
     private static final String JIRA_EDITOR_PATH = "/editor/jira";
 
     @Value("${app.security.ttl.default}")
     private long ttlDefault;
+    @Value("${app.static-resources.version}")
+    private String staticResourcesVersion;
 
     @Autowired
     private RemoteAppJwtService remoteAppJwtService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     public void whenGetJiraEditorPageWithoutAuthorization_returnUnauthorized() throws Exception {
         mockMvc.perform(get(JIRA_EDITOR_PATH)
@@ -346,7 +358,7 @@ public class EditorControllerTest extends AbstractControllerTest {
     }
 
     @Test
-    public void whenGetJiraEditorPageInEditMode_returnEditorView() throws Exception {
+    public void whenGetJiraEditorConfigInEditMode_returnEditorConfig() throws Exception {
         Product product = Product.JIRA;
         JiraUser user = DataTest.Users.ADMIN;
 
@@ -403,15 +415,19 @@ public class EditorControllerTest extends AbstractControllerTest {
         mockMvc.perform(get(JIRA_EDITOR_PATH)
                         .param("token", token)
                         .param("mode", Mode.EDIT.name())
+                        .accept(MediaType.APPLICATION_JSON)
                 ).andExpect(status().isOk())
-                .andExpect(view().name("editor"))
-                .andExpect(model().attribute("documentServerApiUrl", containsString("https://test-docs-server.com")))
-                .andExpect(model().attributeExists("sessionExpires"))
-                .andExpect(model().attribute("settings", Map.of("demo", false)));
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(header().string(ServerTiming.HEADER, containsString("editor.config;dur=")))
+                .andExpect(header().string(ServerTiming.HEADER, containsString("total;dur=")))
+                .andExpect(jsonPath("$.config").exists())
+                .andExpect(jsonPath("$.documentServerApiUrl", containsString("https://test-docs-server.com")))
+                .andExpect(jsonPath("$.sessionExpires").exists())
+                .andExpect(jsonPath("$.settings.demo").value(false));
     }
 
     @Test
-    public void whenGetJiraEditorPageInViewMode_returnEditorView() throws Exception {
+    public void whenGetJiraEditorConfigInViewMode_returnEditorConfig() throws Exception {
         Product product = Product.JIRA;
         JiraUser user = DataTest.Users.ADMIN;
 
@@ -468,10 +484,59 @@ public class EditorControllerTest extends AbstractControllerTest {
         mockMvc.perform(get(JIRA_EDITOR_PATH)
                         .param("token", token)
                         .param("mode", Mode.VIEW.name())
+                        .accept(MediaType.APPLICATION_JSON)
                 ).andExpect(status().isOk())
-                .andExpect(view().name("editor"))
-                .andExpect(model().attribute("documentServerApiUrl", containsString("https://test-docs-server.com")))
-                .andExpect(model().attributeExists("sessionExpires"))
-                .andExpect(model().attribute("settings", Map.of("demo", false)));
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(jsonPath("$.config").exists())
+                .andExpect(jsonPath("$.documentServerApiUrl", containsString("https://test-docs-server.com")))
+                .andExpect(jsonPath("$.sessionExpires").exists())
+                .andExpect(jsonPath("$.settings.demo").value(false));
+
+        assertNotNull(meterRegistry.find("request.cache")
+                .tags("cache", "JiraEditorResourcesService.getEditorResources", MetricsTags.PRODUCT, product.name())
+                .counter());
+    }
+
+    @Test
+    public void whenGetJiraEditorPageAsHtml_redirectToEditorShell() throws Exception {
+        JiraUser user = DataTest.Users.ADMIN;
+        Product product = Product.JIRA;
+
+        Context remoteAppTokenContext = JiraContext.builder()
+                .product(product)
+                .cloudId(DataTest.testCloudId)
+                .issueId("parentId")
+                .attachmentId("entityId")
+                .build();
+
+        String token = remoteAppJwtService.encode(
+                user.getAccountId(),
+                "/editor/" + product.toString().toLowerCase(),
+                ttlDefault,
+                objectMapper.convertValue(remoteAppTokenContext, new TypeReference<Map<String, Object>>() { })
+        ).getTokenValue();
+
+        mockMvc.perform(get(JIRA_EDITOR_PATH)
+                        .param("token", token)
+                        .param("mode", Mode.EDIT.name())
+                        .accept(MediaType.TEXT_HTML)
+                )
+                .andExpect(status().isFound())
+                .andExpect(header().string(
+                        HttpHeaders.LOCATION,
+                        startsWith("/static/" + staticResourcesVersion + "/editor/jira.html#token=")
+                ))
+                .andExpect(header().exists(ServerTiming.HEADER));
+    }
+
+    @Test
+    public void whenGetEditorShell_returnPrecompressedImmutableResource() throws Exception {
+        mockMvc.perform(get("/static/" + staticResourcesVersion + "/editor/jira.html")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"));
     }
 }
@@ -0,0 +1,185 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.web.controller;
+
+import com.onlyoffice.docs.atlassian.remote.client.ds.DocumentServerClient;
+import com.onlyoffice.docs.atlassian.remote.client.ds.DocumentServerFile;
+import com.onlyoffice.docs.atlassian.remote.client.jira.JiraClient;
+import com.onlyoffice.docs.atlassian.remote.shutdown.DrainReport;
+import com.onlyoffice.docs.atlassian.remote.shutdown.ShutdownCoordinator;
+import com.onlyoffice.docs.atlassian.remote.web.data.DataTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.ResultActions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@TestPropertySource(properties = "app.shutdown.drain-timeout=1s")
+public class GracefulShutdownTest extends AbstractControllerTest {
+    @Autowired
+    private ShutdownCoordinator shutdownCoordinator;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private DocumentServerClient documentServerClient;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        stubXForgeTokenExpirations();
+        stubJiraEditorResources();
+
+        when(documentServerClient.getFile(anyString(), any())).thenReturn(
+                Mono.just(new DocumentServerFile(0, Flux.empty()))
+        );
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void whenStoppedDuringSlowSave_finishSaveBeforeStopping() throws Exception {
+        when(jiraClient.createAttachment(any(), any(), any(), any())).thenAnswer(invocation ->
+                Mono.delay(Duration.ofMillis(300))
+                        .then(invocation.<JiraClient.AttachmentFile>getArgument(2).content().then(Mono.just(List.of())))
+        );
+
+        Future<ResultActions> save = executor.submit(() -> postSaveCallback(UUID.randomUUID()));
+        awaitInFlightCallbacks(1);
+
+        // What the SIGTERM shutdown hook runs before the context is closed.
+        applicationContext.stop();
+
+        save.get(10, TimeUnit.SECONDS)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.error").value(0));
+
+        verify(jiraClient).deleteAttachment(any(), eq("entityId"), any());
+
+        DrainReport drainReport = shutdownCoordinator.getDrainReport();
+        assertEquals(1, drainReport.drained());
+        assertEquals(List.of(), drainReport.handedOff());
+    }
+
+    @Test
+    public void whenSaveOutlastsDrainTimeout_handItOffToDocumentServerRetry() throws Exception {
+        when(jiraClient.createAttachment(any(), any(), any(), any())).thenReturn(Mono.never());
+
+        Future<ResultActions> save = executor.submit(() -> postSaveCallback(UUID.randomUUID()));
+        awaitInFlightCallbacks(1);
+
+        long stopStartedAt = System.nanoTime();
+        applicationContext.stop();
+        long stopElapsed = System.nanoTime() - stopStartedAt;
+
+        save.get(10, TimeUnit.SECONDS)
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+        verify(jiraClient, never()).deleteAttachment(any(), any(), any());
+
+        assertTrue(stopElapsed < TimeUnit.SECONDS.toNanos(3), () -> "Stopping took "
+                + TimeUnit.NANOSECONDS.toMillis(stopElapsed) + " ms");
+
+        DrainReport drainReport = shutdownCoordinator.getDrainReport();
+        assertEquals(0, drainReport.drained());
+        assertEquals(List.of(DOCUMENT_KEY), drainReport.handedOff());
+    }
+
+    @Test
+    public void whenStoppedAfterUploadFinished_finishSaveInsteadOfHandingItOff() throws Exception {
+        when(jiraClient.createAttachment(any(), any(), any(), any())).thenReturn(
+                Mono.just(List.of(DataTest.Attachments.ATTACHMENT))
+        );
+        doAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(1500);
+            return null;
+        }).when(jiraClient).deleteAttachment(any(), any(), any());
+
+        Future<ResultActions> save = executor.submit(() -> postSaveCallback(UUID.randomUUID()));
+        awaitInFlightCallbacks(1);
+
+        applicationContext.stop();
+
+        save.get(10, TimeUnit.SECONDS)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.error").value(0));
+
+        verify(jiraClient).deleteAttachment(any(), eq("entityId"), any());
+        assertEquals(List.of(), shutdownCoordinator.getDrainReport().handedOff());
+    }
+
+    @Test
+    public void whenDraining_rejectNewCallbacks() throws Exception {
+        shutdownCoordinator.stop();
+
+        postSaveCallback(UUID.randomUUID())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+        verify(jiraClient, never()).createAttachment(any(), any(), any(), any());
+        assertEquals(1, meterRegistry.get("shutdown.callbacks").tag("outcome", "rejected").counter().count());
+    }
+
+    private void awaitInFlightCallbacks(final int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        while (shutdownCoordinator.getInFlight() < expected) {
+            assertTrue(System.nanoTime() < deadline, "The save callback never started");
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.web.controller;
+
+import com.onlyoffice.docs.atlassian.remote.configuration.HealthConfiguration;
+import com.onlyoffice.docs.atlassian.remote.health.HealthProbeService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class HealthControllerTest extends AbstractControllerTest {
+    private static final String REQUEST_MAPPING = "/api/v1/health";
+
+    @Autowired
+    private HealthProbeService healthProbeService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void whenGetHealthWithoutAuthorization_returnOk() throws Exception {
+        mockMvc.perform(get(REQUEST_MAPPING))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get(REQUEST_MAPPING + "/live"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void whenGetReadinessWithDependenciesUp_returnOkWithProbeLatency() throws Exception {
+        healthProbeService.runProbes();
+
+        mockMvc.perform(get(REQUEST_MAPPING + "/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ready").value(true))
+                .andExpect(jsonPath("$.probes[?(@.name == '%s')].status", HealthConfiguration.REDIS).value("UP"))
+                .andExpect(jsonPath("$.probes[?(@.name == '%s')].status", HealthConfiguration.POSTGRES)
+                        .value("UP"))
+                .andExpect(jsonPath("$.probes[0].latencyMillis").value(greaterThanOrEqualTo(0)));
+    }
+
+    @Test
+    public void whenGetReadinessWithSaturatedQueue_returnServiceUnavailable() throws Exception {
+        AtomicInteger queued = new AtomicInteger(1000);
+        Gauge gauge = Gauge.builder("executor.queued", queued, AtomicInteger::get)
+                .tag("name", "health-test")
+                .register(meterRegistry);
+
+        try {
+            healthProbeService.runProbes();
+
+            mockMvc.perform(get(REQUEST_MAPPING + "/ready"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.ready").value(false))
+                    .andExpect(jsonPath("$.saturation[?(@.meter == 'executor.queued')].exceeded").value(true));
+
+            queued.set(0);
+            healthProbeService.runProbes();
+
+            mockMvc.perform(get(REQUEST_MAPPING + "/ready"))
+                    .andExpect(status().isOk());
+        } finally {
+            meterRegistry.remove(gauge);
+        }
+    }
+}
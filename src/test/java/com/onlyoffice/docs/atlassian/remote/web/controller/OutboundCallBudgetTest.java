@@ -0,0 +1,266 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.web.controller;
+
+import com.onlyoffice.docs.atlassian.remote.api.Context;
+import com.onlyoffice.docs.atlassian.remote.api.Product;
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.budget.OutboundCallBudget;
+import com.onlyoffice.docs.atlassian.remote.budget.OutboundCallCounter;
+import com.onlyoffice.docs.atlassian.remote.budget.OutboundCallCounterConfiguration;
+import com.onlyoffice.docs.atlassian.remote.budget.OutboundTarget;
+import com.onlyoffice.docs.atlassian.remote.client.ds.DocumentServerClient;
+import com.onlyoffice.docs.atlassian.remote.client.ds.DocumentServerFile;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraUser;
+import com.onlyoffice.docs.atlassian.remote.ratelimit.RateLimitService;
+import com.onlyoffice.docs.atlassian.remote.security.SecurityUtils;
+import com.onlyoffice.docs.atlassian.remote.security.XForgeTokenRepository;
+import com.onlyoffice.docs.atlassian.remote.security.store.XForgeTokenStore;
+import com.onlyoffice.docs.atlassian.remote.web.data.DataTest;
+import com.onlyoffice.docs.atlassian.remote.web.dto.authorization.AuthorizationRequest;
+import com.onlyoffice.docs.atlassian.remote.web.dto.create.CreateRequest;
+import com.onlyoffice.model.documenteditor.config.document.DocumentType;
+import com.onlyoffice.model.documenteditor.config.editorconfig.Mode;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Import(OutboundCallCounterConfiguration.class)
+@TestPropertySource(properties = "app.accounting.flush-interval=1h")
+public class OutboundCallBudgetTest extends AbstractControllerTest {
+    private static final String REMOTE_AUTHORIZATION_PATH = "/api/v1/remote/authorization";
+    private static final String REMOTE_CREATE_PATH = "/api/v1/remote/create";
+    private static final String JIRA_DOWNLOAD_PATH = "/api/v1/download/jira";
+
+    @Autowired
+    private OutboundCallCounter outboundCallCounter;
+
+    @Autowired
+    private XForgeTokenStore xForgeTokenStore;
+
+    @Autowired
+    private SecurityUtils securityUtils;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @MockitoSpyBean
+    private DocumentServerClient documentServerClient;
+
+    private final JiraUser user = DataTest.Users.ADMIN;
+
+    private UUID cloudId;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        cloudId = UUID.randomUUID();
+
+        // Lease rate limit tokens to the tenant, as for a tenant below its limit; the measured request spends them
+        // locally and does not pay for the token bucket script.
+        Context context = Context.builder().product(Product.JIRA).cloudId(cloudId).build();
+        for (String path : List.of(REMOTE_AUTHORIZATION_PATH, REMOTE_CREATE_PATH)) {
+            rateLimitService.findEndpoint(path)
+                    .ifPresent(endpoint -> rateLimitService.tryConsume(endpoint, context));
+        }
+
+        outboundCallCounter.track(OutboundTarget.JIRA, jiraClient);
+        outboundCallCounter.track(OutboundTarget.DOCUMENT_SERVER, documentServerClient);
+
+        // Serve the tokens from the configured store, so its round trips are counted as Redis commands.
+        XForgeTokenRepository storeBackedRepository = new XForgeTokenRepository(xForgeTokenStore, meterRegistry);
+        doAnswer(AdditionalAnswers.delegatesTo(storeBackedRepository))
+                .when(xForgeTokenRepository).getXForgeToken(anyString(), any());
+        doAnswer(AdditionalAnswers.delegatesTo(storeBackedRepository))
+                .when(xForgeTokenRepository).getXForgeTokenExpiration(anyString(), any());
+        doAnswer(AdditionalAnswers.delegatesTo(storeBackedRepository))
+                .when(xForgeTokenRepository).saveXForgeToken(anyString(), anyString(), any());
+
+        storeBackedRepository.saveXForgeToken(
+                securityUtils.createXForgeSystemTokenId(Product.JIRA, cloudId),
+                DataTest.testXForgeOAuthSystemToken,
+                XForgeTokenType.SYSTEM
+        );
+        storeBackedRepository.saveXForgeToken(
+                securityUtils.createXForgeUserTokenId(Product.JIRA, cloudId, user.getAccountId()),
+                DataTest.testXForgeOAuthUserToken,
+                XForgeTokenType.USER
+        );
+
+        stubJiraEditorResources();
+    }
+
+    @Test
+    public void whenGetJiraEditorConfig_stayWithinOutboundCallBudget() throws Exception {
+        String token = createRemoteAppToken(cloudId, JIRA_EDITOR_PATH, ttlDefault);
+
+        outboundCallCounter.measure(() -> mockMvc.perform(get(JIRA_EDITOR_PATH)
+                                .param("token", token)
+                                .param("mode", Mode.EDIT.name())
+                                .accept(MediaType.APPLICATION_JSON)
+                        )
+                        .andExpect(status().isOk())
+                )
+                .assertWithin(OutboundCallBudget.builder()
+                        .jira(4)
+                        .redis(4)
+                        .sql(1)
+                        .build()
+                );
+    }
+
+    @Test
+    public void whenPostRemoteAuthorization_stayWithinOutboundCallBudget() throws Exception {
+        AuthorizationRequest authRequest = new AuthorizationRequest(
+                "parentId",
+                "entityId"
+        );
+
+        outboundCallCounter.measure(() -> mockMvc.perform(post(REMOTE_AUTHORIZATION_PATH)
+                                .with(forgeInvocationToken())
+                                .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                                .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                                .content(objectMapper.writeValueAsString(authRequest))
+                        )
+                        .andExpect(status().isOk())
+                )
+                .assertWithin(OutboundCallBudget.builder()
+                        .jira(4)
+                        .redis(6)
+                        .sql(1)
+                        .build()
+                );
+    }
+
+    @Test
+    public void whenPostRemoteCreate_stayWithinOutboundCallBudget() throws Exception {
+        CreateRequest createRequest = new CreateRequest(
+                "parentId",
+                "title",
+                DocumentType.WORD,
+                user.getLocale()
+        );
+
+        when(jiraClient.createAttachment(any(), any(), any(), any())).thenReturn(
+                Mono.just(List.of(DataTest.Attachments.ATTACHMENT))
+        );
+
+        outboundCallCounter.measure(() -> {
+            MvcResult mvcResult = mockMvc.perform(post(REMOTE_CREATE_PATH)
+                            .with(forgeInvocationToken())
+                            .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                            .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .content(objectMapper.writeValueAsString(createRequest))
+                    )
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpect(status().isOk());
+        }).assertWithin(OutboundCallBudget.builder()
+                .jira(1)
+                .redis(2)
+                .build()
+        );
+    }
+
+    @Test
+    public void whenGetJiraDownload_stayWithinOutboundCallBudget() throws Exception {
+        String token = createRemoteAppToken(cloudId, JIRA_DOWNLOAD_PATH, ttlDefault);
+        String tokenFromEditor = createEditorToken(Map.of("payload", ""));
+
+        when(jiraClient.getAttachmentData(any(), any(), any())).thenReturn(
+                ClientResponse
+                        .create(HttpStatus.FOUND)
+                        .build()
+        );
+
+        outboundCallCounter.measure(() -> mockMvc.perform(get(JIRA_DOWNLOAD_PATH)
+                                .header("Authorization", "Bearer " + tokenFromEditor)
+                                .param("token", token)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        )
+                        .andExpect(status().isFound())
+                )
+                .assertWithin(OutboundCallBudget.builder()
+                        .jira(2)
+                        .redis(2)
+                        .sql(1)
+                        .build()
+                );
+    }
+
+    @Test
+    public void whenPostJiraSaveCallback_stayWithinOutboundCallBudget() throws Exception {
+        doReturn(Mono.just(new DocumentServerFile(0, Flux.empty())))
+                .when(documentServerClient).getFile(anyString(), any());
+        when(jiraClient.createAttachment(any(), any(), any(), any())).thenReturn(
+                Mono.just(List.of(DataTest.Attachments.ATTACHMENT))
+        );
+
+        outboundCallCounter.measure(() -> postSaveCallback(cloudId).andExpect(status().isOk()))
+                .assertWithin(OutboundCallBudget.builder()
+                        .jira(4)
+                        .documentServer(1)
+                        .redis(4)
+                        .sql(1)
+                        .build()
+                );
+    }
+
+    private SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor forgeInvocationToken() {
+        return SecurityMockMvcRequestPostProcessors.jwt()
+                .jwt(jwt -> jwt
+                        .claim("aud", JIRA_APP_ID)
+                        .claim("principal", user.getAccountId())
+                        .claim("context", Map.of("cloudId", cloudId))
+                );
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.web.controller;
+
+import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
+import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraUser;
+import com.onlyoffice.docs.atlassian.remote.ratelimit.RateLimitDecision;
+import com.onlyoffice.docs.atlassian.remote.web.data.DataTest;
+import com.onlyoffice.docs.atlassian.remote.web.dto.authorization.AuthorizationRequest;
+import com.onlyoffice.docs.atlassian.remote.web.dto.create.BatchCreateRequest;
+import com.onlyoffice.model.documenteditor.config.document.DocumentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "app.rate-limit.endpoints.authorization.capacity=3",
+        "app.rate-limit.endpoints.authorization.refill-rate=0.01",
+        "app.rate-limit.endpoints.create.capacity=3",
+        "app.rate-limit.endpoints.create.refill-rate=0.01"
+})
+public class RateLimitTest extends AbstractControllerTest {
+    private static final String REQUEST_MAPPING = "/api/v1/remote/authorization";
+    private static final String BATCH_CREATE_PATH = "/api/v1/remote/create/batch";
+
+    private final JiraUser user = DataTest.Users.ADMIN;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.SYSTEM)))
+                .thenReturn(Instant.now().plus(1, ChronoUnit.HOURS));
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.USER)))
+                .thenReturn(Instant.now().plus(1, ChronoUnit.HOURS));
+    }
+
+    @Test
+    public void whenTenantExceedsEndpointLimit_returnTooManyRequestsWithRateLimitHeaders() throws Exception {
+        UUID cloudId = UUID.randomUUID();
+
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            postAuthorization(cloudId)
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(RateLimitDecision.LIMIT_HEADER, "3"))
+                    .andExpect(header().string(RateLimitDecision.REMAINING_HEADER, String.valueOf(remaining)))
+                    .andExpect(header().exists(RateLimitDecision.RESET_HEADER));
+        }
+
+        postAuthorization(cloudId)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(RateLimitDecision.REMAINING_HEADER, "0"))
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "100"))
+                .andExpect(jsonPath("$.endpoint").value("authorization"));
+
+        postAuthorization(UUID.randomUUID())
+                .andExpect(status().isOk())
+                .andExpect(header().string(RateLimitDecision.REMAINING_HEADER, "2"));
+    }
+
+    @Test
+    public void whenPostBatchCreate_chargeOneTokenPerDocument() throws Exception {
+        UUID cloudId = UUID.randomUUID();
+
+        when(jiraClient.createAttachments(any(), any(), any(), any())).thenReturn(Mono.just(List.of(
+                DataTest.Attachments.ATTACHMENT,
+                DataTest.Attachments.ATTACHMENT,
+                DataTest.Attachments.ATTACHMENT
+        )));
+
+        MvcResult mvcResult = postBatchCreate(cloudId, 3)
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string(RateLimitDecision.REMAINING_HEADER, "0"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk());
+
+        postBatchCreate(cloudId, 1)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.endpoint").value("create"));
+    }
+
+    @Test
+    public void whenEndpointNotLimited_returnNoRateLimitHeaders() throws Exception {
+        mockMvc.perform(post("/api/v1/remote/settings/invalidate")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .jwt(jwt -> jwt
+                                        .claim("aud", JIRA_APP_ID)
+                                        .claim("principal", user.getAccountId())
+                                        .claim("context", Map.of("cloudId", UUID.randomUUID()))
+                                )
+                        )
+                        .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                        .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                )
+                .andExpect(header().doesNotExist(RateLimitDecision.LIMIT_HEADER));
+    }
+
+    private ResultActions postBatchCreate(final UUID cloudId, final int documents) throws Exception {
+        BatchCreateRequest batchCreateRequest = new BatchCreateRequest(
+                "parentId",
+                Collections.nCopies(documents, new BatchCreateRequest.Document("document", DocumentType.WORD)),
+                user.getLocale()
+        );
+
+        return mockMvc.perform(post(BATCH_CREATE_PATH)
+                .with(SecurityMockMvcRequestPostProcessors.jwt()
+                        .jwt(jwt -> jwt
+                                .claim("aud", JIRA_APP_ID)
+                                .claim("principal", user.getAccountId())
+                                .claim("context", Map.of("cloudId", cloudId))
+                        )
+                )
+                .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(batchCreateRequest))
+        );
+    }
+
+    private ResultActions postAuthorization(final UUID cloudId) throws Exception {
+        return mockMvc.perform(post(REQUEST_MAPPING)
+                .with(SecurityMockMvcRequestPostProcessors.jwt()
+                        .jwt(jwt -> jwt
+                                .claim("aud", JIRA_APP_ID)
+                                .claim("principal", user.getAccountId())
+                                .claim("context", Map.of("cloudId", cloudId))
+                        )
+                )
+                .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new AuthorizationRequest("parentId", "entityId")))
+        );
+    }
+}
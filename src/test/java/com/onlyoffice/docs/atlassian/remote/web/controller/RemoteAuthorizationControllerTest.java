@@ -20,29 +20,47 @@ package com.onlyoffice.docs.atlassian.remote.web.controller;
 
 import com.onlyoffice.docs.atlassian.remote.api.XForgeTokenType;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraUser;
+import com.onlyoffice.docs.atlassian.remote.metrics.ServerTiming;
+import com.onlyoffice.docs.atlassian.remote.security.RemoteAppJwtService;
 import com.onlyoffice.docs.atlassian.remote.web.data.DataTest;
 import com.onlyoffice.docs.atlassian.remote.web.dto.authorization.AuthorizationRequest;
+import com.onlyoffice.model.documenteditor.config.editorconfig.Mode;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class RemoteAuthorizationControllerTest extends AbstractControllerTest {
     private static final String REQUEST_MAPPING = "/api/v1/remote/authorization";
 
+    @Value("${app.static-resources.version}")
+    private String staticResourcesVersion;
+
+    @Autowired
+    private RemoteAppJwtService remoteAppJwtService;
+
     @Test
     public void whenPostRemoteAuthorizationWithoutAuthorization_returnUnauthorized() throws Exception {
         mockMvc.perform(post(REQUEST_MAPPING))
@@ -240,9 +258,45 @@ public class RemoteAuthorizationControllerTest extends AbstractControllerTest {
                 )
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.remoteAppUrl").value(APP_BASE_URL))
+                .andExpect(jsonPath("$.editorUrl").value(
+                        APP_BASE_URL + "/static/" + staticResourcesVersion + "/editor/jira.html"
+                ))
                 .andExpect(jsonPath("$.token").isString());
     }
 
+    @Test
+    public void whenPostRemoteAuthorizationSuccessfully_returnServerTiming() throws Exception {
+        JiraUser user = DataTest.Users.ADMIN;
+
+        AuthorizationRequest authRequest = new AuthorizationRequest(
+                "parentId",
+                "entityId"
+        );
+
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.SYSTEM)))
+                .thenReturn(Instant.now().plus(1, ChronoUnit.HOURS));
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.USER)))
+                .thenReturn(Instant.now().plus(1, ChronoUnit.HOURS));
+
+        mockMvc.perform(post(REQUEST_MAPPING)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .jwt(jwt -> jwt
+                                        .claim("aud", JIRA_APP_ID)
+                                        .claim("principal", user.getAccountId())
+                                        .claim("context", Map.of("cloudId", DataTest.testCloudId))
+                                )
+                        )
+                        .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                        .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(authRequest))
+                )
+                .andExpect(status().isOk())
+                .andExpect(header().string(ServerTiming.HEADER, containsString("xforge.token.interceptor;dur=")))
+                .andExpect(header().string(ServerTiming.HEADER, containsString("jwt.sign;dur=")))
+                .andExpect(header().string(ServerTiming.HEADER, containsString("total;dur=")));
+    }
+
     @Test
     public void whenPostRemoteAuthorizationSuccessfully_verifyTokensSaved() throws Exception {
         JiraUser user = DataTest.Users.ADMIN;
@@ -284,4 +338,96 @@ public class RemoteAuthorizationControllerTest extends AbstractControllerTest {
                 eq(XForgeTokenType.USER)
         );
     }
+
+    @Test
+    public void whenPostRemoteAuthorizationSuccessfully_returnDecodableToken() throws Exception {
+        JiraUser user = DataTest.Users.ADMIN;
+
+        AuthorizationRequest authRequest = new AuthorizationRequest(
+                "parentId",
+                "entityId"
+        );
+
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.SYSTEM)))
+                .thenReturn(Instant.now().plus(1, ChronoUnit.HOURS));
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.USER)))
+                .thenReturn(Instant.now().plus(1, ChronoUnit.HOURS));
+
+        MvcResult result = mockMvc.perform(post(REQUEST_MAPPING)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .jwt(jwt -> jwt
+                                        .claim("aud", JIRA_APP_ID)
+                                        .claim("principal", user.getAccountId())
+                                        .claim("context", Map.of("cloudId", DataTest.testCloudId))
+                                )
+                        )
+                        .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                        .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(authRequest))
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String token = objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+
+        Jwt jwt = remoteAppJwtService.decode(token, "/editor/jira");
+        Map<String, Object> context = jwt.getClaimAsMap("context");
+
+        assertEquals(user.getAccountId(), jwt.getSubject());
+        assertEquals("JIRA", context.get("product"));
+        assertEquals(DataTest.testCloudId.toString(), context.get("cloudId"));
+        assertEquals("parentId", context.get("issueId"));
+        assertEquals("entityId", context.get("attachmentId"));
+    }
+
+    @Test
+    public void whenPostRemoteAuthorizationSuccessfully_prefetchEditorResources() throws Exception {
+        JiraUser user = DataTest.Users.ADMIN;
+
+        AuthorizationRequest authRequest = new AuthorizationRequest(
+                "parentId",
+                "entityId"
+        );
+
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.SYSTEM)))
+                .thenReturn(Instant.now().plus(1, ChronoUnit.HOURS));
+        when(xForgeTokenRepository.getXForgeTokenExpiration(anyString(), eq(XForgeTokenType.USER)))
+                .thenReturn(Instant.now().plus(1, ChronoUnit.HOURS));
+        when(jiraClient.getAttachment(any(), any(), any())).thenReturn(Mono.just(DataTest.Attachments.ATTACHMENT));
+        when(jiraClient.getIssuePermissions(any(), any(), any(), any())).thenReturn(
+                Mono.just(DataTest.Permissions.FULL)
+        );
+        when(jiraClient.getUser(any(), any())).thenReturn(Mono.just(DataTest.Users.ADMIN));
+        when(jiraClient.getSettings(any(), any())).thenReturn(Mono.just(DataTest.Settings.CORRECT_SETTINGS));
+
+        MvcResult result = mockMvc.perform(post(REQUEST_MAPPING)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .jwt(jwt -> jwt
+                                        .claim("aud", JIRA_APP_ID)
+                                        .claim("principal", user.getAccountId())
+                                        .claim("context", Map.of("cloudId", DataTest.testCloudId))
+                                )
+                        )
+                        .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                        .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(authRequest))
+                )
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String token = objectMapper.readTree(result.getResponse().getContentAsString()).get("token").asText();
+
+        mockMvc.perform(get("/editor/jira")
+                        .param("token", token)
+                        .param("mode", Mode.EDIT.name())
+                        .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk());
+
+        verify(jiraClient, times(1)).getUser(any(), any());
+        verify(jiraClient, times(1)).getAttachment(any(), any(), any());
+        verify(jiraClient, times(1)).getIssuePermissions(any(), any(), any(), any());
+    }
 }
@@ -18,27 +18,49 @@
 
 package com.onlyoffice.docs.atlassian.remote.web.controller;
 
+import com.onlyoffice.docs.atlassian.remote.client.jira.JiraClient;
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraUser;
+import com.onlyoffice.docs.atlassian.remote.service.BlankTemplatesService;
 import com.onlyoffice.docs.atlassian.remote.web.data.DataTest;
+import com.onlyoffice.docs.atlassian.remote.web.dto.create.BatchCreateRequest;
 import com.onlyoffice.docs.atlassian.remote.web.dto.create.CreateRequest;
 import com.onlyoffice.model.documenteditor.config.document.DocumentType;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class RemoteCreateControllerTest extends AbstractControllerTest {
     private static final String REQUEST_MAPPING = "/api/v1/remote/create";
 
+    @Autowired
+    private BlankTemplatesService blankTemplatesService;
+
     @Test
     public void whenPostRemoteCreateWithoutAuthorization_returnUnauthorized() throws Exception {
         mockMvc.perform(post(REQUEST_MAPPING))
@@ -174,19 +196,18 @@ public class RemoteCreateControllerTest extends AbstractControllerTest {
                 any(),
                 any(),
                 any(),
-                any(),
                 any()
-        )).thenThrow(
-                new WebClientResponseException(
+        )).thenReturn(
+                Mono.error(new WebClientResponseException(
                         HttpStatus.FORBIDDEN.value(),
                         "",
                         null,
                         null,
                         null
-                )
+                ))
         );
 
-        mockMvc.perform(post(REQUEST_MAPPING)
+        MvcResult mvcResult = mockMvc.perform(post(REQUEST_MAPPING)
                         .with(SecurityMockMvcRequestPostProcessors.jwt()
                                 .jwt(jwt -> jwt
                                         .claim("aud", JIRA_APP_ID)
@@ -199,6 +220,10 @@ public class RemoteCreateControllerTest extends AbstractControllerTest {
                         .contentType(MediaType.APPLICATION_JSON_VALUE)
                         .content(objectMapper.writeValueAsString(createRequest))
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isForbidden());
     }
 
@@ -217,13 +242,12 @@ public class RemoteCreateControllerTest extends AbstractControllerTest {
                 any(),
                 any(),
                 any(),
-                any(),
                 any()
         )).thenReturn(
-                List.of(DataTest.Attachments.ATTACHMENT)
+                Mono.just(List.of(DataTest.Attachments.ATTACHMENT))
         );
 
-        mockMvc.perform(post(REQUEST_MAPPING)
+        MvcResult mvcResult = mockMvc.perform(post(REQUEST_MAPPING)
                         .with(SecurityMockMvcRequestPostProcessors.jwt()
                                 .jwt(jwt -> jwt
                                         .claim("aud", JIRA_APP_ID)
@@ -236,7 +260,63 @@ public class RemoteCreateControllerTest extends AbstractControllerTest {
                         .contentType(MediaType.APPLICATION_JSON_VALUE)
                         .content(objectMapper.writeValueAsString(createRequest))
                 )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(String.valueOf(DataTest.Attachments.ATTACHMENT.getId())));
+    }
+
+    @Test
+    public void whenPostRemoteCreate_uploadPreloadedBlankTemplate() throws Exception {
+        JiraUser user = DataTest.Users.ADMIN;
+
+        CreateRequest createRequest = new CreateRequest(
+                "parentId",
+                "title",
+                DocumentType.WORD,
+                user.getLocale()
+        );
+
+        when(jiraClient.createAttachment(any(), any(), any(), any()))
+                .thenReturn(Mono.just(List.of(DataTest.Attachments.ATTACHMENT)));
+
+        MvcResult mvcResult = mockMvc.perform(post(REQUEST_MAPPING)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .jwt(jwt -> jwt
+                                        .claim("aud", JIRA_APP_ID)
+                                        .claim("principal", user.getAccountId())
+                                        .claim("context", Map.of("cloudId", DataTest.testCloudId))
+                                )
+                        )
+                        .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                        .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(createRequest))
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk());
+
+        ArgumentCaptor<JiraClient.AttachmentFile> file = ArgumentCaptor.captor();
+        verify(jiraClient).createAttachment(any(), eq("parentId"), file.capture(), any());
+
+        BlankTemplatesService.BlankTemplate blankTemplate = blankTemplatesService.getBlankTemplate(
+                "docx",
+                Locale.forLanguageTag(user.getLocale())
+        );
+        assertEquals("title.docx", file.getValue().fileName());
+        assertEquals(blankTemplate.contentLength(), file.getValue().contentLength());
+        DataBuffer uploaded = DataBufferUtils.join(file.getValue().content()).block();
+        byte[] expected = new byte[blankTemplate.contentLength()];
+        byte[] actual = new byte[uploaded.readableByteCount()];
+        blankTemplate.content().duplicate().get(expected);
+        uploaded.read(actual);
+
+        assertArrayEquals(expected, actual);
     }
 
     @Test
@@ -253,10 +333,10 @@ public class RemoteCreateControllerTest extends AbstractControllerTest {
                     user.getLocale()
             );
 
-            when(jiraClient.createAttachment(any(), any(), any(), any(), any()))
-                    .thenReturn(List.of(DataTest.Attachments.ATTACHMENT));
+            when(jiraClient.createAttachment(any(), any(), any(), any()))
+                    .thenReturn(Mono.just(List.of(DataTest.Attachments.ATTACHMENT)));
 
-            mockMvc.perform(post(REQUEST_MAPPING)
+            MvcResult mvcResult = mockMvc.perform(post(REQUEST_MAPPING)
                             .with(SecurityMockMvcRequestPostProcessors.jwt()
                                     .jwt(jwt -> jwt
                                             .claim("aud", JIRA_APP_ID)
@@ -269,8 +349,116 @@ public class RemoteCreateControllerTest extends AbstractControllerTest {
                             .contentType(MediaType.APPLICATION_JSON_VALUE)
                             .content(objectMapper.writeValueAsString(createRequest))
                     )
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
                     .andExpect(status().isOk());
         }
     }
 
+    @Test
+    public void whenPostRemoteBatchCreateWithoutDocuments_returnBadRequest() throws Exception {
+        JiraUser user = DataTest.Users.ADMIN;
+
+        BatchCreateRequest batchCreateRequest = new BatchCreateRequest(
+                "parentId",
+                List.of(),
+                user.getLocale()
+        );
+
+        mockMvc.perform(post(REQUEST_MAPPING + "/batch")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .jwt(jwt -> jwt
+                                        .claim("aud", JIRA_APP_ID)
+                                        .claim("principal", user.getAccountId())
+                                        .claim("context", Map.of("cloudId", DataTest.testCloudId))
+                                )
+                        )
+                        .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                        .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(batchCreateRequest))
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenPostRemoteBatchCreateWithTooManyDocuments_returnBadRequest() throws Exception {
+        JiraUser user = DataTest.Users.ADMIN;
+
+        BatchCreateRequest batchCreateRequest = new BatchCreateRequest(
+                "parentId",
+                Collections.nCopies(
+                        BatchCreateRequest.MAX_DOCUMENTS + 1,
+                        new BatchCreateRequest.Document("title", DocumentType.WORD)
+                ),
+                user.getLocale()
+        );
+
+        mockMvc.perform(post(REQUEST_MAPPING + "/batch")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .jwt(jwt -> jwt
+                                        .claim("aud", JIRA_APP_ID)
+                                        .claim("principal", user.getAccountId())
+                                        .claim("context", Map.of("cloudId", DataTest.testCloudId))
+                                )
+                        )
+                        .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                        .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(batchCreateRequest))
+                )
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void whenPostRemoteBatchCreate_uploadAllDocumentsInOneRequest() throws Exception {
+        JiraUser user = DataTest.Users.ADMIN;
+
+        BatchCreateRequest batchCreateRequest = new BatchCreateRequest(
+                "parentId",
+                List.of(
+                        new BatchCreateRequest.Document("document", DocumentType.WORD),
+                        new BatchCreateRequest.Document("spreadsheet", DocumentType.CELL),
+                        new BatchCreateRequest.Document("presentation", DocumentType.SLIDE)
+                ),
+                user.getLocale()
+        );
+
+        when(jiraClient.createAttachments(any(), any(), any(), any()))
+                .thenReturn(Mono.just(List.of(
+                        DataTest.Attachments.ATTACHMENT,
+                        DataTest.Attachments.ATTACHMENT,
+                        DataTest.Attachments.ATTACHMENT
+                )));
+
+        MvcResult mvcResult = mockMvc.perform(post(REQUEST_MAPPING + "/batch")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .jwt(jwt -> jwt
+                                        .claim("aud", JIRA_APP_ID)
+                                        .claim("principal", user.getAccountId())
+                                        .claim("context", Map.of("cloudId", DataTest.testCloudId))
+                                )
+                        )
+                        .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                        .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(batchCreateRequest))
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.attachments.length()").value(3));
+
+        ArgumentCaptor<List<JiraClient.AttachmentFile>> files = ArgumentCaptor.captor();
+        verify(jiraClient, times(1)).createAttachments(any(), eq("parentId"), files.capture(), any());
+
+        assertEquals(
+                List.of("document.docx", "spreadsheet.xlsx", "presentation.pptx"),
+                files.getValue().stream().map(JiraClient.AttachmentFile::fileName).toList()
+        );
+    }
 }
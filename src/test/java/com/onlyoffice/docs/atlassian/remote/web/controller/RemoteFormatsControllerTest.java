@@ -19,14 +19,27 @@
 package com.onlyoffice.docs.atlassian.remote.web.controller;
 
 import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraUser;
+import com.onlyoffice.docs.atlassian.remote.metrics.ServerTiming;
 import com.onlyoffice.docs.atlassian.remote.web.data.DataTest;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.io.ByteArrayInputStream;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 public class RemoteFormatsControllerTest extends AbstractControllerTest {
@@ -54,8 +67,85 @@ public class RemoteFormatsControllerTest extends AbstractControllerTest {
                         .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
                         .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
                         .contentType(MediaType.APPLICATION_JSON))
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("private")))
+                .andExpect(jsonPath("$.formats").isNotEmpty());
     }
 
+    @Test
+    public void whenGetFormats_markConvertibleFormats() throws Exception {
+        mockMvc.perform(authorizedGetFormats())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.formats[?(@.name == 'doc')].convertible").value(hasItem(true)))
+                .andExpect(jsonPath("$.formats[?(@.name == 'doc')].type").isNotEmpty());
+    }
+
+    @Test
+    public void whenGetFormatsWithMatchingETag_returnNotModified() throws Exception {
+        String eTag = mockMvc.perform(authorizedGetFormats())
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(authorizedGetFormats()
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().exists(ServerTiming.HEADER))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    public void whenGetFormatsAcceptingGzip_returnPrecompressedFormats() throws Exception {
+        MockHttpServletResponse plain = mockMvc.perform(authorizedGetFormats())
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        MockHttpServletResponse gzip = mockMvc.perform(authorizedGetFormats()
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn()
+                .getResponse();
+
+        assertNotEquals(plain.getHeader(HttpHeaders.ETAG), gzip.getHeader(HttpHeaders.ETAG));
+        try (GZIPInputStream inputStream = new GZIPInputStream(
+                new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+            assertArrayEquals(plain.getContentAsByteArray(), inputStream.readAllBytes());
+        }
+    }
 
+    @Test
+    public void whenGetFormatsRefusingGzip_returnIdentityFormats() throws Exception {
+        mockMvc.perform(authorizedGetFormats()
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    public void whenGetFormatsAcceptingAnyEncoding_returnPrecompressedFormats() throws Exception {
+        mockMvc.perform(authorizedGetFormats()
+                        .header(HttpHeaders.ACCEPT_ENCODING, "identity;q=1.0, *;q=0.5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    }
+
+    private MockHttpServletRequestBuilder authorizedGetFormats() {
+        JiraUser user = DataTest.Users.ADMIN;
+
+        return get(REQUEST_MAPPING)
+                .with(SecurityMockMvcRequestPostProcessors.jwt()
+                        .jwt(jwt -> jwt
+                                .claim("aud", JIRA_APP_ID)
+                                .claim("principal", user.getAccountId())
+                                .claim("context", Map.of("cloudId", DataTest.testCloudId))
+                        )
+                )
+                .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken);
+    }
 }
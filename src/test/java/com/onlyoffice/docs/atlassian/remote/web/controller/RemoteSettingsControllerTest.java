@@ -23,25 +23,37 @@ import com.onlyoffice.docs.atlassian.remote.client.jira.dto.JiraUser;
 import com.onlyoffice.docs.atlassian.remote.entity.DemoServerConnection;
 import com.onlyoffice.docs.atlassian.remote.entity.DemoServerConnectionId;
 import com.onlyoffice.docs.atlassian.remote.repository.DemoServerConnectionRepository;
+import com.onlyoffice.docs.atlassian.remote.service.DemoServerConnectionService;
+import com.onlyoffice.docs.atlassian.remote.service.TenantSettingsService;
 import com.onlyoffice.docs.atlassian.remote.web.data.DataTest;
+import com.onlyoffice.model.settings.SettingsConstants;
 import com.onlyoffice.utils.ConfigurationUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -53,11 +65,47 @@ public class RemoteSettingsControllerTest extends AbstractControllerTest {
     @Autowired
     private DemoServerConnectionRepository demoServerConnectionRepository;
 
-    private final DateFormat dateFormat = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss");
+    @Autowired
+    private DemoServerConnectionService demoServerConnectionService;
+
+    @Autowired
+    private TenantSettingsService tenantSettingsService;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
 
     @BeforeEach
     public void setUp() {
         demoServerConnectionRepository.deleteAll();
+        demoServerConnectionService.evict(
+                DemoServerConnectionId.builder()
+                        .cloudId(DataTest.testCloudId)
+                        .product(Product.JIRA)
+                        .build()
+        );
+        tenantSettingsService.invalidate(Product.JIRA, DataTest.testCloudId);
+    }
+
+    @Test
+    public void whenInvalidationReceivedFromAnotherInstance_evictDemoServerConnection() throws Exception {
+        DemoServerConnectionId connectionId = DemoServerConnectionId.builder()
+                .cloudId(DataTest.testCloudId)
+                .product(Product.JIRA)
+                .build();
+
+        assertNull(demoServerConnectionService.findById(connectionId));
+
+        demoServerConnectionRepository.save(DemoServerConnection.builder()
+                .id(connectionId)
+                .startedAt(Instant.now().truncatedTo(ChronoUnit.SECONDS))
+                .build());
+        stringRedisTemplate.convertAndSend(TenantSettingsService.INVALIDATION_CHANNEL, "JIRA:" + DataTest.testCloudId);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (Objects.isNull(demoServerConnectionService.findById(connectionId))) {
+            assertTrue(System.nanoTime() < deadline, "The demo server connection was not evicted");
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
     }
 
     @Test
@@ -69,8 +117,7 @@ public class RemoteSettingsControllerTest extends AbstractControllerTest {
     @Test
     public void whenGetSettingsWithExistingDemoConnection_returnSettingsWithTrialData() throws Exception {
         JiraUser user = DataTest.Users.ADMIN;
-        Date startDate = new Date();
-        String startDateString = dateFormat.format(startDate);
+        Instant startDate = Instant.now().truncatedTo(ChronoUnit.SECONDS);
         int trialPeriod = 30;
 
         DemoServerConnectionId connectionId = DemoServerConnectionId.builder()
@@ -80,7 +127,7 @@ public class RemoteSettingsControllerTest extends AbstractControllerTest {
 
         DemoServerConnection connection = DemoServerConnection.builder()
                 .id(connectionId)
-                .startDate(startDateString)
+                .startedAt(startDate)
                 .build();
 
         demoServerConnectionRepository.save(connection);
@@ -131,10 +178,7 @@ public class RemoteSettingsControllerTest extends AbstractControllerTest {
     public void whenGetSettingsWithExpiredTrial_returnExpiredSettings() throws Exception {
         JiraUser user = DataTest.Users.ADMIN;
 
-        Calendar pastDate = Calendar.getInstance();
-        pastDate.add(Calendar.DATE, -40);
-        Date startDate = pastDate.getTime();
-        String startDateString = dateFormat.format(startDate);
+        Instant startDate = Instant.now().minus(40, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
         int trialPeriod = 30;
 
         DemoServerConnectionId connectionId = DemoServerConnectionId.builder()
@@ -144,7 +188,7 @@ public class RemoteSettingsControllerTest extends AbstractControllerTest {
 
         DemoServerConnection connection = DemoServerConnection.builder()
                 .id(connectionId)
-                .startDate(startDateString)
+                .startedAt(startDate)
                 .build();
 
         demoServerConnectionRepository.save(connection);
@@ -180,9 +224,7 @@ public class RemoteSettingsControllerTest extends AbstractControllerTest {
     public void whenPostSettingsWithExistingDemoConnection_returnExistingTrialData() throws Exception {
         JiraUser user = DataTest.Users.ADMIN;
 
-        Calendar pastDate = Calendar.getInstance();
-        pastDate.add(Calendar.DATE, -10);
-        String originalStartDate = dateFormat.format(pastDate.getTime());
+        Instant originalStartDate = Instant.now().minus(10, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
 
         DemoServerConnectionId connectionId = DemoServerConnectionId.builder()
                 .cloudId(DataTest.testCloudId)
@@ -192,7 +234,7 @@ public class RemoteSettingsControllerTest extends AbstractControllerTest {
         demoServerConnectionRepository.save(
                 DemoServerConnection.builder()
                         .id(connectionId)
-                        .startDate(originalStartDate)
+                        .startedAt(originalStartDate)
                         .build()
         );
 
@@ -215,7 +257,7 @@ public class RemoteSettingsControllerTest extends AbstractControllerTest {
 
         Optional<DemoServerConnection> connection = demoServerConnectionRepository.findById(connectionId);
         assertTrue(connection.isPresent());
-        assertEquals(originalStartDate, connection.get().getStartDate());
+        assertEquals(originalStartDate, connection.get().getStartedAt());
     }
 
     @Test
@@ -239,4 +281,108 @@ public class RemoteSettingsControllerTest extends AbstractControllerTest {
                 .andExpect(jsonPath("$.demoStart").exists())
                 .andExpect(jsonPath("$.demoEnd").exists());
     }
+
+    @Test
+    public void whenGetSettingsAfterPostSettings_serveTrialDataFromCache() throws Exception {
+        JiraUser user = DataTest.Users.ADMIN;
+
+        mockMvc.perform(post(REQUEST_MAPPING)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .jwt(jwt -> jwt
+                                        .claim("aud", JIRA_APP_ID)
+                                        .claim("principal", user.getAccountId())
+                                        .claim("context", Map.of("cloudId", DataTest.testCloudId))
+                                )
+                        )
+                        .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                        .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk());
+
+        demoServerConnectionRepository.deleteAll();
+
+        mockMvc.perform(get(REQUEST_MAPPING)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .jwt(jwt -> jwt
+                                        .claim("aud", JIRA_APP_ID)
+                                        .claim("principal", user.getAccountId())
+                                        .claim("context", Map.of("cloudId", DataTest.testCloudId))
+                                )
+                        )
+                        .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                        .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.demoStart").exists())
+                .andExpect(jsonPath("$.demoEnd").exists());
+    }
+
+    @Test
+    public void whenPostInvalidateSettingsWithoutAuthorization_returnUnauthorized() throws Exception {
+        mockMvc.perform(post(REQUEST_MAPPING + "/invalidate"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    public void whenGetTenantSettingsTwice_loadSettingsOnce() {
+        when(xForgeTokenRepository.getXForgeToken(any(), any())).thenReturn(DataTest.testXForgeOAuthSystemToken);
+        when(jiraClient.getSettings(any(), any())).thenReturn(Mono.just(DataTest.Settings.CORRECT_SETTINGS));
+
+        tenantSettingsService.getTenantSettings(Product.JIRA, DataTest.testCloudId);
+        TenantSettingsService.TenantSettings tenantSettings = tenantSettingsService.getTenantSettings(
+                Product.JIRA,
+                DataTest.testCloudId
+        );
+
+        verify(jiraClient, times(1)).getSettings(any(), any());
+        assertTrue(tenantSettings.configured());
+        assertEquals("https://test-docs-server.com", tenantSettings.getSetting(SettingsConstants.URL));
+        assertNull(tenantSettings.getSetting("demo-start"));
+    }
+
+    @Test
+    public void whenGetTenantSettingsWithoutSavedSettings_cacheNegativeEntry() {
+        when(xForgeTokenRepository.getXForgeToken(any(), any())).thenReturn(DataTest.testXForgeOAuthSystemToken);
+        when(jiraClient.getSettings(any(), any())).thenReturn(
+                Mono.error(WebClientResponseException.create(404, "Not Found", null, null, null))
+        );
+
+        tenantSettingsService.getTenantSettings(Product.JIRA, DataTest.testCloudId);
+        TenantSettingsService.TenantSettings tenantSettings = tenantSettingsService.getTenantSettings(
+                Product.JIRA,
+                DataTest.testCloudId
+        );
+
+        verify(jiraClient, times(1)).getSettings(any(), any());
+        assertFalse(tenantSettings.configured());
+        assertNull(tenantSettings.getSetting(SettingsConstants.URL));
+    }
+
+    @Test
+    public void whenPostInvalidateSettings_reloadTenantSettings() throws Exception {
+        JiraUser user = DataTest.Users.ADMIN;
+
+        when(xForgeTokenRepository.getXForgeToken(any(), any())).thenReturn(DataTest.testXForgeOAuthSystemToken);
+        when(jiraClient.getSettings(any(), any())).thenReturn(Mono.just(DataTest.Settings.CORRECT_SETTINGS));
+
+        tenantSettingsService.getTenantSettings(Product.JIRA, DataTest.testCloudId);
+
+        mockMvc.perform(post(REQUEST_MAPPING + "/invalidate")
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()
+                                .jwt(jwt -> jwt
+                                        .claim("aud", JIRA_APP_ID)
+                                        .claim("principal", user.getAccountId())
+                                        .claim("context", Map.of("cloudId", DataTest.testCloudId))
+                                )
+                        )
+                        .header("x-forge-oauth-system", DataTest.testXForgeOAuthSystemToken)
+                        .header("x-forge-oauth-user", DataTest.testXForgeOAuthUserToken)
+                )
+                .andExpect(status().isNoContent());
+
+        tenantSettingsService.getTenantSettings(Product.JIRA, DataTest.testCloudId);
+
+        verify(jiraClient, times(2)).getSettings(any(), any());
+    }
 }
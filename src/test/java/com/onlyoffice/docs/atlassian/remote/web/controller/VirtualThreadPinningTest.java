@@ -0,0 +1,125 @@
+/**
+ *
+ * (c) Copyright Ascensio System SIA 2026
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.onlyoffice.docs.atlassian.remote.web.controller;
+
+import com.onlyoffice.docs.atlassian.remote.client.ds.DocumentServerClient;
+import com.onlyoffice.docs.atlassian.remote.client.ds.DocumentServerFile;
+import com.onlyoffice.docs.atlassian.remote.jfr.FlightRecordings;
+import com.onlyoffice.model.documenteditor.config.editorconfig.Mode;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+public class VirtualThreadPinningTest extends AbstractControllerTest {
+    private static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+
+    @MockitoBean
+    private DocumentServerClient documentServerClient;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        stubXForgeTokenExpirations();
+        stubJiraEditorResources();
+
+        when(documentServerClient.getFile(anyString(), any())).thenReturn(
+                Mono.just(new DocumentServerFile(0, Flux.empty()))
+        );
+        when(jiraClient.createAttachment(any(), any(), any(), any())).thenReturn(Mono.just(List.of()));
+    }
+
+    @Test
+    public void whenGetJiraEditorConfigOnVirtualThread_doNotPinCarrier() throws Exception {
+        getEditorConfig(UUID.randomUUID());
+
+        assertNotPinned(FlightRecordings.record(
+                () -> getEditorConfig(UUID.randomUUID()),
+                VIRTUAL_THREAD_PINNED
+        ));
+    }
+
+    @Test
+    public void whenPostJiraSaveCallbackOnVirtualThread_doNotPinCarrier() throws Exception {
+        postSaveCallbackOnVirtualThread(UUID.randomUUID());
+
+        assertNotPinned(FlightRecordings.record(
+                () -> postSaveCallbackOnVirtualThread(UUID.randomUUID()),
+                VIRTUAL_THREAD_PINNED
+        ));
+    }
+
+    private void getEditorConfig(final UUID cloudId) throws Exception {
+        String token = createRemoteAppToken(cloudId, JIRA_EDITOR_PATH, ttlDefault);
+
+        onVirtualThread(() -> mockMvc.perform(get(JIRA_EDITOR_PATH)
+                        .param("token", token)
+                        .param("mode", Mode.EDIT.name())
+                        .accept(MediaType.APPLICATION_JSON)
+                )
+                .andExpect(status().isOk()));
+    }
+
+    private void postSaveCallbackOnVirtualThread(final UUID cloudId) throws Exception {
+        onVirtualThread(() -> postSaveCallback(cloudId).andExpect(status().isOk()));
+    }
+
+    private static void onVirtualThread(final FlightRecordings.Action action) throws Exception {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            executor.submit(() -> {
+                action.run();
+                return null;
+            }).get();
+        }
+    }
+
+    private static void assertNotPinned(final List<RecordedEvent> events) {
+        assertTrue(events.isEmpty(), () -> "Carrier thread pinned at:\n" + events.stream()
+                .map(event -> Objects.isNull(event.getStackTrace())
+                        ? "<no stack trace>"
+                        : event.getStackTrace().getFrames().stream()
+                                .limit(20)
+                                .map(VirtualThreadPinningTest::describe)
+                                .collect(Collectors.joining("\n    ", "    ", "")))
+                .collect(Collectors.joining("\n\n")));
+    }
+
+    private static String describe(final RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}